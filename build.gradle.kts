@@ -13,6 +13,12 @@ plugins {
      */
     id("com.gradleup.shadow") version "9.3.1"
     id("org.danilopianini.gradle-java-qa") version "1.165.0"
+
+    /*
+     * Adds the "jmh" source set (src/jmh/java) for micro-benchmarks.
+     * Run them with the "jmh" task; results are written to build/results/jmh.
+     */
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 repositories { // Where to search for dependencies
@@ -51,6 +57,13 @@ application {
     mainClass.set("uno.Main")
 }
 
+jmh {
+    jmhVersion.set("1.37")
+    // Report allocation rates (bytes/op, gc churn) next to the throughput
+    profilers.add("gc")
+    resultFormat.set("JSON")
+}
+
 tasks.withType<Test>().configureEach {
     useJUnitPlatform() // Enables the engine of JUnit 5/6
     testLogging { // Additional Options
@@ -0,0 +1,72 @@
+package uno.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import uno.model.game.api.Game;
+import uno.model.game.api.GameMode;
+import uno.model.game.impl.GameFactoryImpl;
+import uno.model.game.impl.GameRulesImpl;
+import uno.model.game.impl.GameSimulatorImpl;
+import uno.model.players.impl.AbstractPlayer;
+import uno.model.utils.impl.SilentGameLoggerImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Benchmark state holding a freshly dealt game, parameterized by game mode and
+ * number of players. The game is seeded, so every fork measures the same deal.
+ */
+@State(Scope.Thread)
+public class BenchmarkGame {
+
+    private static final long SEED = 42L;
+
+    /**
+     * Game mode of the dealt game.
+     */
+    @Param({"STANDARD", "FLIP", "ALL_WILD"})
+    public String mode;
+
+    /**
+     * Number of players of the dealt game.
+     */
+    @Param({"2", "4", "6"})
+    public int playerCount;
+
+    private Game game;
+
+    /**
+     * Deals a new game before each iteration.
+     */
+    @Setup(Level.Iteration)
+    public void deal() {
+        final List<AbstractPlayer> players = new ArrayList<>(
+                GameSimulatorImpl.createDefaultPlayers(getMode(), playerCount));
+        game = new GameFactoryImpl(GameRulesImpl.defaultRules(), new SilentGameLoggerImpl())
+                .createGame("BENCHMARK", getMode(), players, new SplittableRandom(SEED));
+    }
+
+    /**
+     * Returns the game mode parameter.
+     *
+     * @return the game mode.
+     */
+    public GameMode getMode() {
+        return GameMode.valueOf(mode);
+    }
+
+    /**
+     * Returns the dealt game.
+     *
+     * @return the game.
+     */
+    public Game getGame() {
+        return game;
+    }
+}
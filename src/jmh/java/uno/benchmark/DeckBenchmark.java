@@ -0,0 +1,85 @@
+package uno.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uno.model.cards.deck.api.Deck;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.DiscardPile;
+import uno.model.game.impl.DiscardPileImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmarks of the draw deck and the discard pile.
+ * Each operation leaves the structures as it found them, so the state can be
+ * reused across invocations.
+ */
+@State(Scope.Thread)
+public class DeckBenchmark {
+
+    private Deck<Card> deck;
+    private List<Card> cards;
+    private DiscardPile discardPile;
+
+    /**
+     * Collects the cards of the dealt deck.
+     *
+     * @param state the dealt game.
+     */
+    @Setup(Level.Iteration)
+    public void setUp(final BenchmarkGame state) {
+        deck = state.getGame().getDrawDeck();
+        cards = new ArrayList<>();
+        while (!deck.isEmpty()) {
+            deck.draw().ifPresent(cards::add);
+        }
+        deck.refill(cards);
+        discardPile = new DiscardPileImpl();
+    }
+
+    /**
+     * Measures a full shuffle of the deck.
+     *
+     * @return the deck.
+     */
+    @Benchmark
+    public Deck<Card> shuffle() {
+        deck.shuffle();
+        return deck;
+    }
+
+    /**
+     * Measures drawing every card of the deck, followed by a refill.
+     *
+     * @param bh sink for the drawn cards.
+     */
+    @Benchmark
+    public void drawAll(final Blackhole bh) {
+        while (!deck.isEmpty()) {
+            bh.consume(deck.draw());
+        }
+        deck.refill(cards);
+    }
+
+    /**
+     * Measures filling the discard pile with the whole deck and taking it back
+     * for a reshuffle, as happens when the draw deck runs out.
+     *
+     * @return the cards taken from the pile.
+     */
+    @Benchmark
+    public List<Card> takeAllExceptTop() {
+        for (final Card card : cards) {
+            discardPile.addCard(card);
+        }
+        final List<Card> taken = discardPile.takeAllExceptTop();
+        discardPile.takeAll();
+        return taken;
+    }
+}
@@ -0,0 +1,114 @@
+package uno.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uno.model.cards.deck.api.Deck;
+import uno.model.cards.deck.api.DeckStorage;
+import uno.model.cards.deck.impl.AllWildDeck;
+import uno.model.cards.deck.impl.CardCatalogImpl;
+import uno.model.cards.deck.impl.FlipDeck;
+import uno.model.cards.deck.impl.IntArrayDeck;
+import uno.model.cards.deck.impl.StandardDeck;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.GameMode;
+import uno.model.utils.api.GameLogger;
+import uno.model.utils.impl.SilentGameLoggerImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Compares the list-based draw deck with the primitive {@link IntArrayDeck}.
+ * Each operation leaves the deck full, so the state can be reused across
+ * invocations; run with the gc profiler to compare allocation rates.
+ */
+@State(Scope.Thread)
+public class DeckStorageBenchmark {
+
+    private static final long SEED = 42L;
+
+    /**
+     * Game mode whose cards fill the deck.
+     */
+    @Param({"STANDARD", "FLIP", "ALL_WILD"})
+    public GameMode mode;
+
+    /**
+     * Storage of the deck under test.
+     */
+    @Param({"LIST", "INT_ARRAY"})
+    public DeckStorage storage;
+
+    private Deck<Card> deck;
+    private List<Card> cards;
+
+    /**
+     * Creates the deck and collects its cards for the refills.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        final GameLogger logger = new SilentGameLoggerImpl();
+        final SplittableRandom random = new SplittableRandom(SEED);
+        if (storage == DeckStorage.INT_ARRAY) {
+            deck = new IntArrayDeck(CardCatalogImpl.forMode(mode), logger, random);
+        } else {
+            switch (mode) {
+                case FLIP:
+                    deck = new FlipDeck(logger, random);
+                    break;
+                case ALL_WILD:
+                    deck = new AllWildDeck(logger, random);
+                    break;
+                default:
+                    deck = new StandardDeck(logger, random);
+                    break;
+            }
+        }
+        cards = new ArrayList<>();
+        while (!deck.isEmpty()) {
+            deck.draw().ifPresent(cards::add);
+        }
+        deck.refill(cards);
+    }
+
+    /**
+     * Measures a full shuffle of the deck.
+     *
+     * @return the deck.
+     */
+    @Benchmark
+    public Deck<Card> shuffle() {
+        deck.shuffle();
+        return deck;
+    }
+
+    /**
+     * Measures drawing every card of the deck, followed by a refill.
+     *
+     * @param bh sink for the drawn cards.
+     */
+    @Benchmark
+    public void drawAll(final Blackhole bh) {
+        while (!deck.isEmpty()) {
+            bh.consume(deck.draw());
+        }
+        deck.refill(cards);
+    }
+
+    /**
+     * Measures looking at the top card, as the move validator does.
+     *
+     * @param bh sink for the peeked card.
+     */
+    @Benchmark
+    public void peek(final Blackhole bh) {
+        bh.consume(deck.peek());
+    }
+}
@@ -0,0 +1,61 @@
+package uno.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import uno.model.game.api.GameMode;
+import uno.model.game.api.GameSimulator;
+import uno.model.game.api.SimulationResult;
+import uno.model.game.impl.GameRulesImpl;
+import uno.model.game.impl.GameSimulatorImpl;
+
+import java.util.SplittableRandom;
+
+/**
+ * Benchmark of a whole headless game, from the deal to the winner.
+ * Every invocation plays a different seeded game, so the score is an average
+ * over many deals rather than the cost of a single lucky one.
+ */
+@State(Scope.Thread)
+public class FullGameBenchmark {
+
+    /**
+     * Game mode of the played games.
+     */
+    @Param({"STANDARD", "FLIP", "ALL_WILD"})
+    public String mode;
+
+    /**
+     * Number of players of the played games.
+     */
+    @Param({"2", "4", "6"})
+    public int playerCount;
+
+    private GameSimulator simulator;
+    private GameMode gameMode;
+    private long seed;
+
+    /**
+     * Creates the simulator.
+     */
+    @Setup
+    public void setUp() {
+        simulator = new GameSimulatorImpl(GameRulesImpl.defaultRules());
+        gameMode = GameMode.valueOf(mode);
+        seed = 0;
+    }
+
+    /**
+     * Measures a complete game between the default AI players of the mode.
+     *
+     * @return the outcome of the game.
+     */
+    @Benchmark
+    public SimulationResult playGame() {
+        return simulator.simulate(gameMode, GameSimulatorImpl.createDefaultPlayers(gameMode, playerCount),
+                new SplittableRandom(seed++));
+    }
+}
@@ -0,0 +1,60 @@
+package uno.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.MoveValidator;
+import uno.model.game.impl.MoveValidatorImpl;
+import uno.model.players.impl.AbstractPlayer;
+
+/**
+ * Benchmarks of the playability checks run on every turn.
+ */
+@State(Scope.Thread)
+public class MoveValidatorBenchmark {
+
+    private MoveValidator validator;
+    private AbstractPlayer player;
+    private Card topCard;
+
+    /**
+     * Prepares the validator for the dealt game.
+     *
+     * @param state the dealt game.
+     */
+    @Setup(Level.Iteration)
+    public void setUp(final BenchmarkGame state) {
+        validator = new MoveValidatorImpl((GameContext) state.getGame());
+        player = state.getGame().getCurrentPlayer();
+        topCard = state.getGame().getTopDiscardCard().orElseThrow();
+    }
+
+    /**
+     * Measures {@link MoveValidator#playerHasPlayableCard(AbstractPlayer)}.
+     *
+     * @return whether the current player can play.
+     */
+    @Benchmark
+    public boolean playerHasPlayableCard() {
+        return validator.playerHasPlayableCard(player);
+    }
+
+    /**
+     * Measures {@link Card#canBePlayedOn} for every card of the current hand.
+     *
+     * @param state the dealt game.
+     * @param bh    sink for the results.
+     */
+    @Benchmark
+    public void canBePlayedOn(final BenchmarkGame state, final Blackhole bh) {
+        for (final Card card : player.getHandView()) {
+            bh.consume(card.canBePlayedOn(topCard, state.getGame()));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package uno.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import uno.model.game.api.GameContext;
+import uno.model.game.api.GameSnapshot;
+import uno.model.game.impl.GameSimulatorImpl;
+import uno.model.utils.api.GameLogger;
+import uno.model.utils.impl.SilentGameLoggerImpl;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of copying a game through a {@link GameSnapshot}: the
+ * capture of a freshly dealt game, a fork with the hidden cards dealt again,
+ * and the restore into a playable game, as done by every search iteration.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SnapshotBenchmark {
+
+    private static final long SEED = 42L;
+
+    private final GameLogger logger = new SilentGameLoggerImpl();
+    private final SplittableRandom random = new SplittableRandom(SEED);
+    private GameSnapshot snapshot;
+
+    /**
+     * Captures the snapshot of the dealt game.
+     *
+     * @param state the dealt game.
+     */
+    @Setup
+    public void setUp(final BenchmarkGame state) {
+        snapshot = ((GameContext) state.getGame()).snapshot();
+    }
+
+    /**
+     * Measures the capture of a game.
+     *
+     * @param state the dealt game.
+     * @return the snapshot.
+     */
+    @Benchmark
+    public GameSnapshot capture(final BenchmarkGame state) {
+        return ((GameContext) state.getGame()).snapshot();
+    }
+
+    /**
+     * Measures a fork from the point of view of the first player.
+     *
+     * @return the fork.
+     */
+    @Benchmark
+    public GameSnapshot fork() {
+        return snapshot.fork(0, random);
+    }
+
+    /**
+     * Measures a fork restored into a playable game, as a search iteration does.
+     *
+     * @return the game.
+     */
+    @Benchmark
+    public GameContext forkAndRestore() {
+        return snapshot.fork(0, random).restore(
+                GameSimulatorImpl.createDefaultPlayers(snapshot.getMode(), snapshot.getPlayerCount()),
+                logger, random);
+    }
+}
@@ -0,0 +1,46 @@
+package uno.model.players.impl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import uno.benchmark.BenchmarkGame;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.Game;
+
+import java.util.Optional;
+
+/**
+ * Benchmark of the card choice of {@link AIClassic}.
+ * It lives in the players package to reach the protected strategy method.
+ */
+@State(Scope.Thread)
+public class AIClassicBenchmark {
+
+    private AIClassic ai;
+    private Game game;
+
+    /**
+     * Gives the hand of the current player of the dealt game to an AIClassic.
+     *
+     * @param state the dealt game.
+     */
+    @Setup(Level.Iteration)
+    public void setUp(final BenchmarkGame state) {
+        game = state.getGame();
+        ai = new AIClassic("BENCHMARK");
+        ai.setHand(game.getCurrentPlayer().getHand());
+    }
+
+    /**
+     * Measures {@link AIClassic#chooseCardToPlay(Game)}.
+     *
+     * @return the chosen card.
+     */
+    @Benchmark
+    public Optional<Card> chooseCardToPlay() {
+        return ai.chooseCardToPlay(game);
+    }
+}
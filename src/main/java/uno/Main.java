@@ -2,6 +2,10 @@ package uno;
 
 import uno.controller.api.MenuController;
 import uno.controller.impl.MenuControllerImpl;
+import uno.model.game.api.MatchStore;
+import uno.model.game.impl.MatchStoreImpl;
+import uno.model.utils.api.LogStatistics;
+import uno.model.utils.impl.MappedLogAnalyzer;
 import uno.view.api.GameFrame;
 import uno.view.impl.GameFrameImpl;
 import uno.view.scenes.api.MenuScene;
@@ -9,33 +13,80 @@ import uno.view.scenes.impl.MenuSceneImpl;
 
 import javax.swing.SwingUtilities;
 import java.awt.Container;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Entry point of the UNO application.
  */
 public final class Main {
 
+    private static final String RESUME_FLAG = "--resume";
+    private static final String ANALYZE_LOGS_FLAG = "--analyze-logs";
+
     private Main() {
         // Prevent instantiation
     }
 
     /**
      * Main method to launch the UNO application.
+     * With {@value #RESUME_FLAG}, optionally followed by the path of a save file,
+     * the saved match is resumed at once instead of showing the menu.
+     * With {@value #ANALYZE_LOGS_FLAG}, optionally followed by the path of a
+     * logs directory, the match logs are analyzed and the report is logged
+     * instead of starting the game.
      * 
      * @param args command line arguments
      */
     public static void main(final String[] args) {
+        if (args.length > 0 && ANALYZE_LOGS_FLAG.equals(args[0])) {
+            analyzeLogs(args.length > 1
+                    ? Paths.get(args[1])
+                    : Paths.get(System.getProperty("user.dir"), "logs"));
+            return;
+        }
+        final boolean resume = args.length > 0 && RESUME_FLAG.equals(args[0]);
+        final MatchStore matchStore = resume && args.length > 1
+                ? new MatchStoreImpl(Paths.get(args[1]))
+                : MatchStoreImpl.createDefault();
 
         SwingUtilities.invokeLater(() -> {
 
             final GameFrame frame = new GameFrameImpl("UNO");
-            final MenuController menuController = new MenuControllerImpl(frame);
+            final MenuController menuController = new MenuControllerImpl(frame, matchStore);
             final MenuScene menuScene = new MenuSceneImpl();
 
             menuScene.setObserver(menuController);
+            menuScene.setResumeAvailable(menuController.hasSavedMatch());
             frame.showScene((Container) menuScene);
 
             frame.setVisible(true);
+
+            if (resume) {
+                menuController.onResumeGame();
+            }
         });
     }
+
+    /**
+     * Analyzes the match logs in a directory, archive included, and logs the report.
+     * 
+     * @param directory the logs directory
+     */
+    private static void analyzeLogs(final Path directory) {
+        final Logger logger = Logger.getLogger("UNO");
+        try {
+            final long start = System.nanoTime();
+            final LogStatistics statistics = new MappedLogAnalyzer().analyzeDirectory(directory);
+            logger.info(() -> "Analyzed " + directory + " in "
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms"
+                    + System.lineSeparator() + statistics);
+        } catch (final IOException e) {
+            logger.log(Level.SEVERE, "Impossible to analyze the logs in " + directory + ".", e);
+        }
+    }
 }
@@ -0,0 +1,35 @@
+package uno.controller.api;
+
+import uno.model.game.api.Game;
+import uno.model.players.impl.AbstractAIPlayer;
+
+/**
+ * Runs the turns of AI players away from the thread that owns the model.
+ * The move is computed on a background thread, and only the resulting action
+ * is applied to the game, on the model thread, once the pacing delay elapsed.
+ */
+public interface AITurnScheduler {
+
+    /**
+     * Schedules the turn of an AI player, replacing any turn still pending.
+     *
+     * @param game   the game being played.
+     * @param player the AI player whose turn it is.
+     */
+    void schedule(Game game, AbstractAIPlayer player);
+
+    /**
+     * Cancels the pending turn, if any: its action will not be applied.
+     */
+    void cancel();
+
+    /**
+     * Runs an input that changes the model once no move is being computed,
+     * so the background threads never read the model while it changes.
+     * Deferred inputs run on the model thread, in order, after the action of
+     * the last computed move.
+     *
+     * @param action the input, called on the model thread.
+     */
+    void runWhenIdle(Runnable action);
+}
@@ -7,6 +7,19 @@ package uno.controller.api;
  */
 public interface MenuController extends MenuObserver {
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    void onResumeGame();
+
+    /**
+     * Checks whether a saved match can be resumed.
+     *
+     * @return true if a saved match exists.
+     */
+    boolean hasSavedMatch();
+
     /**
      * {@inheritDoc}
      */
@@ -9,6 +9,11 @@ import uno.model.game.api.GameRules;
  */
 public interface MenuObserver {
 
+    /**
+     * Called when the user clicks "Resume Match".
+     */
+    void onResumeGame();
+
     /**
      * Called when the user clicks "Start Classic Mode".
      */
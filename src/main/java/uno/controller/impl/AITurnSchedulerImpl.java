@@ -0,0 +1,155 @@
+package uno.controller.impl;
+
+import uno.controller.api.AITurnScheduler;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.Game;
+import uno.model.game.api.GameState;
+import uno.model.players.impl.AbstractAIPlayer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Implementation of the AITurnScheduler.
+ * Every turn runs on a new virtual thread, which computes the move with
+ * {@link AbstractAIPlayer#planMove(Game)}, waits for what remains of the
+ * pacing delay, and hands the move to the model executor, which applies it
+ * through {@link AbstractAIPlayer#takeTurn(Game, Optional)} in a single update
+ * scope. The model must not change while a move is computed: the play
+ * buttons are disabled during AI turns, and the other inputs, such as calling
+ * UNO, go through {@link #runWhenIdle(Runnable)}, which holds them back until
+ * every computation in flight has handed over its action.
+ * All methods are called on the model thread.
+ */
+public class AITurnSchedulerImpl implements AITurnScheduler {
+
+    private static final Logger LOGGER = Logger.getLogger("UNO");
+
+    private final Executor modelExecutor;
+    private final Duration pacing;
+    private final AtomicLong generation = new AtomicLong();
+    private final List<Runnable> deferred = new ArrayList<>();
+    private int planning;
+
+    /**
+     * Constructor for AITurnSchedulerImpl.
+     *
+     * @param modelExecutor runs the actions on the thread that owns the model
+     *                      (e.g. the Swing event dispatch thread).
+     * @param pacing        minimum time between the scheduling of a turn and
+     *                      its action; {@link Duration#ZERO} plays at once.
+     */
+    public AITurnSchedulerImpl(final Executor modelExecutor, final Duration pacing) {
+        if (pacing.isNegative()) {
+            throw new IllegalArgumentException("The AI pacing delay cannot be negative.");
+        }
+        this.modelExecutor = modelExecutor;
+        this.pacing = pacing;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void schedule(final Game game, final AbstractAIPlayer player) {
+        final long turn = generation.incrementAndGet();
+        planning++;
+        Thread.ofVirtual().name("uno-ai-" + player.getName()).start(() -> {
+            final long start = System.nanoTime();
+            final Optional<Card> move;
+            try {
+                move = player.planMove(game);
+                final long remaining = pacing.toNanos() - (System.nanoTime() - start);
+                if (remaining > 0) {
+                    TimeUnit.NANOSECONDS.sleep(remaining);
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                modelExecutor.execute(() -> {
+                    finishPlanning();
+                    runDeferred();
+                });
+                return;
+            } catch (final RuntimeException e) {
+                LOGGER.log(Level.WARNING, "AI move computation failed, choosing on the model thread.", e);
+                modelExecutor.execute(() -> {
+                    finishPlanning();
+                    apply(turn, game, player, Optional.empty(), false);
+                    runDeferred();
+                });
+                return;
+            }
+            modelExecutor.execute(() -> {
+                finishPlanning();
+                apply(turn, game, player, move, true);
+                runDeferred();
+            });
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cancel() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void runWhenIdle(final Runnable action) {
+        if (planning == 0) {
+            action.run();
+        } else {
+            deferred.add(action);
+        }
+    }
+
+    /**
+     * Records that a computation is over, on the model thread.
+     */
+    private void finishPlanning() {
+        planning--;
+    }
+
+    /**
+     * Runs the inputs held back, once no move is being computed.
+     */
+    private void runDeferred() {
+        while (planning == 0 && !deferred.isEmpty()) {
+            deferred.remove(0).run();
+        }
+    }
+
+    /**
+     * Applies a computed move, unless the turn was cancelled or replaced, or
+     * the game moved on in the meantime.
+     *
+     * @param turn    the generation of the scheduled turn.
+     * @param game    the game being played.
+     * @param player  the AI player.
+     * @param move    the computed move.
+     * @param planned false if the move must be chosen on the model thread.
+     */
+    private void apply(final long turn, final Game game, final AbstractAIPlayer player,
+            final Optional<Card> move, final boolean planned) {
+        if (turn != generation.get() || game.getGameState() != GameState.RUNNING
+                || !game.getCurrentPlayer().equals(player)) {
+            return;
+        }
+        if (planned) {
+            game.runInUpdateScope(() -> player.takeTurn(game, move));
+        } else {
+            game.runInUpdateScope(() -> player.takeTurn(game));
+        }
+    }
+}
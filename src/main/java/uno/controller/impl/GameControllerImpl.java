@@ -1,11 +1,16 @@
 package uno.controller.impl;
 
+import uno.controller.api.AITurnScheduler;
 import uno.controller.api.GameController;
 import uno.controller.api.MenuController;
+import uno.model.api.GameEvent;
 import uno.model.cards.attributes.CardColor;
 import uno.model.cards.types.api.Card;
 import uno.model.game.api.GameState;
 import uno.model.game.api.Game;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.MatchStore;
+import uno.model.game.impl.MatchStoreImpl;
 import uno.model.players.impl.AbstractAIPlayer;
 import uno.model.players.impl.AbstractPlayer;
 import uno.model.players.impl.HumanPlayer;
@@ -20,11 +25,16 @@ import uno.view.scenes.api.GameScene;
 import uno.view.scenes.api.MenuScene;
 import uno.view.scenes.impl.MenuSceneImpl;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
-import javax.swing.Timer;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
+import javax.swing.SwingUtilities;
 import java.util.Optional;
 import java.awt.Container;
 
@@ -37,16 +47,27 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
  */
 public class GameControllerImpl implements GameController {
 
-    private static final int AI_DELAY = 4000;
+    /**
+     * Default pacing of AI turns, so a human can follow them.
+     */
+    public static final Duration DEFAULT_AI_DELAY = Duration.ofMillis(4000);
+
+    private static final Logger LOGGER = Logger.getLogger("UNO");
 
     private final Game gameModel;
     private final GameScene gameScene;
     private final GameFrame mainFrame;
 
-    private Optional<Timer> aiTimer = Optional.empty();
+    private final AITurnScheduler aiScheduler;
+    private final MatchStore matchStore;
+
+    private final Map<AbstractPlayer, PlayerViewData> playerViewCache = new IdentityHashMap<>();
+    private final Map<Card, CardViewData> cardViewCache = new IdentityHashMap<>();
 
     /**
      * Constructs the GameControllerImpl with the given Model, View, and Main Frame.
+     * AI turns are paced by {@link #DEFAULT_AI_DELAY}, or played at once when
+     * every seat is an AI.
      * 
      * @param gameModel the game logic and state.
      * @param gameScene the view representing the game board and player
@@ -54,12 +75,51 @@ public class GameControllerImpl implements GameController {
      * @param mainFrame the main application window to control scene transitions and
      *                  popups.
      */
-    @SuppressFBWarnings("EI_EXPOSE_REP2")
     public GameControllerImpl(final Game gameModel, final GameScene gameScene,
             final GameFrame mainFrame) {
+        this(gameModel, gameScene, mainFrame, DEFAULT_AI_DELAY);
+    }
+
+    /**
+     * Constructs the GameControllerImpl with a custom pacing of AI turns.
+     * The pacing is ignored, and AI turns are played at once, when every seat
+     * is an AI.
+     * 
+     * @param gameModel the game logic and state.
+     * @param gameScene the view representing the game board and player
+     *                  interactions.
+     * @param mainFrame the main application window to control scene transitions and
+     *                  popups.
+     * @param aiDelay   minimum time between the start of an AI turn and its move.
+     */
+    public GameControllerImpl(final Game gameModel, final GameScene gameScene,
+            final GameFrame mainFrame, final Duration aiDelay) {
+        this(gameModel, gameScene, mainFrame, aiDelay, MatchStoreImpl.createDefault());
+    }
+
+    /**
+     * Constructs the GameControllerImpl with a custom pacing of AI turns and a
+     * custom store for the saved match.
+     * The match is saved at the start of every round and when the player goes
+     * back to the menu, and the save is deleted when the match ends.
+     * 
+     * @param gameModel  the game logic and state.
+     * @param gameScene  the view representing the game board and player
+     *                   interactions.
+     * @param mainFrame  the main application window to control scene transitions and
+     *                   popups.
+     * @param aiDelay    minimum time between the start of an AI turn and its move.
+     * @param matchStore the store of the saved match.
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    public GameControllerImpl(final Game gameModel, final GameScene gameScene,
+            final GameFrame mainFrame, final Duration aiDelay, final MatchStore matchStore) {
+        this.matchStore = matchStore;
         this.gameModel = gameModel;
         this.gameScene = gameScene;
         this.mainFrame = mainFrame;
+        final boolean allAI = gameModel.getPlayers().stream().allMatch(AbstractAIPlayer.class::isInstance);
+        this.aiScheduler = new AITurnSchedulerImpl(SwingUtilities::invokeLater, allAI ? Duration.ZERO : aiDelay);
         this.gameModel.addObserver(this);
     }
 
@@ -79,9 +139,8 @@ public class GameControllerImpl implements GameController {
     @Override
     public void onGameUpdate() {
         if (gameModel.getGameState() == GameState.GAME_OVER) {
-            if (aiTimer.isPresent()) {
-                aiTimer.get().stop();
-            }
+            aiScheduler.cancel();
+            deleteSavedMatch();
 
             gameScene.setHumanInputEnabled(false);
             final AbstractPlayer winner = gameModel.getWinner();
@@ -90,15 +149,14 @@ public class GameControllerImpl implements GameController {
         }
 
         if (gameModel.getGameState() == GameState.ROUND_OVER) {
-            if (aiTimer.isPresent()) {
-                aiTimer.get().stop();
-            }
+            aiScheduler.cancel();
 
             gameScene.setHumanInputEnabled(false);
             final AbstractPlayer roundWinner = gameModel.getWinner();
             gameScene.showInfo("Round Winner: " + roundWinner.getName() + "!\nScore: " + roundWinner.getScore(),
                     "Round Over");
             gameModel.startNewRound();
+            saveMatch();
             return;
         }
 
@@ -112,13 +170,40 @@ public class GameControllerImpl implements GameController {
             }
 
             if (gameModel.getGameState() == GameState.WAITING_FOR_PLAYER) {
-                gameScene.showPlayerChooser(gameModel.getPlayers());
+                gameScene.showPlayerChooser(gameModel.getPlayers().stream()
+                        .filter(gameModel.getTurnManager()::isActive)
+                        .toList());
             }
         }
 
         checkAndRunAITurn();
     }
 
+    /**
+     * {@inheritDoc}
+     * Drops the cached view data made stale by the event; the next update
+     * rebuilds only those entries.
+     */
+    @Override
+    public void onGameEvent(final GameEvent event) {
+        if (event instanceof GameEvent.CardPlayed played) {
+            playerViewCache.remove(played.player());
+        } else if (event instanceof GameEvent.CardsDrawn drawn) {
+            playerViewCache.remove(drawn.player());
+        } else if (event instanceof GameEvent.HandsSwapped swapped) {
+            playerViewCache.remove(swapped.first());
+            playerViewCache.remove(swapped.second());
+        } else if (event instanceof GameEvent.TurnAdvanced advanced) {
+            playerViewCache.remove(advanced.previous());
+            playerViewCache.remove(advanced.current());
+        } else if (event instanceof GameEvent.SideFlipped) {
+            cardViewCache.clear();
+            playerViewCache.clear();
+        } else if (event instanceof GameEvent.RoundEnded || event instanceof GameEvent.RoundStarted) {
+            playerViewCache.clear();
+        }
+    }
+
     /**
      * Creates a GameViewData object that encapsulates all the necessary information
      * about the current game state, players, and cards to be displayed in the view.
@@ -157,17 +242,28 @@ public class GameControllerImpl implements GameController {
     }
 
     /**
-     * Creates a PlayerViewData object for a given player, including their name, hand
-     * size, score, and whether they are the current player.
+     * Returns the PlayerViewData of a given player, including their name, hand
+     * size, score, and whether they are the current player. The data is reused
+     * until an event reports a change to the player.
      * 
      * @param player the player for whom to create the view data.
      * @return a PlayerViewData instance with the player's information and hand cards.
      */
     private PlayerViewData createPlayerViewData(final AbstractPlayer player) {
-        final List<CardViewData> hand = player.getHand().stream()
-                .filter(Optional::isPresent)
-                .map(cardOpt -> createCardViewData(cardOpt.get()))
-                .collect(Collectors.toList());
+        return playerViewCache.computeIfAbsent(player, this::buildPlayerViewData);
+    }
+
+    /**
+     * Builds the view data of a player from the model.
+     * 
+     * @param player the player.
+     * @return the player's view data.
+     */
+    private PlayerViewData buildPlayerViewData(final AbstractPlayer player) {
+        final List<CardViewData> hand = new ArrayList<>(player.getHandSize());
+        for (final Card card : player.getHandView()) {
+            hand.add(createCardViewData(card));
+        }
 
         return new PlayerViewDataImpl(
                 player.getName(),
@@ -179,13 +275,23 @@ public class GameControllerImpl implements GameController {
     }
 
     /**
-     * Creates a CardViewData object for a given card, including its color, value, and
-     * an image key for display purposes.
+     * Returns the CardViewData of a given card, including its color, value, and
+     * an image key for display purposes. The data is reused until the side flips.
      * 
      * @param card the card for which to create the view data.
      * @return a CardViewData instance with the card's information and image key.
      */
     private CardViewData createCardViewData(final Card card) {
+        return cardViewCache.computeIfAbsent(card, this::buildCardViewData);
+    }
+
+    /**
+     * Builds the view data of a card for the active side.
+     * 
+     * @param card the card.
+     * @return the card's view data.
+     */
+    private CardViewData buildCardViewData(final Card card) {
         final String imageKey = card.getColor(gameModel).name() + "_" + card.getValue(gameModel).name();
         return new CardViewDataImpl(
                 card.getColor(gameModel),
@@ -195,8 +301,8 @@ public class GameControllerImpl implements GameController {
     }
 
     /**
-     * Check if the current player is an AI and, if so, schedule its turn after a
-     * short delay.
+     * Check if the current player is an AI and, if so, schedule its turn on the
+     * AI scheduler.
      */
     private void checkAndRunAITurn() {
         if (gameModel.getGameState() != GameState.RUNNING) {
@@ -208,19 +314,7 @@ public class GameControllerImpl implements GameController {
         if (currentPlayer instanceof AbstractAIPlayer) {
             gameScene.setHumanInputEnabled(false);
 
-            final ActionListener aiTask = new ActionListener() {
-                /**
-                 * When the timer triggers, this method is called to execute the AI player's turn.
-                 */
-                @Override
-                public void actionPerformed(final ActionEvent e) {
-                    ((AbstractAIPlayer) currentPlayer).takeTurn(gameModel);
-                }
-            };
-
-            aiTimer = Optional.of(new Timer(AI_DELAY, aiTask));
-            aiTimer.get().setRepeats(false);
-            aiTimer.get().start();
+            aiScheduler.schedule(gameModel, (AbstractAIPlayer) currentPlayer);
         } else {
             gameScene.setHumanInputEnabled(true);
         }
@@ -255,11 +349,14 @@ public class GameControllerImpl implements GameController {
      */
     @Override
     public void onCallUno() {
-        try {
-            gameModel.callUno(gameModel.getPlayers().getFirst());
-        } catch (final IllegalStateException e) {
-            gameScene.showError(e.getMessage(), "Can't call UNO!");
-        }
+        // The button stays enabled during AI turns: wait until no AI reads the model.
+        aiScheduler.runWhenIdle(() -> {
+            try {
+                gameModel.callUno(gameModel.getPlayers().getFirst());
+            } catch (final IllegalStateException e) {
+                gameScene.showError(e.getMessage(), "Can't call UNO!");
+            }
+        });
     }
 
     /**
@@ -268,13 +365,55 @@ public class GameControllerImpl implements GameController {
     @Override
     public void onBackToMenu() {
         if (gameScene.confirmExit()) {
-            final MenuController menuController = new MenuControllerImpl(mainFrame);
+            aiScheduler.cancel();
+            if (gameModel.getGameState() != GameState.GAME_OVER) {
+                saveMatch();
+            }
+            closeLogger();
+            final MenuController menuController = new MenuControllerImpl(mainFrame, matchStore);
             final MenuScene menuScene = new MenuSceneImpl();
             menuScene.setObserver(menuController);
+            menuScene.setResumeAvailable(menuController.hasSavedMatch());
             mainFrame.showScene((Container) menuScene);
         }
     }
 
+    /**
+     * Closes the logger of an abandoned match, so that its pending entries
+     * are written and its writer thread stops. Closing it again after the end
+     * of the match has no effect.
+     */
+    private void closeLogger() {
+        if (gameModel instanceof GameContext context) {
+            context.getLogger().close();
+        }
+    }
+
+    /**
+     * Saves the match, if the model supports it. A failed save is logged and
+     * does not interrupt the match.
+     */
+    private void saveMatch() {
+        if (gameModel instanceof GameContext context) {
+            try {
+                matchStore.save(context);
+            } catch (final IOException | IllegalArgumentException e) {
+                LOGGER.log(Level.WARNING, "Impossible to save the match.", e);
+            }
+        }
+    }
+
+    /**
+     * Deletes the saved match, which cannot be resumed once it is over.
+     */
+    private void deleteSavedMatch() {
+        try {
+            matchStore.delete();
+        } catch (final IOException e) {
+            LOGGER.log(Level.WARNING, "Impossible to delete the saved match.", e);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -3,16 +3,25 @@ package uno.controller.impl;
 import uno.controller.api.MenuController;
 import uno.controller.api.GameController;
 import uno.model.game.api.Game;
+import uno.model.game.api.GameContext;
 import uno.model.game.api.GameMode;
 import uno.model.game.api.GameRules;
 import uno.model.game.api.GameFactory;
+import uno.model.game.api.MatchStore;
 import uno.model.game.impl.GameRulesImpl;
 import uno.model.game.impl.GameFactoryImpl;
+import uno.model.game.impl.MatchJournalImpl;
+import uno.model.game.impl.MatchStoreImpl;
 import uno.model.players.impl.AIAllWild;
 import uno.model.players.impl.AIClassic;
 import uno.model.players.impl.AIFlip;
 import uno.model.players.impl.AbstractPlayer;
 import uno.model.players.impl.HumanPlayer;
+import uno.model.utils.api.GameLogger;
+import uno.model.utils.api.LogRetentionPolicy;
+import uno.model.utils.impl.AsyncGameLoggerImpl;
+import uno.model.utils.impl.GameLoggerImpl;
+import uno.model.utils.impl.SplitMixRandom;
 import uno.view.api.GameFrame;
 import uno.view.scenes.api.GameScene;
 import uno.view.scenes.api.RulesScene;
@@ -21,8 +30,14 @@ import uno.view.scenes.impl.GameSceneImpl;
 import uno.view.scenes.impl.MenuSceneImpl;
 import uno.view.scenes.impl.RulesSceneImpl;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.awt.Container;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -38,21 +53,66 @@ public class MenuControllerImpl implements MenuController {
     private static final String AI_ONE_NAME = "IA-1";
     private static final String AI_TWO_NAME = "IA-2";
     private static final String AI_THREE_NAME = "IA-3";
+    private static final String JOURNAL_FILE_PREFIX = "journal_match_";
+    private static final String JOURNAL_FILE_SUFFIX = ".bin";
+
+    private static final Logger LOGGER = Logger.getLogger("UNO");
 
     private final GameFrame frame;
+    private final MatchStore matchStore;
     private GameRules currentRules;
 
     /**
-     * Constructor for MenuControllerImpl.
+     * Constructor for MenuControllerImpl, saving matches in the default location.
      * 
      * @param frame the main application frame to control scene transitions
      */
-    @SuppressFBWarnings("EI_EXPOSE_REP2")
     public MenuControllerImpl(final GameFrame frame) {
+        this(frame, MatchStoreImpl.createDefault());
+    }
+
+    /**
+     * Constructor for MenuControllerImpl.
+     * 
+     * @param frame      the main application frame to control scene transitions
+     * @param matchStore the store of the saved match
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    public MenuControllerImpl(final GameFrame frame, final MatchStore matchStore) {
         this.frame = frame;
+        this.matchStore = matchStore;
         this.currentRules = GameRulesImpl.defaultRules();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onResumeGame() {
+        final String matchId = newMatchId();
+        final GameLogger logger = createLogger(matchId);
+        final GameContext gameModel;
+        try {
+            gameModel = matchStore.load(logger);
+        } catch (final IOException e) {
+            LOGGER.log(Level.WARNING, "Impossible to resume the saved match.", e);
+            logger.close();
+            onBackToMenu();
+            return;
+        }
+        startJournal(gameModel, matchId);
+        final GameController gameController = showGame(gameModel, gameModel.snapshot().getMode());
+        gameController.onGameUpdate();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasSavedMatch() {
+        return matchStore.hasSavedMatch();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -86,16 +146,74 @@ public class MenuControllerImpl implements MenuController {
     private void startGame(final GameMode gameMode) {
         final List<AbstractPlayer> players = createPlayers(gameMode);
 
-        final GameFactory factory = new GameFactoryImpl(currentRules);
-        final Game gameModel = factory.createGame(HUMAN_NAME, gameMode, players);
-        final GameScene gameScene = new GameSceneImpl();
-        final GameController gameController = new GameControllerImpl(gameModel, gameScene, frame);
+        final String matchId = newMatchId();
+        final GameFactory factory = new GameFactoryImpl(currentRules, createLogger(matchId));
+        final Game gameModel = factory.createGame(HUMAN_NAME, gameMode, players,
+                new SplitMixRandom(ThreadLocalRandom.current().nextLong()));
+        startJournal(gameModel, matchId);
+        final GameController gameController = showGame(gameModel, gameMode);
+
+        gameController.showStartingPlayerPopupAndStartGame();
+    }
+
+    /**
+     * Creates the Game Scene and the Game Controller of a match and shows them.
+     * 
+     * @param gameModel the match
+     * @param gameMode  the Game Mode of the match
+     * @return the controller of the match
+     */
+    private GameController showGame(final Game gameModel, final GameMode gameMode) {
+        final GameScene gameScene = new GameSceneImpl(gameMode);
+        final GameController gameController = new GameControllerImpl(gameModel, gameScene, frame,
+                GameControllerImpl.DEFAULT_AI_DELAY, matchStore);
 
         gameScene.setObserver(gameController);
 
         frame.showScene((Container) gameScene);
+        return gameController;
+    }
 
-        gameController.showStartingPlayerPopupAndStartGame();
+    /**
+     * Creates the identifier of a new match, based on the current time.
+     * 
+     * @return the identifier
+     */
+    private static String newMatchId() {
+        return String.valueOf(System.currentTimeMillis());
+    }
+
+    /**
+     * Creates the logger of a match. Old logs are archived, so that the
+     * history of the matches can be analyzed.
+     * 
+     * @param matchId the identifier of the match
+     * @return the logger
+     */
+    private static GameLogger createLogger(final String matchId) {
+        return new AsyncGameLoggerImpl(matchId, LogRetentionPolicy.ARCHIVE);
+    }
+
+    /**
+     * Starts recording the journal of a match next to its log, so that it can
+     * be replayed. Old journals are archived like the logs. A journal that
+     * cannot be written is logged and skipped.
+     * 
+     * @param gameModel the match
+     * @param matchId   the identifier of the match
+     */
+    private static void startJournal(final Game gameModel, final String matchId) {
+        if (gameModel instanceof GameContext context) {
+            final Path dir = Paths.get(System.getProperty("user.dir"), "logs");
+            GameLoggerImpl.cleanOldFiles(dir.toFile(), JOURNAL_FILE_PREFIX, JOURNAL_FILE_SUFFIX,
+                    LogRetentionPolicy.ARCHIVE);
+            final Path file = dir.resolve(JOURNAL_FILE_PREFIX + matchId + JOURNAL_FILE_SUFFIX);
+            try {
+                MatchJournalImpl.start(context, file);
+            } catch (final IOException | IllegalArgumentException e) {
+                LOGGER.log(Level.WARNING, "Impossible to record the match journal.", e);
+            }
+        }
     }
 
     /**
@@ -163,6 +281,7 @@ public class MenuControllerImpl implements MenuController {
     public void onBackToMenu() {
         final MenuScene menuScene = new MenuSceneImpl();
         menuScene.setObserver(this);
+        menuScene.setResumeAvailable(hasSavedMatch());
         frame.showScene((Container) menuScene);
     }
 }
@@ -0,0 +1,204 @@
+package uno.model.api;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.Game;
+import uno.model.game.impl.MatchStoreImpl;
+
+import java.io.IOException;
+
+import java.util.Optional;
+
+/**
+ * A fully specified input to the Game Model, as issued by a player or by the
+ * controller. Given the random seed of a match, the sequence of its commands
+ * determines every other change, so applying the same commands to the same
+ * initial state replays the match exactly.
+ * Players are identified by their seat, so a command can be applied to a copy
+ * of the game.
+ */
+public sealed interface GameCommand {
+
+    /**
+     * Applies the command to a game, as the original caller did.
+     *
+     * @param game the game.
+     */
+    void applyTo(Game game);
+
+    /**
+     * The current player played a card, see {@link Game#playCard(Optional)}.
+     *
+     * @param card      the card played.
+     * @param calledUno whether the player had called UNO when playing.
+     */
+    record PlayCard(Optional<Card> card, boolean calledUno) implements GameCommand {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void applyTo(final Game game) {
+            game.getCurrentPlayer().setHasCalledUno(calledUno);
+            game.playCard(card);
+        }
+    }
+
+    /**
+     * The current player drew, see {@link Game#playerInitiatesDraw()}.
+     */
+    record Draw() implements GameCommand {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void applyTo(final Game game) {
+            game.playerInitiatesDraw();
+        }
+    }
+
+    /**
+     * The current player passed, see {@link Game#playerPassTurn()}.
+     */
+    record PassTurn() implements GameCommand {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void applyTo(final Game game) {
+            game.playerPassTurn();
+        }
+    }
+
+    /**
+     * A color was chosen, see {@link Game#setColor(CardColor)}.
+     *
+     * @param color the chosen color.
+     */
+    record ChooseColor(CardColor color) implements GameCommand {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void applyTo(final Game game) {
+            game.setColor(color);
+        }
+    }
+
+    /**
+     * A color was chosen for a draw-until-color card, see
+     * {@link Game#drawUntilColorChosenCard(CardColor)}.
+     *
+     * @param color the chosen color.
+     */
+    record DrawUntilColor(CardColor color) implements GameCommand {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void applyTo(final Game game) {
+            game.drawUntilColorChosenCard(color);
+        }
+    }
+
+    /**
+     * A target player was chosen, see {@link Game#chosenPlayer}.
+     *
+     * @param seat the seat of the chosen player.
+     */
+    record ChoosePlayer(int seat) implements GameCommand {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void applyTo(final Game game) {
+            game.chosenPlayer(game.getPlayers().get(seat));
+        }
+    }
+
+    /**
+     * A player called UNO, see {@link Game#callUno}.
+     *
+     * @param seat the seat of the player.
+     */
+    record CallUno(int seat) implements GameCommand {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void applyTo(final Game game) {
+            game.callUno(game.getPlayers().get(seat));
+        }
+    }
+
+    /**
+     * An AI ended its turn, see {@link Game#aiAdvanceTurn()}.
+     */
+    record AdvanceTurn() implements GameCommand {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void applyTo(final Game game) {
+            game.aiAdvanceTurn();
+        }
+    }
+
+    /**
+     * A player joined the rotation, see {@link Game#addPlayer}.
+     * A new player is described by name and type, so every game the command is
+     * applied to seats a player of its own.
+     *
+     * @param seat the seat of the player: a free seat for an eliminated
+     *             player, the next one for a new player.
+     * @param name the name of the player.
+     * @param type the type of the player, coded as by
+     *             {@link MatchStoreImpl#typeCodeOf}.
+     */
+    record AddPlayer(int seat, String name, int type) implements GameCommand {
+        /**
+         * {@inheritDoc}
+         *
+         * @throws IllegalStateException if a new player has a type that cannot be created.
+         */
+        @Override
+        public void applyTo(final Game game) {
+            if (seat < game.getPlayers().size()) {
+                game.addPlayer(game.getPlayers().get(seat));
+                return;
+            }
+            try {
+                game.addPlayer(MatchStoreImpl.createPlayer(type, name));
+            } catch (final IOException e) {
+                throw new IllegalStateException("Player " + name + " cannot be created.", e);
+            }
+        }
+    }
+
+    /**
+     * A player left the rotation, see {@link Game#eliminatePlayer}.
+     *
+     * @param seat the seat of the player.
+     */
+    record EliminatePlayer(int seat) implements GameCommand {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void applyTo(final Game game) {
+            game.eliminatePlayer(game.getPlayers().get(seat));
+        }
+    }
+
+    /**
+     * A new round was started, see {@link Game#startNewRound()}.
+     */
+    record StartRound() implements GameCommand {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void applyTo(final Game game) {
+            game.startNewRound();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package uno.model.api;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.types.api.Card;
+import uno.model.players.impl.AbstractPlayer;
+
+/**
+ * Typed description of a change in the Game Model.
+ * Events are delivered to {@link GameModelObserver#onGameEvent(GameEvent)} in
+ * the order they happened, before the {@link GameModelObserver#onGameUpdate()}
+ * that closes the move, so observers can update only what changed.
+ */
+public sealed interface GameEvent {
+
+    /**
+     * A player played a card on the discard pile.
+     *
+     * @param player the player who played the card.
+     * @param card   the card played.
+     */
+    record CardPlayed(AbstractPlayer player, Card card) implements GameEvent { }
+
+    /**
+     * A player received cards from the draw deck.
+     *
+     * @param player the player who drew.
+     * @param count  the number of cards drawn.
+     */
+    record CardsDrawn(AbstractPlayer player, int count) implements GameEvent { }
+
+    /**
+     * A color was chosen after a wild card.
+     *
+     * @param color the chosen color.
+     */
+    record ColorChosen(CardColor color) implements GameEvent { }
+
+    /**
+     * The turn passed from one player to another.
+     *
+     * @param previous the player whose turn ended.
+     * @param current  the player whose turn begins.
+     */
+    record TurnAdvanced(AbstractPlayer previous, AbstractPlayer current) implements GameEvent { }
+
+    /**
+     * The direction of play was reversed.
+     *
+     * @param clockwise true if play now proceeds clockwise.
+     */
+    record DirectionReversed(boolean clockwise) implements GameEvent { }
+
+    /**
+     * Every card was flipped to its other side.
+     *
+     * @param darkSide true if the dark side is now active.
+     */
+    record SideFlipped(boolean darkSide) implements GameEvent { }
+
+    /**
+     * Two players exchanged their hands.
+     *
+     * @param first  the player who started the swap.
+     * @param second the chosen player.
+     */
+    record HandsSwapped(AbstractPlayer first, AbstractPlayer second) implements GameEvent { }
+
+    /**
+     * A round ended.
+     *
+     * @param winner    the winner of the round.
+     * @param matchOver true if the round also ended the match.
+     */
+    record RoundEnded(AbstractPlayer winner, boolean matchOver) implements GameEvent { }
+
+    /**
+     * A new round was dealt.
+     */
+    record RoundStarted() implements GameEvent { }
+}
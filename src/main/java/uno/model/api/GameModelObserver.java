@@ -11,4 +11,24 @@ public interface GameModelObserver {
      * Called by the Game Model to notify the observer of a change in the game state.
      */
     void onGameUpdate();
+
+    /**
+     * Called by the Game Model for each change that happened during a move,
+     * before {@link #onGameUpdate()} is called for that move.
+     * 
+     * @param event the change.
+     */
+    default void onGameEvent(final GameEvent event) {
+        // Observers that only refresh on updates ignore the single changes.
+    }
+
+    /**
+     * Called by the Game Model as soon as a command is issued, before it runs
+     * and whether it succeeds or not.
+     * 
+     * @param command the command.
+     */
+    default void onGameCommand(final GameCommand command) {
+        // Only observers that record the inputs of a match need the commands.
+    }
 }
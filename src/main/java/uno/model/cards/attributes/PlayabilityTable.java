@@ -0,0 +1,110 @@
+package uno.model.cards.attributes;
+
+/**
+ * Precomputed answer to "can this card face be played?" for every situation.
+ * A face is a (color, value) pair and a situation is the color to match
+ * together with the value of the top card: both spaces are small, so the
+ * table keeps, for each situation, a bitmask with one bit per face. Checking
+ * a card is a single array index, and checking a whole hand is a bitwise
+ * {@code and} between the mask of the faces it holds and the mask of the
+ * situation.
+ * The rule is the one of every mode: a face is playable if it is wild, if it
+ * has the color to match or if it has the value of the top card.
+ */
+public final class PlayabilityTable {
+
+    /**
+     * Number of distinct faces.
+     */
+    public static final int FACES = CardColor.values().length * CardValue.values().length;
+
+    /**
+     * Number of {@code long} words of a bitmask over all the faces.
+     */
+    public static final int WORDS = (FACES + Long.SIZE - 1) / Long.SIZE;
+
+    private static final int WORD_SHIFT = 6;
+    private static final int VALUES = CardValue.values().length;
+    private static final long[] MASKS = createMasks();
+
+    private PlayabilityTable() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Gets the index of a face.
+     *
+     * @param color the color of the face.
+     * @param value the value of the face.
+     * @return the index, from 0 to {@link #FACES} excluded.
+     */
+    public static int face(final CardColor color, final CardValue value) {
+        return color.ordinal() * VALUES + value.ordinal();
+    }
+
+    /**
+     * Checks whether a face can be played.
+     *
+     * @param face        the index of the face, see {@link #face(CardColor, CardValue)}.
+     * @param targetColor the color to match: the chosen color, or the color of the top card.
+     * @param topValue    the value of the top card.
+     * @return true if the face can be played.
+     */
+    public static boolean isPlayable(final int face, final CardColor targetColor, final CardValue topValue) {
+        return (MASKS[situation(targetColor, topValue) + (face >>> WORD_SHIFT)] & 1L << face) != 0;
+    }
+
+    /**
+     * Checks whether any face of a set can be played.
+     *
+     * @param faces       the words of a bitmask over the faces, see {@link #WORDS}.
+     * @param offset      the index of the first word of the bitmask.
+     * @param targetColor the color to match: the chosen color, or the color of the top card.
+     * @param topValue    the value of the top card.
+     * @return true if at least one face of the set can be played.
+     */
+    public static boolean anyPlayable(final long[] faces, final int offset, final CardColor targetColor,
+            final CardValue topValue) {
+        final int situation = situation(targetColor, topValue);
+        for (int i = 0; i < WORDS; i++) {
+            if ((faces[offset + i] & MASKS[situation + i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the index of the first word of the mask of a situation.
+     *
+     * @param targetColor the color to match.
+     * @param topValue    the value of the top card.
+     * @return the index in the table.
+     */
+    private static int situation(final CardColor targetColor, final CardValue topValue) {
+        return face(targetColor, topValue) * WORDS;
+    }
+
+    /**
+     * Applies the playability rule to every face in every situation.
+     *
+     * @return the table.
+     */
+    private static long[] createMasks() {
+        final long[] masks = new long[FACES * WORDS];
+        for (final CardColor targetColor : CardColor.values()) {
+            for (final CardValue topValue : CardValue.values()) {
+                final int situation = situation(targetColor, topValue);
+                for (final CardColor color : CardColor.values()) {
+                    for (final CardValue value : CardValue.values()) {
+                        if (color == CardColor.WILD || color == targetColor || value == topValue) {
+                            final int face = face(color, value);
+                            masks[situation + (face >>> WORD_SHIFT)] |= 1L << face;
+                        }
+                    }
+                }
+            }
+        }
+        return masks;
+    }
+}
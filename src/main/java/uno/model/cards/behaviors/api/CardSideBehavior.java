@@ -64,4 +64,24 @@ public interface CardSideBehavior {
     default boolean isWild() {
         return getColor().name().contains("WILD");
     }
+
+    /**
+     * Checks if this side is the plain back of a single-sided card, which has no
+     * color nor value.
+     * 
+     * @return true if this side is a card back.
+     */
+    default boolean isBack() {
+        return false;
+    }
+
+    /**
+     * Checks if this side has the given color. A card back has no color.
+     * 
+     * @param color the color to check.
+     * @return true if this side is not a back and has that color.
+     */
+    default boolean hasColor(final CardColor color) {
+        return !isBack() && getColor() == color;
+    }
 }
@@ -68,4 +68,12 @@ public final class BackSideBehavior implements CardSideBehavior {
     public boolean isWild() {
         return false;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isBack() {
+        return true;
+    }
 }
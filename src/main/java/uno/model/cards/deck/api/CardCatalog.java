@@ -0,0 +1,46 @@
+package uno.model.cards.deck.api;
+
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.GameMode;
+
+import java.util.List;
+
+/**
+ * Immutable list of every physical card of a game mode.
+ * Cards carry no per-game state, so one catalog is shared by all the games of
+ * its mode: decks, hands and discard piles hold references to the same
+ * instances, and each card can be identified by its small integer id.
+ */
+public interface CardCatalog {
+
+    /**
+     * Gets the game mode this catalog describes.
+     * 
+     * @return The game mode.
+     */
+    GameMode getMode();
+
+    /**
+     * Gets the number of physical cards of the mode.
+     * 
+     * @return The number of cards.
+     */
+    int size();
+
+    /**
+     * Gets a card by its identifier.
+     * 
+     * @param id The identifier, between zero (inclusive) and {@link #size()}
+     *           (exclusive).
+     * @return The card with that identifier.
+     * @throws IndexOutOfBoundsException if the identifier is out of range.
+     */
+    Card getCard(int id);
+
+    /**
+     * Gets every card of the mode, ordered by identifier.
+     * 
+     * @return An unmodifiable list of the cards.
+     */
+    List<Card> getCards();
+}
@@ -1,8 +1,10 @@
 package uno.model.cards.deck.api;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import uno.model.cards.attributes.CardColor;
 import uno.model.utils.api.GameLogger;
 import uno.model.cards.types.api.Card;
 
@@ -29,6 +31,26 @@ public interface Deck<T extends Card> {
      */
     Optional<T> draw();
 
+    /**
+     * Removes and returns up to {@code n} cards from the top of the deck.
+     * The default implementation draws them one at a time.
+     * 
+     * @param n The number of cards to draw.
+     * @return The drawn cards, in drawing order; fewer than {@code n} if the
+     *         deck runs out.
+     * @throws IllegalArgumentException if n is negative.
+     */
+    default List<T> drawMany(final int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Cannot draw " + n + " cards.");
+        }
+        final List<T> drawn = new ArrayList<>(Math.min(n, size()));
+        for (int i = 0; i < n && !isEmpty(); i++) {
+            draw().ifPresent(drawn::add);
+        }
+        return drawn;
+    }
+
     /**
      * Retrieves the card at the top of the deck without removing it.
      * 
@@ -64,6 +86,74 @@ public interface Deck<T extends Card> {
      */
     int size();
 
+    /**
+     * Returns a copy of the cards in the deck, in drawing order from the
+     * bottom: the last card of the list is the next one drawn.
+     * Used to capture the state of a game.
+     * 
+     * @return A list of all cards.
+     * @throws UnsupportedOperationException if the deck cannot expose its order.
+     */
+    default List<T> getSnapshot() {
+        throw new UnsupportedOperationException("This deck does not expose its order.");
+    }
+
+    /**
+     * Counts the cards of a color left in the deck. Card backs have no color.
+     * The default implementation looks at every card.
+     * 
+     * @param color    The color to count.
+     * @param darkSide true to look at the dark side of the cards.
+     * @return The number of cards of that color.
+     */
+    default int countColor(final CardColor color, final boolean darkSide) {
+        int count = 0;
+        for (final T card : getSnapshot()) {
+            if (card.getSide(darkSide).hasColor(color)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the cards that {@link #drawUntilColor(CardColor, boolean)} would
+     * draw: the cards above the first one of the color, plus that card, or
+     * the whole deck if no card of the color is left.
+     * The default implementation looks at the cards from the top.
+     * 
+     * @param color    The color to reach.
+     * @param darkSide true to look at the dark side of the cards.
+     * @return The number of cards to draw.
+     */
+    default int countUntilColor(final CardColor color, final boolean darkSide) {
+        final List<T> cards = getSnapshot();
+        for (int i = cards.size() - 1; i >= 0; i--) {
+            if (cards.get(i).getSide(darkSide).hasColor(color)) {
+                return cards.size() - i;
+            }
+        }
+        return cards.size();
+    }
+
+    /**
+     * Draws cards until the first one of a color, included, or until the
+     * deck is empty, and returns them all at once.
+     * 
+     * @param color    The color to reach.
+     * @param darkSide true to look at the dark side of the cards.
+     * @return The drawn cards, in drawing order: the last one has the color,
+     *         unless the color was not in the deck.
+     */
+    default List<T> drawUntilColor(final CardColor color, final boolean darkSide) {
+        final int count = countUntilColor(color, darkSide);
+        final List<T> drawn = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            draw().ifPresent(drawn::add);
+        }
+        return drawn;
+    }
+
     /**
      * Getter of the logger.
      * 
@@ -0,0 +1,18 @@
+package uno.model.cards.deck.api;
+
+/**
+ * Selects how the draw deck stores its cards.
+ */
+public enum DeckStorage {
+
+    /**
+     * List of card references; the general purpose implementation.
+     */
+    LIST,
+
+    /**
+     * Primitive array of catalog ids; draws without allocating, meant for
+     * simulation workloads.
+     */
+    INT_ARRAY
+}
@@ -1,5 +1,6 @@
 package uno.model.cards.deck.impl;
 
+import uno.model.cards.attributes.CardColor;
 import uno.model.cards.deck.api.Deck;
 import uno.model.cards.types.api.Card;
 import uno.model.utils.api.GameLogger;
@@ -8,6 +9,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Abstract implementation of the {@link Deck} interface.
@@ -21,6 +24,7 @@ public abstract class AbstractDeckImpl<T extends Card> implements Deck<T> {
 
     private final GameLogger logger;
     private final List<T> cards;
+    private final RandomGenerator random;
 
     /**
      * Default constructor. Initializes an empty deck.
@@ -30,8 +34,20 @@ public abstract class AbstractDeckImpl<T extends Card> implements Deck<T> {
      * @param logger logger for logging deck operations.
      */
     public AbstractDeckImpl(final GameLogger logger) {
+        this(logger, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Initializes an empty deck that shuffles with the given random source.
+     * Passing a seeded source makes every shuffle of the deck reproducible.
+     * 
+     * @param logger logger for logging deck operations.
+     * @param random random source used by {@link #shuffle()}.
+     */
+    public AbstractDeckImpl(final GameLogger logger, final RandomGenerator random) {
         this.logger = logger;
         this.cards = new ArrayList<>();
+        this.random = random;
     }
 
     /**
@@ -44,6 +60,7 @@ public abstract class AbstractDeckImpl<T extends Card> implements Deck<T> {
     public AbstractDeckImpl(final List<T> initialCards, final GameLogger logger) {
         this.logger = logger;
         this.cards = new ArrayList<>(initialCards);
+        this.random = ThreadLocalRandom.current();
         shuffle();
     }
 
@@ -53,7 +70,7 @@ public abstract class AbstractDeckImpl<T extends Card> implements Deck<T> {
     @Override
     public final void shuffle() {
         if (!cards.isEmpty()) {
-            Collections.shuffle(cards);
+            Collections.shuffle(cards, random);
         }
     }
 
@@ -68,6 +85,18 @@ public abstract class AbstractDeckImpl<T extends Card> implements Deck<T> {
         return Optional.of(cards.remove(cards.size() - 1));
     }
 
+    /**
+     * {@inheritDoc}
+     * The cards are taken from the top of the list in a single range removal.
+     */
+    @Override
+    public final List<T> drawMany(final int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Cannot draw " + n + " cards.");
+        }
+        return takeTop(Math.min(n, cards.size()));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -115,6 +144,51 @@ public abstract class AbstractDeckImpl<T extends Card> implements Deck<T> {
         return cards.size();
     }
 
+    /**
+     * {@inheritDoc}
+     * Looks at the cards from the top, without copying them.
+     */
+    @Override
+    public final int countUntilColor(final CardColor color, final boolean darkSide) {
+        for (int i = cards.size() - 1; i >= 0; i--) {
+            if (cards.get(i).getSide(darkSide).hasColor(color)) {
+                return cards.size() - i;
+            }
+        }
+        return cards.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The cards are taken from the top of the list in a single range removal.
+     */
+    @Override
+    public final List<T> drawUntilColor(final CardColor color, final boolean darkSide) {
+        return takeTop(countUntilColor(color, darkSide));
+    }
+
+    /**
+     * Removes cards from the top of the deck in a single range removal.
+     * 
+     * @param count the number of cards, at most the size of the deck.
+     * @return the removed cards, in drawing order.
+     */
+    private List<T> takeTop(final int count) {
+        final List<T> top = cards.subList(cards.size() - count, cards.size());
+        final List<T> drawn = new ArrayList<>(top);
+        Collections.reverse(drawn);
+        top.clear();
+        return drawn;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final List<T> getSnapshot() {
+        return new ArrayList<>(cards);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,118 @@
+package uno.model.cards.deck.impl;
+
+import uno.model.cards.behaviors.api.CardSideBehavior;
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.cards.types.api.Card;
+import uno.model.cards.types.impl.DoubleSidedCard;
+import uno.model.game.api.GameMode;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Implementation of the {@link CardCatalog} interface.
+ * Catalogs are built once per game mode, on first use, from the card
+ * definitions of the corresponding deck class, and then shared.
+ */
+public final class CardCatalogImpl implements CardCatalog {
+
+    private static final Map<GameMode, CardCatalog> CATALOGS = new EnumMap<>(GameMode.class);
+
+    private final GameMode mode;
+    private final List<Card> cards;
+
+    /**
+     * Builds the catalog of a mode, numbering its cards in definition order.
+     * 
+     * @param mode The game mode.
+     */
+    private CardCatalogImpl(final GameMode mode) {
+        final List<Card> defined = new ArrayList<>();
+        final BiConsumer<CardSideBehavior, CardSideBehavior> sink =
+                (light, dark) -> defined.add(new DoubleSidedCard(defined.size(), light, dark));
+
+        switch (mode) {
+            case FLIP:
+                FlipDeck.defineCards(sink);
+                break;
+            case ALL_WILD:
+                AllWildDeck.defineCards(sink);
+                break;
+            default:
+                StandardDeck.defineCards(sink);
+                break;
+        }
+
+        this.mode = mode;
+        this.cards = List.copyOf(defined);
+    }
+
+    /**
+     * Gets the shared catalog of a game mode, building it on first use.
+     * 
+     * @param mode The game mode.
+     * @return The catalog of the mode.
+     */
+    public static CardCatalog forMode(final GameMode mode) {
+        synchronized (CATALOGS) {
+            return CATALOGS.computeIfAbsent(mode, CardCatalogImpl::new);
+        }
+    }
+
+    /**
+     * Finds the catalog a card belongs to.
+     * 
+     * @param card The card.
+     * @return The catalog holding this very card, or empty if the card was not
+     *         created by a catalog.
+     */
+    public static Optional<CardCatalog> ofCard(final Card card) {
+        final int id = card.getId();
+        for (final GameMode mode : GameMode.values()) {
+            final CardCatalog catalog = forMode(mode);
+            if (id >= 0 && id < catalog.size() && catalog.getCard(id) == card) {
+                return Optional.of(catalog);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameMode getMode() {
+        return mode;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return cards.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Card getCard(final int id) {
+        return cards.get(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressFBWarnings("EI_EXPOSE_REP")
+    public List<Card> getCards() {
+        return cards;
+    }
+}
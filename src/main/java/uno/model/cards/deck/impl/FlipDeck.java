@@ -17,18 +17,24 @@ import uno.model.cards.behaviors.impl.FlipBehavior;
 import uno.model.cards.behaviors.impl.NumericBehavior;
 import uno.model.cards.behaviors.impl.WildBehavior;
 import uno.model.cards.types.api.Card;
-import uno.model.cards.types.impl.DoubleSidedCard;
 import uno.model.game.api.Game;
+import uno.model.game.api.GameMode;
 import uno.model.utils.api.GameLogger;
 
 import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
 
 import uno.model.cards.dto.CardSide;
 import uno.model.cards.dto.DoubleSidedEntryDTO;
 
 /**
  * Represents the deck for the "Uno Flip" variant.
- * This class loads the Light-to-Dark side mapping from a JSON resource file.
+ * This class loads the Light-to-Dark side mapping from a JSON resource file,
+ * once per application, to build the shared catalog of the mode.
  * It maps specific behaviors (like {@link FlipBehavior} or
  * {@link WildBehavior})
  * based on the card values defined in the configuration.
@@ -39,40 +45,55 @@ public class FlipDeck extends AbstractDeckImpl<Card> {
     private static final int DRAW_FIVE_COUNT = 5;
 
     /**
-     * Constructs a new FlipDeck by loading the card mappings from JSON (112 cards).
+     * Constructs a new FlipDeck with the cards of the Flip catalog (112 cards).
      * 
      * @param logger logger for logging deck operations.
      */
     public FlipDeck(final GameLogger logger) {
-        super(logger);
-        initializeDeck();
+        this(logger, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Constructs a new FlipDeck with the cards of the Flip catalog (112 cards).
+     * The deck is shuffled with the given random source.
+     * 
+     * @param logger logger for logging deck operations.
+     * @param random random source used to shuffle the deck.
+     */
+    public FlipDeck(final GameLogger logger, final RandomGenerator random) {
+        super(logger, random);
+        refill(CardCatalogImpl.forMode(GameMode.FLIP).getCards());
         shuffle();
     }
 
     /**
-     * Reads the JSON configuration and populates the deck.
+     * Reads the JSON configuration and defines the cards of the deck.
+     * 
+     * @param sink receives the light and dark face of each physical card.
      */
-    private void initializeDeck() {
+    static void defineCards(final BiConsumer<CardSideBehavior, CardSideBehavior> sink) {
         final Gson gson = new Gson();
 
         try (InputStream is = FlipDeck.class.getResourceAsStream(RESOURCE_PATH)) {
             try (Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
                 final DoubleSidedEntryDTO[] mappings = gson.fromJson(reader, DoubleSidedEntryDTO[].class);
                 for (final DoubleSidedEntryDTO mapping : mappings) {
-                    addCardMappingToDeck(mapping);
+                    defineMapping(sink, mapping);
                 }
             }
         } catch (final IOException e) {
-            this.getLogger().logError("Error during reading of resource file: " + RESOURCE_PATH, e);
+            Logger.getLogger("UNO").log(Level.SEVERE, "Error during reading of resource file: " + RESOURCE_PATH, e);
         }
     }
 
     /**
-     * Creates Card instances from a mapping and adds them to the deck.
+     * Defines the cards of a mapping. All the copies share the same behaviors.
      * 
+     * @param sink    receives the light and dark face of each physical card.
      * @param mapping The mapping defining light and dark sides and count.
      */
-    private void addCardMappingToDeck(final DoubleSidedEntryDTO mapping) {
+    private static void defineMapping(final BiConsumer<CardSideBehavior, CardSideBehavior> sink,
+            final DoubleSidedEntryDTO mapping) {
         // Create Data Objects (Faces) locally
         final CardSide lightFace = new CardSide(
                 CardColor.valueOf(mapping.getLight().getColor().toUpperCase(Locale.ROOT)),
@@ -90,8 +111,7 @@ public class FlipDeck extends AbstractDeckImpl<Card> {
         final int quantity = (mapping.getCount() > 0) ? mapping.getCount() : 1;
 
         for (int i = 0; i < quantity; i++) {
-            final Card card = new DoubleSidedCard(lightBehavior, darkBehavior);
-            this.addCard(card);
+            sink.accept(lightBehavior, darkBehavior);
         }
     }
 
@@ -102,7 +122,7 @@ public class FlipDeck extends AbstractDeckImpl<Card> {
      * @param side The card side data (color and value).
      * @return The corresponding CardSideBehavior instance.
      */
-    private CardSideBehavior createBehavior(final CardSide side) {
+    private static CardSideBehavior createBehavior(final CardSide side) {
         final CardColor c = side.color();
         final CardValue v = side.value();
 
@@ -128,7 +148,7 @@ public class FlipDeck extends AbstractDeckImpl<Card> {
             case SKIP:
                 return new ActionBehavior(c, v, g -> g.skipPlayers(1));
             case SKIP_EVERYONE:
-                return new ActionBehavior(c, v, g -> g.skipPlayers(g.getPlayers().size() - 1));
+                return new ActionBehavior(c, v, g -> g.skipPlayers(g.getTurnManager().getActivePlayerCount() - 1));
             case REVERSE:
                 return new ActionBehavior(c, v, Game::reversePlayOrder);
             case FLIP:
@@ -0,0 +1,447 @@
+package uno.model.cards.deck.impl;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.behaviors.api.CardSideBehavior;
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.cards.deck.api.Deck;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.GameMode;
+import uno.model.utils.api.GameLogger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.random.RandomGenerator;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Implementation of the {@link Deck} interface backed by a primitive array of
+ * card ids from a {@link CardCatalog}.
+ * The top of the deck is the last used slot of the array. Draw and peek return
+ * {@link Optional} instances cached once per catalog card, so they do not
+ * allocate; shuffling is an in-place Fisher-Yates over the ids, which visits
+ * the same positions as {@link Collections#shuffle(List, RandomGenerator)}, so a
+ * seeded game deals the same cards with either implementation.
+ * The deck also indexes its cards by color, on each side: for every position
+ * it keeps the position of the nearest card of the same color below it, and
+ * for every color the topmost position and the number of cards. How many
+ * cards a draw-until-color takes is then known without looking at the deck,
+ * and the index follows draws and additions in constant time.
+ */
+public final class IntArrayDeck implements Deck<Card> {
+
+    private static final Map<GameMode, List<Optional<Card>>> CACHED_OPTIONALS = new EnumMap<>(GameMode.class);
+    private static final int SIDES = 2;
+    private static final int NO_COLOR = CardColor.values().length;
+    private static final int KEYS = NO_COLOR + 1;
+    private static final int NONE = -1;
+
+    private final CardCatalog catalog;
+    private final List<Optional<Card>> optionals;
+    private final GameLogger logger;
+    private final RandomGenerator random;
+    private final byte[] colors;
+    private final int[] topmost = new int[SIDES * KEYS];
+    private final int[] colorCounts = new int[SIDES * KEYS];
+    private final int[][] below = new int[SIDES][];
+    private int[] ids;
+    private int size;
+
+    /**
+     * Creates a deck holding every card of the catalog, shuffled.
+     * 
+     * @param catalog the catalog the cards belong to.
+     * @param logger  logger for logging deck operations.
+     * @param random  random source used by {@link #shuffle()}.
+     */
+    public IntArrayDeck(final CardCatalog catalog, final GameLogger logger, final RandomGenerator random) {
+        this(catalog, logger, random, catalog.size());
+        for (int id = 0; id < ids.length; id++) {
+            ids[id] = id;
+        }
+        this.size = ids.length;
+        shuffle();
+    }
+
+    /**
+     * Creates a deck holding the given card ids in that order, the last one on
+     * top. The deck is not shuffled.
+     * 
+     * @param catalog the catalog the cards belong to.
+     * @param logger  logger for logging deck operations.
+     * @param random  random source used by {@link #shuffle()}.
+     * @param cardIds the array holding the ids.
+     * @param from    the index of the first id to copy.
+     * @param count   the number of ids to copy.
+     */
+    public IntArrayDeck(final CardCatalog catalog, final GameLogger logger, final RandomGenerator random,
+            final int[] cardIds, final int from, final int count) {
+        this(catalog, logger, random, catalog.size());
+        refillIds(cardIds, from, count);
+    }
+
+    /**
+     * Creates an empty deck.
+     * 
+     * @param catalog  the catalog the cards belong to.
+     * @param logger   logger for logging deck operations.
+     * @param random   random source used by {@link #shuffle()}.
+     * @param capacity the initial capacity of the id array.
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    private IntArrayDeck(final CardCatalog catalog, final GameLogger logger, final RandomGenerator random,
+            final int capacity) {
+        this.catalog = catalog;
+        this.optionals = optionalsOf(catalog);
+        this.logger = logger;
+        this.random = random;
+        this.colors = colorsOf(catalog);
+        this.ids = new int[capacity];
+        for (int side = 0; side < SIDES; side++) {
+            below[side] = new int[capacity];
+        }
+        Arrays.fill(topmost, NONE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void shuffle() {
+        for (int i = size - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int tmp = ids[i];
+            ids[i] = ids[j];
+            ids[j] = tmp;
+        }
+        reindex();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Card> draw() {
+        if (size == 0) {
+            return Optional.empty();
+        }
+        size--;
+        unindex(size);
+        return optionals.get(ids[size]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Card> peek() {
+        if (size == 0) {
+            return Optional.empty();
+        }
+        return optionals.get(ids[size - 1]);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException if the card does not belong to the catalog
+     *                                  of this deck.
+     */
+    @Override
+    public void addCard(final Card card) {
+        if (card != null) {
+            ensureCapacity(size + 1);
+            ids[size] = idOf(card);
+            index(size++);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException if a card does not belong to the catalog
+     *                                  of this deck.
+     */
+    @Override
+    public void refill(final List<Card> newCards) {
+        if (newCards != null && !newCards.isEmpty()) {
+            ensureCapacity(size + newCards.size());
+            for (final Card card : newCards) {
+                ids[size] = idOf(card);
+                index(size++);
+            }
+        }
+    }
+
+    /**
+     * Replenishes the deck with a block of card ids, copied in bulk on top of
+     * the current cards.
+     * 
+     * @param newIds the array holding the ids.
+     * @param from   the index of the first id to copy.
+     * @param count  the number of ids to copy.
+     */
+    public void refillIds(final int[] newIds, final int from, final int count) {
+        for (int i = from; i < from + count; i++) {
+            checkId(newIds[i]);
+        }
+        ensureCapacity(size + count);
+        System.arraycopy(newIds, from, ids, size, count);
+        for (int i = 0; i < count; i++) {
+            index(size++);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Answered from the color index.
+     */
+    @Override
+    public int countColor(final CardColor color, final boolean darkSide) {
+        return colorCounts[key(darkSide ? 1 : 0, color.ordinal())];
+    }
+
+    /**
+     * {@inheritDoc}
+     * Answered from the color index.
+     */
+    @Override
+    public int countUntilColor(final CardColor color, final boolean darkSide) {
+        final int position = topmost[key(darkSide ? 1 : 0, color.ordinal())];
+        return position == NONE ? size : size - position;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Card> drawMany(final int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Cannot draw " + n + " cards.");
+        }
+        return takeTop(Math.min(n, size));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Card> drawUntilColor(final CardColor color, final boolean darkSide) {
+        return takeTop(countUntilColor(color, darkSide));
+    }
+
+    /**
+     * Removes cards from the top of the deck.
+     * 
+     * @param count the number of cards, at most the size of the deck.
+     * @return the removed cards, in drawing order.
+     */
+    private List<Card> takeTop(final int count) {
+        final List<Card> drawn = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            size--;
+            unindex(size);
+            drawn.add(catalog.getCard(ids[size]));
+        }
+        return drawn;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Card> getSnapshot() {
+        final List<Card> cards = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            cards.add(catalog.getCard(ids[i]));
+        }
+        return cards;
+    }
+
+    /**
+     * Returns a copy of the ids in the deck, in the order of
+     * {@link #getSnapshot()}, without looking up the cards.
+     * 
+     * @return the ids, the next one drawn last.
+     */
+    public int[] getIds() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * Gets the catalog the cards of this deck belong to.
+     * 
+     * @return the catalog.
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP")
+    public CardCatalog getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressFBWarnings("EI_EXPOSE_REP")
+    public GameLogger getLogger() {
+        return logger;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "IntArrayDeck{size=" + size + "}";
+    }
+
+    /**
+     * Grows the id array, if needed, to hold the given number of cards.
+     * 
+     * @param capacity the number of cards to hold.
+     */
+    private void ensureCapacity(final int capacity) {
+        if (capacity > ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(capacity, ids.length * 2));
+            for (int side = 0; side < SIDES; side++) {
+                below[side] = Arrays.copyOf(below[side], ids.length);
+            }
+        }
+    }
+
+    /**
+     * Adds the card at a position to the color index. The position must be
+     * the top of the deck.
+     * 
+     * @param position the position of the card.
+     */
+    private void index(final int position) {
+        for (int side = 0; side < SIDES; side++) {
+            final int key = key(side, colors[side * catalog.size() + ids[position]]);
+            below[side][position] = topmost[key];
+            topmost[key] = position;
+            colorCounts[key]++;
+        }
+    }
+
+    /**
+     * Removes the card at a position from the color index. The position must
+     * be the top of the deck.
+     * 
+     * @param position the position of the card.
+     */
+    private void unindex(final int position) {
+        for (int side = 0; side < SIDES; side++) {
+            final int key = key(side, colors[side * catalog.size() + ids[position]]);
+            topmost[key] = below[side][position];
+            colorCounts[key]--;
+        }
+    }
+
+    /**
+     * Rebuilds the color index after the order of the cards changed.
+     */
+    private void reindex() {
+        Arrays.fill(topmost, NONE);
+        Arrays.fill(colorCounts, 0);
+        for (int position = 0; position < size; position++) {
+            index(position);
+        }
+    }
+
+    /**
+     * Gets the slot of a color of a side in the color index.
+     * 
+     * @param side  0 for the light side, 1 for the dark side.
+     * @param color the ordinal of the color, or {@link #NO_COLOR}.
+     * @return the slot.
+     */
+    private static int key(final int side, final int color) {
+        return side * KEYS + color;
+    }
+
+    /**
+     * Returns the catalog id of a card, checking that it belongs to this catalog.
+     * 
+     * @param card the card.
+     * @return the id of the card.
+     */
+    private int idOf(final Card card) {
+        final int id = card.getId();
+        checkId(id);
+        if (catalog.getCard(id) != card) {
+            throw new IllegalArgumentException("Card " + card + " does not belong to the "
+                    + catalog.getMode() + " catalog.");
+        }
+        return id;
+    }
+
+    /**
+     * Checks that an id is in the range of the catalog.
+     * 
+     * @param id the id to check.
+     */
+    private void checkId(final int id) {
+        if (id < 0 || id >= catalog.size()) {
+            throw new IllegalArgumentException("Card id " + id + " is not in the " + catalog.getMode() + " catalog.");
+        }
+    }
+
+    /**
+     * Lists the color of both sides of the cards of a catalog.
+     * 
+     * @param catalog the catalog.
+     * @return the color ordinals of the light sides, indexed by card id, followed
+     *         by those of the dark sides; {@link #NO_COLOR} for card backs.
+     */
+    private static byte[] colorsOf(final CardCatalog catalog) {
+        final byte[] colors = new byte[SIDES * catalog.size()];
+        for (int side = 0; side < SIDES; side++) {
+            for (int id = 0; id < catalog.size(); id++) {
+                final CardSideBehavior face = catalog.getCard(id).getSide(side == 1);
+                colors[side * catalog.size() + id] = (byte) (face.isBack() ? NO_COLOR : face.getColor().ordinal());
+            }
+        }
+        return colors;
+    }
+
+    /**
+     * Returns the cached optionals of the cards of a catalog, creating them on
+     * first use.
+     * 
+     * @param catalog the catalog.
+     * @return the optionals, indexed by card id.
+     */
+    private static List<Optional<Card>> optionalsOf(final CardCatalog catalog) {
+        synchronized (CACHED_OPTIONALS) {
+            return CACHED_OPTIONALS.computeIfAbsent(catalog.getMode(), mode -> {
+                final List<Optional<Card>> cached = new ArrayList<>(catalog.size());
+                for (final Card card : catalog.getCards()) {
+                    cached.add(Optional.of(card));
+                }
+                return Collections.unmodifiableList(cached);
+            });
+        }
+    }
+}
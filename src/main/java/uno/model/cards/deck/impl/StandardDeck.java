@@ -2,6 +2,9 @@ package uno.model.cards.deck.impl;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+import java.util.random.RandomGenerator;
 
 import uno.model.cards.attributes.CardColor;
 import uno.model.cards.attributes.CardValue;
@@ -13,32 +16,49 @@ import uno.model.cards.behaviors.impl.NumericBehavior;
 import uno.model.cards.behaviors.impl.WildBehavior;
 import uno.model.cards.types.api.Card;
 import uno.model.cards.types.impl.DoubleSidedCard;
+import uno.model.game.api.GameMode;
 import uno.model.utils.api.GameLogger;
 import uno.model.game.api.Game;
 
 /**
  * Represents the deck for the "Uno Standard".
- * It extends {@link AbstractDeckImpl} and initializes the cards in the constructor
- * by creating {@link DoubleSidedCard} instances where the back side is always
- * the standard {@link BackSideBehavior}.
+ * It extends {@link AbstractDeckImpl} and takes its cards from the shared
+ * {@link CardCatalogImpl catalog} of the mode, made of {@link DoubleSidedCard}
+ * instances where the back side is always the standard {@link BackSideBehavior}.
  */
 public class StandardDeck extends AbstractDeckImpl<Card> {
 
+    private static final int WILD_COPIES = 4;
+
     /**
      * Constructs a new StandardDeck by populating it with the standard UNO cards (108 cards).
      * 
      * @param logger logger for logging deck operations.
      */
     public StandardDeck(final GameLogger logger) {
-        super(logger);
-        initializeDeck();
+        this(logger, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Constructs a new StandardDeck by populating it with the standard UNO cards (108 cards).
+     * The deck is shuffled with the given random source.
+     * 
+     * @param logger logger for logging deck operations.
+     * @param random random source used to shuffle the deck.
+     */
+    public StandardDeck(final GameLogger logger, final RandomGenerator random) {
+        super(logger, random);
+        refill(CardCatalogImpl.forMode(GameMode.STANDARD).getCards());
         shuffle();
     }
 
     /**
-     * Fills the deck according to standard UNO rules.
+     * Defines the cards of the deck according to standard UNO rules.
+     * Identical copies of a card share the same behavior instances.
+     * 
+     * @param sink receives the light and dark face of each physical card.
      */
-    private void initializeDeck() {
+    static void defineCards(final BiConsumer<CardSideBehavior, CardSideBehavior> sink) {
         final List<CardColor> colors = Arrays.asList(
             CardColor.RED, CardColor.BLUE, CardColor.GREEN, CardColor.YELLOW
         );
@@ -50,43 +70,45 @@ public class StandardDeck extends AbstractDeckImpl<Card> {
 
         for (final CardColor color : colors) {
             // ZERO (Only 1 per color)
-            createAndAddCard(new NumericBehavior(color, CardValue.ZERO));
+            defineCopies(sink, new NumericBehavior(color, CardValue.ZERO), 1);
 
             // NUMBERS 1-9 (2 per color)
             for (final CardValue value : numberValues) {
-                createAndAddCard(new NumericBehavior(color, value));
-                createAndAddCard(new NumericBehavior(color, value));
+                defineCopies(sink, new NumericBehavior(color, value), 2);
             }
 
             // ACTIONS (2 per color)
             // Skip
-            createAndAddCard(new ActionBehavior(color, CardValue.SKIP, g -> g.skipPlayers(1)));
-            createAndAddCard(new ActionBehavior(color, CardValue.SKIP, g -> g.skipPlayers(1)));
+            defineCopies(sink, new ActionBehavior(color, CardValue.SKIP, g -> g.skipPlayers(1)), 2);
 
             // Reverse
-            createAndAddCard(new ActionBehavior(color, CardValue.REVERSE, Game::reversePlayOrder));
-            createAndAddCard(new ActionBehavior(color, CardValue.REVERSE, Game::reversePlayOrder));
+            defineCopies(sink, new ActionBehavior(color, CardValue.REVERSE, Game::reversePlayOrder), 2);
 
             // Draw Two
-            createAndAddCard(new DrawBehavior(color, CardValue.DRAW_TWO, 2));
-            createAndAddCard(new DrawBehavior(color, CardValue.DRAW_TWO, 2));
+            defineCopies(sink, new DrawBehavior(color, CardValue.DRAW_TWO, 2), 2);
         }
 
         // WILD CARDS (4 each)
-        for (int i = 0; i < 4; i++) {
-            createAndAddCard(new WildBehavior(CardValue.WILD, 0));
-            createAndAddCard(new WildBehavior(CardValue.WILD_DRAW_FOUR, 4));
+        final CardSideBehavior wild = new WildBehavior(CardValue.WILD, 0);
+        final CardSideBehavior wildDrawFour = new WildBehavior(CardValue.WILD_DRAW_FOUR, 4);
+        for (int i = 0; i < WILD_COPIES; i++) {
+            sink.accept(wild, BackSideBehavior.getInstance());
+            sink.accept(wildDrawFour, BackSideBehavior.getInstance());
         }
     }
 
     /**
-     * Helper method to wrap a behavior into a standard DoubleSidedCard.
-     * Uses the parent's addCard() method to insert it into the protected list.
+     * Helper method to define several standard cards sharing the same front
+     * behavior; the back side is always the standard card back.
      * 
-     * @param frontBehavior The behavior for the front side of the card.
+     * @param sink          receives the faces of each physical card.
+     * @param frontBehavior The behavior for the front side of the cards.
+     * @param copies        The number of physical cards.
      */
-    private void createAndAddCard(final CardSideBehavior frontBehavior) {
-        final Card card = new DoubleSidedCard(frontBehavior, BackSideBehavior.getInstance());
-        this.addCard(card);
+    private static void defineCopies(final BiConsumer<CardSideBehavior, CardSideBehavior> sink,
+            final CardSideBehavior frontBehavior, final int copies) {
+        for (int i = 0; i < copies; i++) {
+            sink.accept(frontBehavior, BackSideBehavior.getInstance());
+        }
     }
 }
@@ -2,6 +2,7 @@ package uno.model.cards.types.api;
 
 import uno.model.cards.attributes.CardColor;
 import uno.model.cards.attributes.CardValue;
+import uno.model.cards.behaviors.api.CardSideBehavior;
 import uno.model.game.api.Game;
 
 /**
@@ -12,6 +13,20 @@ import uno.model.game.api.Game;
  */
 public interface Card {
 
+    /**
+     * Identifier of cards that do not belong to a card catalog.
+     */
+    int NO_ID = -1;
+
+    /**
+     * Gets the identifier of this physical card inside the catalog of its game
+     * mode. Identifiers are small, dense and start from zero.
+     * 
+     * @return The catalog identifier, or {@link #NO_ID} if the card was created
+     *         outside a catalog.
+     */
+    int getId();
+
     /**
      * Gets the current color of the card based on the game state.
      * 
@@ -29,6 +44,15 @@ public interface Card {
      */
     CardValue getValue(Game game);
 
+    /**
+     * Gets one of the two faces of the card, regardless of the side currently in play.
+     * Used by structures that index cards ahead of time, such as player hands.
+     * 
+     * @param dark true for the dark face, false for the light face.
+     * @return The behavior of the requested face.
+     */
+    CardSideBehavior getSide(boolean dark);
+
     /**
      * Determines if this card can be legally played on top of the discard pile's
      * current card.
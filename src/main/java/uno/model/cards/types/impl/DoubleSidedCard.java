@@ -2,6 +2,7 @@ package uno.model.cards.types.impl;
 
 import uno.model.cards.attributes.CardColor;
 import uno.model.cards.attributes.CardValue;
+import uno.model.cards.attributes.PlayabilityTable;
 import uno.model.cards.behaviors.api.CardSideBehavior;
 import uno.model.cards.types.api.Card;
 import uno.model.game.api.Game;
@@ -17,18 +18,48 @@ import java.util.Objects;
  */
 public class DoubleSidedCard implements Card {
 
+    private static final int NO_FACE = -1;
+
+    private final int id;
     private final CardSideBehavior lightSide;
     private final CardSideBehavior darkSide;
+    private final int lightFace;
+    private final int darkFace;
 
     /**
-     * Constructs a card with two distinct behaviors.
+     * Constructs a card with two distinct behaviors, outside any catalog.
      * 
      * @param lightSide The behavior when the game is in Light Mode.
      * @param darkSide  The behavior when the game is in Dark Mode.
      */
     public DoubleSidedCard(final CardSideBehavior lightSide, final CardSideBehavior darkSide) {
+        this(NO_ID, lightSide, darkSide);
+    }
+
+    /**
+     * Constructs a catalog card with two distinct behaviors.
+     * 
+     * @param id        The identifier of the card inside its catalog.
+     * @param lightSide The behavior when the game is in Light Mode.
+     * @param darkSide  The behavior when the game is in Dark Mode.
+     */
+    public DoubleSidedCard(final int id, final CardSideBehavior lightSide, final CardSideBehavior darkSide) {
+        this.id = id;
         this.lightSide = Objects.requireNonNull(lightSide, "Light side behavior cannot be null");
         this.darkSide = Objects.requireNonNull(darkSide, "Dark side behavior cannot be null");
+        this.lightFace = faceOf(lightSide);
+        this.darkFace = faceOf(darkSide);
+    }
+
+    /**
+     * Gets the index of a side in the {@link PlayabilityTable}.
+     * 
+     * @param side The behavior of the side.
+     * @return The index of its face, or {@value #NO_FACE} for the card back,
+     *         which has neither color nor value.
+     */
+    private static int faceOf(final CardSideBehavior side) {
+        return side.isBack() ? NO_FACE : PlayabilityTable.face(side.getColor(), side.getValue());
     }
 
     /**
@@ -41,6 +72,14 @@ public class DoubleSidedCard implements Card {
         return game.isDarkSide() ? darkSide : lightSide;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getId() {
+        return id;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -57,6 +96,14 @@ public class DoubleSidedCard implements Card {
         return getActiveSide(game).getValue();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CardSideBehavior getSide(final boolean dark) {
+        return dark ? darkSide : lightSide;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -75,16 +122,23 @@ public class DoubleSidedCard implements Card {
 
     /**
      * {@inheritDoc}
+     * The rule is looked up in the {@link PlayabilityTable} by the index of the
+     * active face.
      */
     @Override
     public boolean canBePlayedOn(final Card topCard, final Game game) {
-        final CardSideBehavior myFace = this.getActiveSide(game);
+        final boolean dark = game.isDarkSide();
+        final int face = dark ? darkFace : lightFace;
 
         final CardColor targetColor = game.getCurrentColor()
                 .orElse(topCard.getColor(game));
 
-        return myFace.getColor() == CardColor.WILD || myFace.getColor() == targetColor
-                || myFace.getValue() == topCard.getValue(game);
+        if (face == NO_FACE) {
+            final CardSideBehavior myFace = getSide(dark);
+            return myFace.getColor() == CardColor.WILD || myFace.getColor() == targetColor
+                    || myFace.getValue() == topCard.getValue(game);
+        }
+        return PlayabilityTable.isPlayable(face, targetColor, topCard.getValue(game));
     }
 
     /**
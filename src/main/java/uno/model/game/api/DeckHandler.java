@@ -1,5 +1,6 @@
 package uno.model.game.api;
 
+import uno.model.cards.attributes.CardColor;
 import uno.model.cards.deck.api.Deck;
 import uno.model.cards.types.api.Card;
 import uno.model.players.impl.AbstractPlayer;
@@ -19,6 +20,33 @@ public interface DeckHandler {
      */
     boolean drawCardForPlayer(AbstractPlayer player, GameContext game);
 
+    /**
+     * Draws several cards for a player at once: the discard pile is
+     * reshuffled at most once, the cards are added to the hand in one
+     * operation and a single draw is logged.
+     * 
+     * @param player The player drawing the cards.
+     * @param n      The number of cards to draw.
+     * @param game   The game context.
+     * @return true if draw successful, false if game should end (e.g. empty deck no
+     *         reshuffle).
+     */
+    boolean drawCardsForPlayer(AbstractPlayer player, int n, GameContext game);
+
+    /**
+     * Draws cards for a player until one of the given color, handing them over
+     * in one transfer. If the draw deck holds no card of the color, the player
+     * takes the whole deck, the discard pile is reshuffled into it once (unless
+     * the rules forbid reshuffling) and the draw goes on; if the color is still
+     * missing, the draw stops.
+     * 
+     * @param player The player drawing the cards.
+     * @param color  The color to reach.
+     * @param game   The game context.
+     * @return The number of cards drawn.
+     */
+    int drawUntilColorForPlayer(AbstractPlayer player, CardColor color, GameContext game);
+
     /**
      * Gets the draw deck.
      * 
@@ -27,9 +27,20 @@ public interface Game {
 
     /**
      * Notifies all registered observers about a state change.
+     * Inside an update scope the notification is deferred to the end of the scope.
      */
     void notifyObservers();
 
+    /**
+     * Runs an action as a single logical move: the notifications it requests
+     * are merged and delivered once, after the outermost scope completes.
+     * 
+     * @param action the action to run.
+     */
+    default void runInUpdateScope(final Runnable action) {
+        action.run();
+    }
+
     /**
      * Processes a player's attempt to play a card.
      * 
@@ -68,6 +79,28 @@ public interface Game {
      */
     void chosenPlayer(AbstractPlayer player);
 
+    /**
+     * Brings a player into the rotation. An eliminated player takes back their
+     * seat; a new player sits after the last seat and is added to
+     * {@link #getPlayers()}. No cards are dealt: the player plays with the hand
+     * they hold, which is empty for a new player unless cards were given to
+     * them before.
+     * 
+     * @param player The player joining the game.
+     * @throws IllegalArgumentException if the player is already taking turns.
+     */
+    void addPlayer(AbstractPlayer player);
+
+    /**
+     * Removes a player from the rotation. The player keeps their seat in
+     * {@link #getPlayers()}, so seat numbers never change.
+     * 
+     * @param player The player to eliminate.
+     * @throws IllegalArgumentException if the player is not taking turns.
+     * @throws IllegalStateException    if the player is the last one taking turns.
+     */
+    void eliminatePlayer(AbstractPlayer player);
+
     /**
      * Skips the next n players' turns.
      * 
@@ -110,6 +143,19 @@ public interface Game {
      */
     void drawCardForPlayer(AbstractPlayer player);
 
+    /**
+     * Draws several cards for the specified player at once.
+     * The default implementation draws them one at a time.
+     * 
+     * @param player The player who will draw the cards.
+     * @param n      The number of cards to draw.
+     */
+    default void drawCardsForPlayer(final AbstractPlayer player, final int n) {
+        for (int i = 0; i < n; i++) {
+            drawCardForPlayer(player);
+        }
+    }
+
     /**
      * Causes the next player to draw cards until they pick one of the specified
      * color.
@@ -2,10 +2,12 @@ package uno.model.game.api;
 
 import uno.model.cards.attributes.CardColor;
 import uno.model.cards.types.api.Card;
+import uno.model.api.GameEvent;
 import uno.model.players.impl.AbstractPlayer;
 import uno.model.utils.api.GameLogger;
 
 import java.util.Optional;
+import java.util.random.RandomGenerator;
 
 /**
  * Interface that exposes the internal context of the Game to the State
@@ -72,6 +74,50 @@ public interface GameContext extends Game {
      */
     void setWinner(AbstractPlayer winner);
 
+    /**
+     * Sets which side of the cards is active, without the effects of a flip.
+     * Used to rebuild a game in a known state.
+     * 
+     * @param darkSide true to make the dark side active.
+     */
+    void setDarkSide(boolean darkSide);
+
+    /**
+     * Gets the random source of the game.
+     * 
+     * @return The random source shared by the deck, the turn manager and the game.
+     */
+    RandomGenerator getRandom();
+
+    /**
+     * Captures the current state of the game.
+     * 
+     * @return an immutable snapshot that can be restored into a new game.
+     * @throws IllegalStateException if the cards of the game do not come from a
+     *                               card catalog.
+     */
+    GameSnapshot snapshot();
+
+    /**
+     * Publishes a change to the observers. Inside an update scope the event is
+     * queued and delivered when the scope completes.
+     * 
+     * @param event The change.
+     */
+    void fireEvent(GameEvent event);
+
+    /**
+     * Makes a player draw until a card of the given color, on the current
+     * side, handing the cards over in one transfer. The draw is bounded: when
+     * the draw deck runs out of the color the discard pile is reshuffled into
+     * it at most once, and the draw stops if the color is still missing.
+     * 
+     * @param player The player drawing.
+     * @param color  The color to reach.
+     * @return The number of cards drawn.
+     */
+    int drawUntilColorForPlayer(AbstractPlayer player, CardColor color);
+
     /**
      * {@inheritDoc}
      */
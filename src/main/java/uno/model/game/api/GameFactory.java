@@ -4,6 +4,7 @@ import uno.model.players.impl.AbstractPlayer;
 import uno.model.utils.api.GameLogger;
 
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * Factory interface for creating Game instances.
@@ -22,6 +23,20 @@ public interface GameFactory {
      */
     Game createGame(String playerName, GameMode gameMode, List<AbstractPlayer> players);
 
+    /**
+     * Creates a new Game instance whose randomness (deck shuffles, starting
+     * player, random colors) all comes from the given source.
+     * A seeded source reproduces the entire match, provided the players make
+     * the same choices.
+     * 
+     * @param playerName The name of the human player.
+     * @param gameMode   The selected game mode.
+     * @param players    The list of players participating in the game.
+     * @param random     The random source of the game.
+     * @return A fully initialized Game instance.
+     */
+    Game createGame(String playerName, GameMode gameMode, List<AbstractPlayer> players, RandomGenerator random);
+
     /**
      * Return the logger.
      * 
@@ -0,0 +1,57 @@
+package uno.model.game.api;
+
+import uno.model.players.impl.AbstractAIPlayer;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Interface for a headless game runner.
+ * It plays complete matches between AI players without any view, timer or
+ * event dispatch thread, so that strategies can be evaluated in bulk.
+ */
+public interface GameSimulator {
+
+    /**
+     * Plays a complete match between the given AI players.
+     * The players must be fresh instances, since their hands and scores are
+     * modified by the match.
+     *
+     * @param gameMode the game mode of the match.
+     * @param players  the AI players taking part in the match.
+     * @return the outcome of the match.
+     */
+    SimulationResult simulate(GameMode gameMode, List<AbstractAIPlayer> players);
+
+    /**
+     * Plays a complete match between the given AI players, drawing every random
+     * decision from the given source. The same seed and the same lineup always
+     * produce the same match.
+     *
+     * @param gameMode the game mode of the match.
+     * @param players  the AI players taking part in the match.
+     * @param random   the random source of the match.
+     * @return the outcome of the match.
+     */
+    SimulationResult simulate(GameMode gameMode, List<AbstractAIPlayer> players, RandomGenerator random);
+
+    /**
+     * Plays a complete match between the default AI players of the given mode.
+     *
+     * @param gameMode    the game mode of the match.
+     * @param playerCount the number of AI players.
+     * @return the outcome of the match.
+     */
+    SimulationResult simulate(GameMode gameMode, int playerCount);
+
+    /**
+     * Plays several independent matches between the default AI players of the
+     * given mode.
+     *
+     * @param gameMode    the game mode of the matches.
+     * @param playerCount the number of AI players in each match.
+     * @param games       the number of matches to play.
+     * @return the outcome of each match, in the order they were played.
+     */
+    List<SimulationResult> simulateMany(GameMode gameMode, int playerCount, int games);
+}
@@ -0,0 +1,88 @@
+package uno.model.game.api;
+
+import uno.model.players.impl.AbstractPlayer;
+import uno.model.utils.api.GameLogger;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Immutable copy of the state of a game at a given moment: hands, deck order,
+ * discard pile, current color, direction, pending skips, active side, current
+ * player and state.
+ * Cards are stored by catalog id, so capturing, forking and restoring copy a
+ * few small integer arrays and never clone a card. A snapshot can be restored
+ * any number of times into an independent, playable game, which makes it the
+ * starting point of simulations and searches.
+ */
+public interface GameSnapshot {
+
+    /**
+     * Gets the game mode, which identifies the card catalog.
+     *
+     * @return the game mode.
+     */
+    GameMode getMode();
+
+    /**
+     * Gets the state the game was in.
+     *
+     * @return the state.
+     */
+    GameState getGameState();
+
+    /**
+     * Gets the number of players.
+     *
+     * @return the number of players.
+     */
+    int getPlayerCount();
+
+    /**
+     * Gets the seat of the current player.
+     *
+     * @return the index of the current player in turn order.
+     */
+    int getCurrentPlayerIndex();
+
+    /**
+     * Gets the number of cards held by a player.
+     *
+     * @param player the seat of the player.
+     * @return the size of the hand.
+     */
+    int getHandSize(int player);
+
+    /**
+     * Gets the number of cards left in the draw deck.
+     *
+     * @return the size of the draw deck.
+     */
+    int getDeckSize();
+
+    /**
+     * Creates a snapshot that a player could not tell apart from this one: the
+     * cards it cannot see, namely the other players' hands and the draw deck,
+     * are shuffled together and dealt again in the same amounts. Everything
+     * else is shared with this snapshot.
+     *
+     * @param viewer the seat of the player whose knowledge is kept.
+     * @param random the random source of the new deal.
+     * @return the new snapshot.
+     */
+    GameSnapshot fork(int viewer, RandomGenerator random);
+
+    /**
+     * Builds a new, independent game in the captured state.
+     * The given players take the seats in order: their hands, scores and UNO
+     * flags are overwritten. Restoring does not draw from the random source, so
+     * a source in the state it had at capture time continues the game exactly.
+     *
+     * @param players the players of the new game, one per seat.
+     * @param logger  the logger of the new game.
+     * @param random  the random source of the new game.
+     * @return the playable game.
+     * @throws IllegalArgumentException if the number of players does not match.
+     */
+    GameContext restore(List<? extends AbstractPlayer> players, GameLogger logger, RandomGenerator random);
+}
@@ -0,0 +1,26 @@
+package uno.model.game.api;
+
+import uno.model.api.GameModelObserver;
+
+/**
+ * Append-only record of a match, for debugging and auditing.
+ * The journal observes a game and stores the state it started from, the
+ * state of its random source and every command issued to it, plus periodic
+ * checkpoints, so that {@link MatchReplay} can rebuild the match at any point.
+ */
+public interface MatchJournal extends GameModelObserver {
+
+    /**
+     * Gets the number of commands recorded so far.
+     *
+     * @return the number of commands.
+     */
+    int getCommandCount();
+
+    /**
+     * Gets the number of checkpoints recorded so far, including the initial state.
+     *
+     * @return the number of checkpoints.
+     */
+    int getCheckpointCount();
+}
@@ -0,0 +1,30 @@
+package uno.model.game.api;
+
+import uno.model.api.GameCommand;
+
+import java.util.List;
+
+/**
+ * Deterministic replay of a match recorded by a {@link MatchJournal}.
+ */
+public interface MatchReplay {
+
+    /**
+     * Gets the commands of the match, in the order they were issued.
+     *
+     * @return the commands.
+     */
+    List<GameCommand> getCommands();
+
+    /**
+     * Rebuilds the match as it was after a number of commands. The replay
+     * starts from the latest checkpoint before that point, so its cost does not
+     * grow with the length of the match.
+     *
+     * @param commandCount the number of commands to apply, from 0 to the size
+     *                     of {@link #getCommands()}.
+     * @return a new, playable game in that state.
+     * @throws IllegalArgumentException if the count is out of range.
+     */
+    GameContext replayTo(int commandCount);
+}
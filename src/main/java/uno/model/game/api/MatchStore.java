@@ -0,0 +1,47 @@
+package uno.model.game.api;
+
+import uno.model.utils.api.GameLogger;
+
+import java.io.IOException;
+
+/**
+ * Interface for saving a match in progress and resuming it later, even after
+ * a restart of the application.
+ */
+public interface MatchStore {
+
+    /**
+     * Saves the state of a match, replacing any previous save.
+     * The state of the random source of the game is saved too, so the resumed
+     * match continues exactly as the saved one would have.
+     * 
+     * @param game the match to save.
+     * @throws IOException if the save cannot be written.
+     * @throws IllegalArgumentException if the random source of the game cannot
+     *                                  expose its state.
+     */
+    void save(GameContext game) throws IOException;
+
+    /**
+     * Loads the saved match.
+     * 
+     * @param logger the logger of the resumed match.
+     * @return a playable game in the saved state.
+     * @throws IOException if there is no save, or it cannot be read.
+     */
+    GameContext load(GameLogger logger) throws IOException;
+
+    /**
+     * Checks whether a saved match exists.
+     * 
+     * @return true if a match can be loaded.
+     */
+    boolean hasSavedMatch();
+
+    /**
+     * Deletes the saved match, if any.
+     * 
+     * @throws IOException if the save exists but cannot be deleted.
+     */
+    void delete() throws IOException;
+}
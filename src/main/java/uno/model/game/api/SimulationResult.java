@@ -0,0 +1,26 @@
+package uno.model.game.api;
+
+import uno.model.players.impl.AbstractPlayer;
+
+import java.util.Optional;
+
+/**
+ * Outcome of a single headless game.
+ *
+ * @param winner the player who won the match, or empty if the game ended without
+ *               a winner (empty deck with mandatory pass, or turn limit reached)
+ * @param turns  the number of AI turns played until the end of the match
+ * @param rounds the number of rounds played (greater than one only in scoring mode)
+ * @param score  the total score of the winner, or zero if there is no winner
+ */
+public record SimulationResult(Optional<AbstractPlayer> winner, int turns, int rounds, int score) {
+
+    /**
+     * Checks if the match ended with a winner.
+     *
+     * @return true if the match has a winner.
+     */
+    public boolean hasWinner() {
+        return winner.isPresent();
+    }
+}
@@ -0,0 +1,31 @@
+package uno.model.game.api;
+
+import java.util.Map;
+
+/**
+ * Aggregated outcome of a tournament of headless games.
+ *
+ * @param games            the number of games played
+ * @param stalledGames     the number of games that ended without a winner
+ * @param winsByAiClass    the number of wins of each AI class, keyed by simple class name
+ * @param averageTurns     the average number of turns per game
+ * @param scoreHistogram   the number of winners per score bucket, keyed by the lower
+ *                         bound of the bucket
+ */
+public record TournamentResult(long games, long stalledGames, Map<String, Long> winsByAiClass,
+        double averageTurns, Map<Integer, Long> scoreHistogram) {
+
+    /**
+     * Defensive copy of the maps.
+     *
+     * @param games          the number of games played
+     * @param stalledGames   the number of games that ended without a winner
+     * @param winsByAiClass  the number of wins of each AI class
+     * @param averageTurns   the average number of turns per game
+     * @param scoreHistogram the number of winners per score bucket
+     */
+    public TournamentResult {
+        winsByAiClass = Map.copyOf(winsByAiClass);
+        scoreHistogram = Map.copyOf(scoreHistogram);
+    }
+}
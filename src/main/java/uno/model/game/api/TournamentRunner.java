@@ -0,0 +1,49 @@
+package uno.model.game.api;
+
+import uno.model.players.impl.AbstractAIPlayer;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Interface for a runner that spreads many independent headless games over all
+ * the available cores and aggregates their results.
+ */
+public interface TournamentRunner {
+
+    /**
+     * Plays the given number of games between the default AI players of the mode.
+     *
+     * @param gameMode    the game mode of every game.
+     * @param playerCount the number of AI players in each game.
+     * @param games       the number of games to play.
+     * @return the aggregated results.
+     */
+    TournamentResult run(GameMode gameMode, int playerCount, long games);
+
+    /**
+     * Plays the given number of games, each between a fresh lineup of AI players.
+     * The supplier is called once per game, possibly from several threads at the
+     * same time, and must return new player instances with unique names that
+     * are able to play the given mode.
+     *
+     * @param gameMode the game mode of every game.
+     * @param lineup   the supplier of the players of each game.
+     * @param games    the number of games to play.
+     * @return the aggregated results.
+     */
+    TournamentResult run(GameMode gameMode, Supplier<List<AbstractAIPlayer>> lineup, long games);
+
+    /**
+     * Plays a reproducible tournament: the random source of each game is derived
+     * only from the seed and the index of the game, so the result does not
+     * depend on how the games are scheduled over the workers.
+     *
+     * @param gameMode the game mode of every game.
+     * @param lineup   the supplier of the players of each game.
+     * @param games    the number of games to play.
+     * @param seed     the base seed of the tournament.
+     * @return the aggregated results.
+     */
+    TournamentResult run(GameMode gameMode, Supplier<List<AbstractAIPlayer>> lineup, long games, long seed);
+}
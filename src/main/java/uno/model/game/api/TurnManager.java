@@ -2,6 +2,8 @@ package uno.model.game.api;
 
 import uno.model.players.impl.AbstractPlayer;
 
+import java.util.List;
+
 /**
  * Interface for managing the flow of turns in the UNO game.
  * It handles the cyclic order of players, direction
@@ -76,4 +78,80 @@ public interface TurnManager {
      * and potentially randomizing the starting player again.
      */
     void reset();
+
+    /**
+     * Makes the given participant the current player, without applying any
+     * start-of-turn check. Used to rebuild a game in a known state.
+     * 
+     * @param player The new current player.
+     * @throws IllegalArgumentException if the player does not take part in the game.
+     */
+    void setCurrentPlayer(AbstractPlayer player);
+
+    /**
+     * Gets the number of players that the next advance will skip.
+     * 
+     * @return the pending skip count.
+     */
+    int getSkipSize();
+
+    /**
+     * Sets the direction of play, without the side effects of
+     * {@link #reverseDirection()}. Used to rebuild a game in a known state.
+     * 
+     * @param clockwise true for Clockwise, false for Counter-Clockwise.
+     */
+    void setClockwise(boolean clockwise);
+
+    /**
+     * Previews the players who will play after the current one, in order,
+     * without changing the state. The first one is {@link #peekNextPlayer()};
+     * the others follow one seat at a time in the current direction, as if no
+     * further card changed the order.
+     * 
+     * @param n The number of players to look ahead.
+     * @return An unmodifiable list of at most {@code n} players, never longer
+     *         than the number of active players.
+     * @throws IllegalArgumentException if n is negative.
+     */
+    List<AbstractPlayer> peekNextPlayers(int n);
+
+    /**
+     * Gets the number of players still taking turns.
+     * 
+     * @return the number of active players.
+     */
+    int getActivePlayerCount();
+
+    /**
+     * Checks whether a player is taking turns.
+     * 
+     * @param player The player.
+     * @return true if the player is seated and not eliminated.
+     */
+    boolean isActive(AbstractPlayer player);
+
+    /**
+     * Removes a player from the rotation. If it is the current player, the
+     * turn passes to the player who would play next, without applying any
+     * start-of-turn check. The game is not notified: matches go through
+     * {@link Game#eliminatePlayer(AbstractPlayer)}.
+     * 
+     * @param player The player to eliminate.
+     * @throws IllegalArgumentException if the player is not active in the game.
+     * @throws IllegalStateException    if the player is the last active one.
+     */
+    void eliminatePlayer(AbstractPlayer player);
+
+    /**
+     * Adds a player to the rotation. An eliminated player takes back their
+     * seat; a new player sits after the last seat, before the first one.
+     * The game is not changed: matches go through
+     * {@link Game#addPlayer(AbstractPlayer)}, which also seats new players in
+     * {@link Game#getPlayers()}.
+     * 
+     * @param player The player joining the game.
+     * @throws IllegalArgumentException if the player is already active.
+     */
+    void addPlayer(AbstractPlayer player);
 }
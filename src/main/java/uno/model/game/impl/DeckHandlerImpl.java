@@ -1,5 +1,6 @@
 package uno.model.game.impl;
 
+import uno.model.cards.attributes.CardColor;
 import uno.model.cards.deck.api.Deck;
 import uno.model.cards.types.api.Card;
 import uno.model.game.api.DeckHandler;
@@ -9,6 +10,7 @@ import uno.model.game.api.GameRules;
 import uno.model.players.impl.AbstractPlayer;
 import uno.model.utils.api.GameLogger;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +21,8 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
  */
 public class DeckHandlerImpl implements DeckHandler {
 
+    private static final String VALUE_SEPARATOR = ",";
+
     private final Deck<Card> drawDeck;
     private final DiscardPile discardPile;
     private final GameRules rules;
@@ -51,7 +55,7 @@ public class DeckHandlerImpl implements DeckHandler {
     public boolean drawCardForPlayer(final AbstractPlayer player, final GameContext game) {
         if (drawDeck.isEmpty()) {
             if (rules.isMandatoryPassEnabled()) {
-                logger.logAction(loggerPlayerName, "DECK_EMPTY", "N/A", "No Reshuffle Rule Active. Game Ends.");
+                logDeckEmpty();
                 return false;
             }
 
@@ -70,6 +74,68 @@ public class DeckHandlerImpl implements DeckHandler {
         return true;
     }
 
+    /**
+     * {@inheritDoc}
+     * The cards are logged as one draw whose extra information lists their
+     * values, separated by commas.
+     */
+    @Override
+    public boolean drawCardsForPlayer(final AbstractPlayer player, final int n, final GameContext game) {
+        final List<Card> drawn = new ArrayList<>(drawDeck.drawMany(n));
+        boolean success = true;
+
+        if (drawn.size() < n) {
+            if (rules.isMandatoryPassEnabled()) {
+                success = false;
+            } else {
+                reshuffleDiscardPile();
+                drawn.addAll(drawDeck.drawMany(n - drawn.size()));
+            }
+        }
+
+        player.addCardsToHand(drawn);
+        if (!drawn.isEmpty()) {
+            final StringBuilder values = new StringBuilder();
+            for (final Card card : drawn) {
+                if (!values.isEmpty()) {
+                    values.append(VALUE_SEPARATOR);
+                }
+                values.append(card.getValue(game));
+            }
+            logger.logAction(player.getName(), "DRAW", drawn.get(0).getClass().getSimpleName(), values.toString());
+        }
+        if (!success) {
+            logDeckEmpty();
+        }
+        return success;
+    }
+
+    /**
+     * Logs that the game ends because the draw deck is empty and reshuffling is not allowed.
+     */
+    private void logDeckEmpty() {
+        logger.logAction(loggerPlayerName, "DECK_EMPTY", "N/A", "No Reshuffle Rule Active. Game Ends.");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int drawUntilColorForPlayer(final AbstractPlayer player, final CardColor color, final GameContext game) {
+        final boolean darkSide = game.isDarkSide();
+        final List<Card> drawn = new ArrayList<>(drawDeck.drawUntilColor(color, darkSide));
+        // The run stops on the first card of the color: without one, the deck held none.
+        final boolean reached = !drawn.isEmpty() && drawn.get(drawn.size() - 1).getSide(darkSide).hasColor(color);
+
+        if (!reached && !rules.isMandatoryPassEnabled()) {
+            reshuffleDiscardPile();
+            drawn.addAll(drawDeck.drawUntilColor(color, darkSide));
+        }
+
+        player.addCardsToHand(drawn);
+        return drawn.size();
+    }
+
     /**
      * Reshuffles the discard pile back into the draw deck, leaving the top card of the discard pile intact.
      */
@@ -79,9 +145,7 @@ public class DeckHandlerImpl implements DeckHandler {
         if (cardsToReshuffle.isEmpty()) {
             return;
         }
-        for (final Card card : cardsToReshuffle) {
-            drawDeck.addCard(card);
-        }
+        drawDeck.refill(cardsToReshuffle);
         drawDeck.shuffle();
     }
 
@@ -0,0 +1,145 @@
+package uno.model.game.impl;
+
+import uno.model.api.GameCommand;
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.cards.types.api.Card;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Binary encoding of {@link GameCommand}s: a type code followed by the
+ * arguments, with cards by catalog id, colors by ordinal and seats as shorts.
+ * A new player is written with its name and type, as in the seat list of a save.
+ */
+final class GameCommandCodec {
+
+    private static final int NONE = -1;
+    private static final int PLAY_CARD = 0;
+    private static final int DRAW = 1;
+    private static final int PASS_TURN = 2;
+    private static final int CHOOSE_COLOR = 3;
+    private static final int DRAW_UNTIL_COLOR = 4;
+    private static final int CHOOSE_PLAYER = 5;
+    private static final int CALL_UNO = 6;
+    private static final int ADVANCE_TURN = 7;
+    private static final int START_ROUND = 8;
+    private static final int ADD_PLAYER = 9;
+    private static final int ELIMINATE_PLAYER = 10;
+
+    private GameCommandCodec() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Writes a command.
+     *
+     * @param out     the destination.
+     * @param command the command.
+     * @throws IOException if the destination cannot be written.
+     * @throws IllegalArgumentException if a new player has a type that cannot be saved.
+     */
+    static void write(final DataOutput out, final GameCommand command) throws IOException {
+        if (command instanceof GameCommand.PlayCard play) {
+            out.writeByte(PLAY_CARD);
+            out.writeShort(play.card().map(Card::getId).orElse(NONE));
+            out.writeBoolean(play.calledUno());
+        } else if (command instanceof GameCommand.Draw) {
+            out.writeByte(DRAW);
+        } else if (command instanceof GameCommand.PassTurn) {
+            out.writeByte(PASS_TURN);
+        } else if (command instanceof GameCommand.ChooseColor choose) {
+            out.writeByte(CHOOSE_COLOR);
+            out.writeByte(choose.color().ordinal());
+        } else if (command instanceof GameCommand.DrawUntilColor draw) {
+            out.writeByte(DRAW_UNTIL_COLOR);
+            out.writeByte(draw.color().ordinal());
+        } else if (command instanceof GameCommand.ChoosePlayer choose) {
+            out.writeByte(CHOOSE_PLAYER);
+            out.writeShort(choose.seat());
+        } else if (command instanceof GameCommand.CallUno call) {
+            out.writeByte(CALL_UNO);
+            out.writeShort(call.seat());
+        } else if (command instanceof GameCommand.AdvanceTurn) {
+            out.writeByte(ADVANCE_TURN);
+        } else if (command instanceof GameCommand.AddPlayer add) {
+            if (add.type() == MatchStoreImpl.UNKNOWN_TYPE) {
+                throw new IllegalArgumentException("Player " + add.name() + " has a type that cannot be saved.");
+            }
+            out.writeByte(ADD_PLAYER);
+            out.writeShort(add.seat());
+            out.writeUTF(add.name());
+            out.writeByte(add.type());
+        } else if (command instanceof GameCommand.EliminatePlayer eliminate) {
+            out.writeByte(ELIMINATE_PLAYER);
+            out.writeShort(eliminate.seat());
+        } else {
+            out.writeByte(START_ROUND);
+        }
+    }
+
+    /**
+     * Reads a command written by {@link #write(DataOutput, GameCommand)}.
+     *
+     * @param in      the source.
+     * @param catalog the catalog of the cards of the match.
+     * @return the command.
+     * @throws IOException if the source cannot be read or holds an unknown command.
+     */
+    static GameCommand read(final DataInput in, final CardCatalog catalog) throws IOException {
+        final int type = in.readByte();
+        switch (type) {
+            case PLAY_CARD:
+                final int id = in.readShort();
+                if (id < NONE || id >= catalog.size()) {
+                    throw new IOException("Unknown card id " + id + ".");
+                }
+                final Optional<Card> card = id == NONE ? Optional.empty() : Optional.of(catalog.getCard(id));
+                return new GameCommand.PlayCard(card, in.readBoolean());
+            case DRAW:
+                return new GameCommand.Draw();
+            case PASS_TURN:
+                return new GameCommand.PassTurn();
+            case CHOOSE_COLOR:
+                return new GameCommand.ChooseColor(readColor(in));
+            case DRAW_UNTIL_COLOR:
+                return new GameCommand.DrawUntilColor(readColor(in));
+            case CHOOSE_PLAYER:
+                return new GameCommand.ChoosePlayer(in.readShort());
+            case CALL_UNO:
+                return new GameCommand.CallUno(in.readShort());
+            case ADVANCE_TURN:
+                return new GameCommand.AdvanceTurn();
+            case START_ROUND:
+                return new GameCommand.StartRound();
+            case ADD_PLAYER:
+                final int seat = in.readShort();
+                final String name = in.readUTF();
+                final int playerType = in.readByte();
+                MatchStoreImpl.createPlayer(playerType, name);
+                return new GameCommand.AddPlayer(seat, name, playerType);
+            case ELIMINATE_PLAYER:
+                return new GameCommand.EliminatePlayer(in.readShort());
+            default:
+                throw new IOException("Unknown command type " + type + ".");
+        }
+    }
+
+    /**
+     * Reads a color by ordinal.
+     *
+     * @param in the source.
+     * @return the color.
+     * @throws IOException if the source cannot be read or the ordinal is unknown.
+     */
+    private static CardColor readColor(final DataInput in) throws IOException {
+        final int ordinal = in.readByte();
+        if (ordinal < 0 || ordinal >= CardColor.values().length) {
+            throw new IOException("Unknown color " + ordinal + ".");
+        }
+        return CardColor.values()[ordinal];
+    }
+}
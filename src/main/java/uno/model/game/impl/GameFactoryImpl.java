@@ -8,6 +8,9 @@ import uno.model.game.api.TurnManager;
 import uno.model.players.impl.AbstractPlayer;
 import uno.model.game.api.GameMode;
 import uno.model.cards.deck.api.Deck;
+import uno.model.cards.deck.api.DeckStorage;
+import uno.model.cards.deck.impl.CardCatalogImpl;
+import uno.model.cards.deck.impl.IntArrayDeck;
 import uno.model.cards.deck.impl.StandardDeck;
 import uno.model.cards.deck.impl.FlipDeck;
 import uno.model.cards.deck.impl.AllWildDeck;
@@ -17,6 +20,10 @@ import uno.model.utils.impl.GameLoggerImpl;
 import uno.model.game.api.GameSetup;
 
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 /**
  * Implementation of the GameFactory.
@@ -25,6 +32,7 @@ public class GameFactoryImpl implements GameFactory {
 
     private final GameRules rules;
     private final GameLogger logger;
+    private final DeckStorage deckStorage;
 
     /**
      * Constructor for GameFactoryImpl.
@@ -32,8 +40,31 @@ public class GameFactoryImpl implements GameFactory {
      * @param rules rules of the game.
      */
     public GameFactoryImpl(final GameRules rules) {
+        this(rules, new GameLoggerImpl(String.valueOf(System.currentTimeMillis())));
+    }
+
+    /**
+     * Constructor for GameFactoryImpl with a custom logger (e.g. an asynchronous one).
+     * 
+     * @param rules  rules of the game.
+     * @param logger logger shared by the games created by this factory.
+     */
+    public GameFactoryImpl(final GameRules rules, final GameLogger logger) {
+        this(rules, logger, DeckStorage.LIST);
+    }
+
+    /**
+     * Constructor for GameFactoryImpl with a custom logger and draw deck storage.
+     * 
+     * @param rules       rules of the game.
+     * @param logger      logger shared by the games created by this factory.
+     * @param deckStorage how the draw decks of the created games store their cards.
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    public GameFactoryImpl(final GameRules rules, final GameLogger logger, final DeckStorage deckStorage) {
         this.rules = rules;
-        this.logger = new GameLoggerImpl(String.valueOf(System.currentTimeMillis()));
+        this.logger = logger;
+        this.deckStorage = deckStorage;
     }
 
     /**
@@ -41,25 +72,38 @@ public class GameFactoryImpl implements GameFactory {
      */
     @Override
     public Game createGame(final String playerName, final GameMode gameMode, final List<AbstractPlayer> players) {
+        return createGame(playerName, gameMode, players, ThreadLocalRandom.current());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Game createGame(final String playerName, final GameMode gameMode, final List<AbstractPlayer> players,
+            final RandomGenerator random) {
         final Deck<Card> deck;
-        boolean isAllWild = false;
+        final boolean isAllWild = gameMode == GameMode.ALL_WILD;
 
-        switch (gameMode) {
-            case FLIP:
-                deck = new FlipDeck(logger);
-                break;
-            case ALL_WILD:
-                deck = new AllWildDeck(logger);
-                isAllWild = true;
-                break;
-            default:
-                deck = new StandardDeck(logger);
-                break;
+        if (deckStorage == DeckStorage.INT_ARRAY) {
+            deck = new IntArrayDeck(CardCatalogImpl.forMode(gameMode), logger, random);
+        } else {
+            switch (gameMode) {
+                case FLIP:
+                    deck = new FlipDeck(logger, random);
+                    break;
+                case ALL_WILD:
+                    deck = new AllWildDeck(logger, random);
+                    break;
+                default:
+                    deck = new StandardDeck(logger, random);
+                    break;
+            }
         }
 
         final DiscardPile discardPile = new DiscardPileImpl();
-        final TurnManager turnManager = new TurnManagerImpl(players, rules);
-        final Game game = new GameImpl(deck, players, turnManager, discardPile, gameMode.name(), logger, rules);
+        final TurnManager turnManager = new TurnManagerImpl(players, rules, random);
+        final Game game = new GameImpl(deck, players, turnManager, discardPile, gameMode.name(), logger, rules,
+                random);
         final GameSetup setup = new GameSetupImpl(game, deck, game.getDiscardPile(), players);
         setup.initializeGame(isAllWild);
 
@@ -70,6 +114,7 @@ public class GameFactoryImpl implements GameFactory {
      * {@inheritDoc}
      */
     @Override
+    @SuppressFBWarnings("EI_EXPOSE_REP")
     public GameLogger getLogger() {
         return logger;
     }
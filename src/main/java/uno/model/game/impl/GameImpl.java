@@ -7,6 +7,7 @@ import uno.model.game.api.DeckHandler;
 import uno.model.game.api.DiscardPile;
 import uno.model.game.api.GameContext;
 import uno.model.game.api.GameRules;
+import uno.model.game.api.GameSnapshot;
 import uno.model.game.api.GameState;
 import uno.model.game.api.GameStateBehavior;
 import uno.model.game.api.MoveValidator;
@@ -17,6 +18,8 @@ import uno.model.game.impl.states.WaitingForColorState;
 import uno.model.game.impl.states.WaitingForPlayerState;
 import uno.model.players.impl.AbstractPlayer;
 import uno.model.utils.api.GameLogger;
+import uno.model.api.GameCommand;
+import uno.model.api.GameEvent;
 import uno.model.api.GameModelObserver;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -24,7 +27,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Implementation of the UNO Game Model.
@@ -36,8 +40,8 @@ public class GameImpl implements GameContext {
     private static final String CARD_DETAIL = "N/A";
     private static final String SUPPRESS_EI_EXPOSE_REP = "EI_EXPOSE_REP";
     private static final String LOGGER_PLAYER_NAME = "SYSTEM";
-    private static final Random RANDOM = new Random();
     private static final int START_HAND_SIZE = 7;
+    private static final int UNO_PENALTY_CARDS = 2;
 
     private final List<GameModelObserver> observers = new ArrayList<>();
     private final List<AbstractPlayer> players;
@@ -53,9 +57,15 @@ public class GameImpl implements GameContext {
 
     private final GameLogger logger;
     private final GameRules rules;
+    private final RandomGenerator random;
 
     private boolean isDarkSide;
 
+    private int updateDepth;
+    private boolean updatePending;
+    private final List<GameEvent> pendingEvents = new ArrayList<>();
+    private AbstractPlayer scopeStartPlayer;
+
     /**
      * Constructor for GameImpl with custom rules.
      * 
@@ -67,13 +77,34 @@ public class GameImpl implements GameContext {
      * @param logger      logger.
      * @param rules       game rules.
      */
-    @SuppressFBWarnings("EI_EXPOSE_REP2")
     public GameImpl(final Deck<Card> deck, final List<AbstractPlayer> players, final TurnManager turnManager,
             final DiscardPile discardPile, final String gameMode,
             final GameLogger logger, final GameRules rules) {
+        this(deck, players, turnManager, discardPile, gameMode, logger, rules, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Constructor for GameImpl with custom rules and a random source.
+     * The same source should be shared with the deck and the turn manager, so
+     * that a seeded source reproduces the whole match.
+     * 
+     * @param deck        deck of cards.
+     * @param players     list of players.
+     * @param turnManager turn manager.
+     * @param discardPile discard pile.
+     * @param gameMode    game mode.
+     * @param logger      logger.
+     * @param rules       game rules.
+     * @param random      random source used for the random color choices.
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    public GameImpl(final Deck<Card> deck, final List<AbstractPlayer> players, final TurnManager turnManager,
+            final DiscardPile discardPile, final String gameMode,
+            final GameLogger logger, final GameRules rules, final RandomGenerator random) {
         this.players = new ArrayList<>(players);
         this.logger = logger;
         this.rules = rules;
+        this.random = random;
         this.winner = null;
         this.turnManager = turnManager;
         this.deckHandler = new DeckHandlerImpl(deck, discardPile, rules, logger, LOGGER_PLAYER_NAME);
@@ -99,17 +130,92 @@ public class GameImpl implements GameContext {
      */
     @Override
     public void notifyObservers() {
+        if (updateDepth > 0) {
+            updatePending = true;
+            return;
+        }
         for (final GameModelObserver obs : observers) {
             obs.onGameUpdate();
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * Scopes nest: only the outermost one notifies, once, and only if something
+     * requested a notification, even when the action throws.
+     */
+    @Override
+    public void runInUpdateScope(final Runnable action) {
+        if (updateDepth == 0) {
+            scopeStartPlayer = turnManager.getCurrentPlayer();
+        }
+        updateDepth++;
+        try {
+            action.run();
+        } finally {
+            updateDepth--;
+            if (updateDepth == 0) {
+                flushUpdateScope();
+            }
+        }
+    }
+
+    /**
+     * Delivers the events queued by the outermost update scope, followed by
+     * the merged update notification.
+     */
+    private void flushUpdateScope() {
+        final AbstractPlayer current = turnManager.getCurrentPlayer();
+        if (!current.equals(scopeStartPlayer)) {
+            pendingEvents.add(new GameEvent.TurnAdvanced(scopeStartPlayer, current));
+        }
+        scopeStartPlayer = null;
+
+        final List<GameEvent> events = new ArrayList<>(pendingEvents);
+        pendingEvents.clear();
+        for (final GameEvent event : events) {
+            fireEvent(event);
+        }
+        if (updatePending) {
+            updatePending = false;
+            notifyObservers();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fireEvent(final GameEvent event) {
+        if (updateDepth > 0) {
+            pendingEvents.add(event);
+            return;
+        }
+        for (final GameModelObserver obs : observers) {
+            obs.onGameEvent(event);
+        }
+    }
+
+    /**
+     * Publishes a command to the observers before it is executed.
+     * 
+     * @param command the command.
+     */
+    private void issue(final GameCommand command) {
+        for (final GameModelObserver obs : observers) {
+            obs.onGameCommand(command);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void playCard(final Optional<Card> card) {
-        currentState.playCard(card);
+        runInUpdateScope(() -> {
+            issue(new GameCommand.PlayCard(card, turnManager.getCurrentPlayer().isHasCalledUno()));
+            currentState.playCard(card);
+        });
     }
 
     /**
@@ -141,7 +247,10 @@ public class GameImpl implements GameContext {
      */
     @Override
     public void playerInitiatesDraw() {
-        currentState.playerInitiatesDraw();
+        runInUpdateScope(() -> {
+            issue(new GameCommand.Draw());
+            currentState.playerInitiatesDraw();
+        });
     }
 
     /**
@@ -149,7 +258,33 @@ public class GameImpl implements GameContext {
      */
     @Override
     public void playerPassTurn() {
-        currentState.playerPassTurn();
+        runInUpdateScope(() -> {
+            issue(new GameCommand.PassTurn());
+            currentState.playerPassTurn();
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawCardsForPlayer(final AbstractPlayer player, final int n) {
+        final int handSize = player.getHandSize();
+        final boolean success = deckHandler.drawCardsForPlayer(player, n, this);
+        fireEvent(new GameEvent.CardsDrawn(player, player.getHandSize() - handSize));
+        if (!success) {
+            this.currentState = new GameOverState(this);
+            logger.close();
+            notifyObservers();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int drawUntilColorForPlayer(final AbstractPlayer player, final CardColor color) {
+        return deckHandler.drawUntilColorForPlayer(player, color, this);
     }
 
     /**
@@ -158,8 +293,11 @@ public class GameImpl implements GameContext {
     @Override
     public void drawCardForPlayer(final AbstractPlayer player) {
         final boolean success = deckHandler.drawCardForPlayer(player, this);
-        if (!success) {
+        if (success) {
+            fireEvent(new GameEvent.CardsDrawn(player, 1));
+        } else {
             this.currentState = new GameOverState(this);
+            logger.close();
             notifyObservers();
         }
     }
@@ -169,6 +307,18 @@ public class GameImpl implements GameContext {
      */
     @Override
     public void callUno(final AbstractPlayer player) {
+        runInUpdateScope(() -> {
+            issue(new GameCommand.CallUno(players.indexOf(player)));
+            checkUnoCall(player);
+        });
+    }
+
+    /**
+     * Validates an UNO call and applies the penalty of a wrong one.
+     * 
+     * @param player the player calling UNO.
+     */
+    private void checkUnoCall(final AbstractPlayer player) {
         if (!rules.isUnoPenaltyEnabled()) {
             if (player.getHandSize() == 1) {
                 player.hasCalledUno();
@@ -184,8 +334,7 @@ public class GameImpl implements GameContext {
             logger.logAction(player.getName(), "CALL_UNO_FAILED",
                     CARD_DETAIL, "Initial HandSize: " + player.getHandSize() + ". Penalty: Draw 2.");
 
-            drawCardForPlayer(player);
-            drawCardForPlayer(player);
+            drawCardsForPlayer(player, UNO_PENALTY_CARDS);
             notifyObservers();
 
             throw new IllegalStateException("You can't call UNO now! You have "
@@ -293,7 +442,10 @@ public class GameImpl implements GameContext {
      */
     @Override
     public void setColor(final CardColor color) {
-        currentState.setColor(color);
+        runInUpdateScope(() -> {
+            issue(new GameCommand.ChooseColor(color));
+            currentState.setColor(color);
+        });
     }
 
     /**
@@ -310,9 +462,7 @@ public class GameImpl implements GameContext {
     @Override
     public void makeNextPlayerDraw(final int amount) {
         final AbstractPlayer nextPlayer = this.turnManager.peekNextPlayer();
-        for (int i = 0; i < amount; i++) {
-            drawCardForPlayer(nextPlayer);
-        }
+        drawCardsForPlayer(nextPlayer, amount);
         notifyObservers();
     }
 
@@ -322,6 +472,7 @@ public class GameImpl implements GameContext {
     @Override
     public void reversePlayOrder() {
         this.turnManager.reverseDirection();
+        fireEvent(new GameEvent.DirectionReversed(this.turnManager.isClockwise()));
     }
 
     /**
@@ -347,10 +498,11 @@ public class GameImpl implements GameContext {
             } else {
                 coloredValues = new CardColor[]{CardColor.RED, CardColor.BLUE, CardColor.GREEN, CardColor.YELLOW};
             }
-            final CardColor chosenColor = coloredValues[RANDOM.nextInt(coloredValues.length)];
+            final CardColor chosenColor = coloredValues[random.nextInt(coloredValues.length)];
             this.currentColor = Optional.of(chosenColor);
         }
 
+        fireEvent(new GameEvent.SideFlipped(this.isDarkSide));
         notifyObservers();
     }
 
@@ -362,6 +514,14 @@ public class GameImpl implements GameContext {
         return this.isDarkSide;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setDarkSide(final boolean darkSide) {
+        this.isDarkSide = darkSide;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -385,7 +545,50 @@ public class GameImpl implements GameContext {
      */
     @Override
     public void chosenPlayer(final AbstractPlayer player) {
-        currentState.chosenPlayer(player);
+        runInUpdateScope(() -> {
+            issue(new GameCommand.ChoosePlayer(players.indexOf(player)));
+            currentState.chosenPlayer(player);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addPlayer(final AbstractPlayer player) {
+        if (turnManager.isActive(player)) {
+            throw new IllegalArgumentException("Player " + player.getName() + " is already playing.");
+        }
+        runInUpdateScope(() -> {
+            final int seat = players.indexOf(player);
+            issue(new GameCommand.AddPlayer(seat < 0 ? players.size() : seat, player.getName(),
+                    MatchStoreImpl.typeCodeOf(player)));
+            if (seat < 0) {
+                players.add(player);
+            }
+            turnManager.addPlayer(player);
+            logger.logAction(player.getName(), "PLAYER_JOINED", "N/A", "Seat: " + players.indexOf(player));
+            notifyObservers();
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void eliminatePlayer(final AbstractPlayer player) {
+        if (!turnManager.isActive(player)) {
+            throw new IllegalArgumentException("Player " + player.getName() + " is not playing.");
+        }
+        if (turnManager.getActivePlayerCount() == 1) {
+            throw new IllegalStateException("Cannot eliminate the last player " + player.getName() + ".");
+        }
+        runInUpdateScope(() -> {
+            issue(new GameCommand.EliminatePlayer(players.indexOf(player)));
+            turnManager.eliminatePlayer(player);
+            logger.logAction(player.getName(), "PLAYER_ELIMINATED", "N/A", "Seat: " + players.indexOf(player));
+            notifyObservers();
+        });
     }
 
     /**
@@ -393,7 +596,10 @@ public class GameImpl implements GameContext {
      */
     @Override
     public void drawUntilColorChosenCard(final CardColor color) {
-        currentState.drawUntilColorChosenCard(color);
+        runInUpdateScope(() -> {
+            issue(new GameCommand.DrawUntilColor(color));
+            currentState.drawUntilColorChosenCard(color);
+        });
     }
 
     /**
@@ -401,8 +607,11 @@ public class GameImpl implements GameContext {
      */
     @Override
     public void aiAdvanceTurn() {
-        this.turnManager.advanceTurn(this);
-        notifyObservers();
+        runInUpdateScope(() -> {
+            issue(new GameCommand.AdvanceTurn());
+            this.turnManager.advanceTurn(this);
+            notifyObservers();
+        });
     }
 
     /**
@@ -452,13 +661,23 @@ public class GameImpl implements GameContext {
      */
     @Override
     public void startNewRound() {
+        runInUpdateScope(() -> {
+            issue(new GameCommand.StartRound());
+            dealNewRound();
+        });
+    }
+
+    /**
+     * Collects every card, reshuffles the deck and deals a new round.
+     */
+    private void dealNewRound() {
         logger.logAction(LOGGER_PLAYER_NAME, "ROUND_START", "N/A", "Starting new round...");
 
         final List<Card> cardsToRecycle = new ArrayList<>();
 
         for (final AbstractPlayer player : players) {
-            for (final Optional<Card> cardOpt : player.getHand()) {
-                cardOpt.ifPresent(cardsToRecycle::add);
+            for (final Card card : player.getHandView()) {
+                cardsToRecycle.add(card);
             }
             player.setHand(new ArrayList<>());
         }
@@ -471,9 +690,7 @@ public class GameImpl implements GameContext {
         turnManager.reset();
 
         for (final AbstractPlayer player : players) {
-            for (int i = 0; i < START_HAND_SIZE; i++) {
-                drawCardForPlayer(player);
-            }
+            drawCardsForPlayer(player, START_HAND_SIZE);
         }
 
         final Optional<Card> firstCardOpt = deckHandler.getDrawDeck().draw();
@@ -484,7 +701,7 @@ public class GameImpl implements GameContext {
 
             if (firstCard.getColor(this) == CardColor.WILD) {
                 final CardColor[] coloredValues = {CardColor.RED, CardColor.BLUE, CardColor.GREEN, CardColor.YELLOW };
-                final CardColor chosenColor = coloredValues[RANDOM.nextInt(coloredValues.length)];
+                final CardColor chosenColor = coloredValues[random.nextInt(coloredValues.length)];
                 this.currentColor = Optional.of(chosenColor);
             } else {
                 this.currentColor = Optional.of(firstCard.getColor(this));
@@ -497,6 +714,7 @@ public class GameImpl implements GameContext {
         }
 
         this.currentState = new RunningState(this);
+        fireEvent(new GameEvent.RoundStarted());
         notifyObservers();
     }
 
@@ -516,6 +734,23 @@ public class GameImpl implements GameContext {
         return this.currentPlayedCard;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressFBWarnings(SUPPRESS_EI_EXPOSE_REP)
+    public RandomGenerator getRandom() {
+        return this.random;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameSnapshot snapshot() {
+        return GameSnapshotImpl.capture(this);
+    }
+
     /**
      * {@inheritDoc}
      */
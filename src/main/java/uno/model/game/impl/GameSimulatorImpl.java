@@ -0,0 +1,159 @@
+package uno.model.game.impl;
+
+import uno.model.cards.deck.api.DeckStorage;
+import uno.model.game.api.Game;
+import uno.model.game.api.GameFactory;
+import uno.model.game.api.GameMode;
+import uno.model.game.api.GameRules;
+import uno.model.game.api.GameSimulator;
+import uno.model.game.api.GameState;
+import uno.model.game.api.SimulationResult;
+import uno.model.players.impl.AIAllWild;
+import uno.model.players.impl.AIClassic;
+import uno.model.players.impl.AIFlip;
+import uno.model.players.impl.AbstractAIPlayer;
+import uno.model.players.impl.AbstractPlayer;
+import uno.model.utils.impl.SilentGameLoggerImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Implementation of the GameSimulator.
+ * Games are created through {@link GameFactoryImpl} with a silent logger and
+ * array-backed draw decks, and advanced by calling
+ * {@link AbstractAIPlayer#takeTurn(Game)} in a tight loop, with no timer and no
+ * event dispatch thread involved.
+ */
+public class GameSimulatorImpl implements GameSimulator {
+
+    /**
+     * Default maximum number of turns before a match is considered stalled.
+     */
+    public static final int DEFAULT_MAX_TURNS = 10_000;
+
+    private static final String SIMULATION_NAME = "SIMULATION";
+    private static final String AI_NAME_PREFIX = "AI-";
+
+    private final GameFactory factory;
+    private final int maxTurns;
+
+    /**
+     * Constructor for GameSimulatorImpl with the default turn limit.
+     *
+     * @param rules rules of the simulated games.
+     */
+    public GameSimulatorImpl(final GameRules rules) {
+        this(rules, DEFAULT_MAX_TURNS);
+    }
+
+    /**
+     * Constructor for GameSimulatorImpl.
+     *
+     * @param rules    rules of the simulated games.
+     * @param maxTurns maximum number of turns after which a match is stopped
+     *                 without a winner.
+     */
+    public GameSimulatorImpl(final GameRules rules, final int maxTurns) {
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException("The turn limit must be positive.");
+        }
+        this.factory = new GameFactoryImpl(rules, new SilentGameLoggerImpl(), DeckStorage.INT_ARRAY);
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SimulationResult simulate(final GameMode gameMode, final List<AbstractAIPlayer> players) {
+        return simulate(gameMode, players, ThreadLocalRandom.current());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SimulationResult simulate(final GameMode gameMode, final List<AbstractAIPlayer> players,
+            final RandomGenerator random) {
+        final Game game = factory.createGame(SIMULATION_NAME, gameMode, new ArrayList<>(players), random);
+
+        int turns = 0;
+        int rounds = 1;
+        while (turns < maxTurns) {
+            final GameState state = game.getGameState();
+            if (state == GameState.GAME_OVER) {
+                break;
+            }
+            if (state == GameState.ROUND_OVER) {
+                game.startNewRound();
+                rounds++;
+                continue;
+            }
+
+            final AbstractPlayer current = game.getCurrentPlayer();
+            if (!(current instanceof AbstractAIPlayer)) {
+                throw new IllegalStateException("Only AI players can be simulated.");
+            }
+            current.takeTurn(game);
+            turns++;
+        }
+
+        final Optional<AbstractPlayer> winner = game.getGameState() == GameState.GAME_OVER
+                ? Optional.ofNullable(game.getWinner())
+                : Optional.empty();
+        return new SimulationResult(winner, turns, rounds, winner.map(AbstractPlayer::getScore).orElse(0));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SimulationResult simulate(final GameMode gameMode, final int playerCount) {
+        return simulate(gameMode, createDefaultPlayers(gameMode, playerCount));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<SimulationResult> simulateMany(final GameMode gameMode, final int playerCount, final int games) {
+        final List<SimulationResult> results = new ArrayList<>(games);
+        for (int i = 0; i < games; i++) {
+            results.add(simulate(gameMode, playerCount));
+        }
+        return results;
+    }
+
+    /**
+     * Creates the AI players designed for the given mode, each with a unique name.
+     *
+     * @param gameMode    the game mode.
+     * @param playerCount the number of players.
+     * @return the list of fresh AI players.
+     */
+    public static List<AbstractAIPlayer> createDefaultPlayers(final GameMode gameMode, final int playerCount) {
+        if (playerCount < 2) {
+            throw new IllegalArgumentException("A match needs at least two players.");
+        }
+        final List<AbstractAIPlayer> players = new ArrayList<>(playerCount);
+        for (int i = 1; i <= playerCount; i++) {
+            final String name = AI_NAME_PREFIX + i;
+            switch (gameMode) {
+                case FLIP:
+                    players.add(new AIFlip(name));
+                    break;
+                case ALL_WILD:
+                    players.add(new AIAllWild(name));
+                    break;
+                default:
+                    players.add(new AIClassic(name));
+                    break;
+            }
+        }
+        return players;
+    }
+}
@@ -0,0 +1,513 @@
+package uno.model.game.impl;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.cards.deck.api.Deck;
+import uno.model.cards.deck.impl.CardCatalogImpl;
+import uno.model.cards.deck.impl.IntArrayDeck;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.DiscardPile;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.GameMode;
+import uno.model.game.api.GameRules;
+import uno.model.game.api.GameSnapshot;
+import uno.model.game.api.GameState;
+import uno.model.game.api.GameStateBehavior;
+import uno.model.game.api.TurnManager;
+import uno.model.game.impl.states.GameOverState;
+import uno.model.game.impl.states.RoundOverState;
+import uno.model.game.impl.states.RunningState;
+import uno.model.game.impl.states.WaitingForColorState;
+import uno.model.game.impl.states.WaitingForPlayerState;
+import uno.model.players.impl.AbstractPlayer;
+import uno.model.utils.api.GameLogger;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.random.RandomGenerator;
+
+/**
+ * Implementation of the {@link GameSnapshot} interface.
+ * The arrays of a snapshot are never modified after construction, so forks
+ * share everything but the hands and the deck they deal again.
+ */
+public final class GameSnapshotImpl implements GameSnapshot {
+
+    private static final int NONE = -1;
+
+    private final Shared shared;
+    private final int[][] hands;
+    private final int[] deck;
+
+    /**
+     * Constructor for GameSnapshotImpl.
+     *
+     * @param shared the fields that forks share.
+     * @param hands  the card ids of each hand.
+     * @param deck   the card ids of the draw deck, the next one drawn last.
+     */
+    private GameSnapshotImpl(final Shared shared, final int[][] hands, final int[] deck) {
+        this.shared = shared;
+        this.hands = hands;
+        this.deck = deck;
+    }
+
+    /**
+     * Captures the state of a game.
+     *
+     * @param game the game.
+     * @return the snapshot.
+     * @throws IllegalStateException if the cards of the game do not come from a
+     *                               single card catalog.
+     */
+    public static GameSnapshotImpl capture(final GameContext game) {
+        final Deck<Card> drawDeck = game.getDrawDeck();
+        final DiscardPile pile = game.getDiscardPile();
+        final List<AbstractPlayer> players = game.getPlayers();
+        final CardCatalog catalog = findCatalog(drawDeck, pile, players);
+
+        final int[][] hands = new int[players.size()][];
+        final boolean[] calledUno = new boolean[players.size()];
+        final int[] scores = new int[players.size()];
+        final boolean[] active = new boolean[players.size()];
+        final TurnManager turnManager = game.getTurnManager();
+        for (int i = 0; i < players.size(); i++) {
+            final AbstractPlayer player = players.get(i);
+            final int[] hand = new int[player.getHandSize()];
+            int next = 0;
+            for (final Card card : player.getHandView()) {
+                hand[next++] = idOf(catalog, card);
+            }
+            hands[i] = hand;
+            calledUno[i] = player.isHasCalledUno();
+            scores[i] = player.getScore();
+            active[i] = turnManager.isActive(player);
+        }
+
+        final int[] deck = drawDeck instanceof IntArrayDeck intDeck && intDeck.getCatalog() == catalog
+                ? intDeck.getIds()
+                : idsOf(catalog, drawDeck.getSnapshot());
+        final Card played = game.getCurrentPlayedCard();
+
+        final Shared shared = new Shared(catalog, game.getRules(), game.getGameState(), calledUno, scores, active,
+                idsOf(catalog, pile.getSnapshot()), played == null ? NONE : idOf(catalog, played),
+                game.getCurrentColor(), game.isDarkSide(), turnManager.isClockwise(),
+                turnManager.hasDrawnThisTurn(), turnManager.getSkipSize(),
+                players.indexOf(turnManager.getCurrentPlayer()),
+                game.getWinner() == null ? NONE : players.indexOf(game.getWinner()));
+        return new GameSnapshotImpl(shared, hands, deck);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameMode getMode() {
+        return shared.catalog().getMode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameState getGameState() {
+        return shared.state();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPlayerCount() {
+        return hands.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCurrentPlayerIndex() {
+        return shared.current();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getHandSize(final int player) {
+        return hands[player].length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getDeckSize() {
+        return deck.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameSnapshot fork(final int viewer, final RandomGenerator random) {
+        int hidden = deck.length;
+        for (int i = 0; i < hands.length; i++) {
+            if (i != viewer) {
+                hidden += hands[i].length;
+            }
+        }
+
+        final int[] pool = new int[hidden];
+        int next = 0;
+        for (int i = 0; i < hands.length; i++) {
+            if (i != viewer) {
+                System.arraycopy(hands[i], 0, pool, next, hands[i].length);
+                next += hands[i].length;
+            }
+        }
+        System.arraycopy(deck, 0, pool, next, deck.length);
+
+        for (int i = pool.length - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int tmp = pool[i];
+            pool[i] = pool[j];
+            pool[j] = tmp;
+        }
+
+        final int[][] newHands = new int[hands.length][];
+        next = 0;
+        for (int i = 0; i < hands.length; i++) {
+            if (i == viewer) {
+                newHands[i] = hands[i];
+            } else {
+                newHands[i] = new int[hands[i].length];
+                System.arraycopy(pool, next, newHands[i], 0, hands[i].length);
+                next += hands[i].length;
+            }
+        }
+        final int[] newDeck = new int[deck.length];
+        System.arraycopy(pool, next, newDeck, 0, deck.length);
+        return new GameSnapshotImpl(shared, newHands, newDeck);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameContext restore(final List<? extends AbstractPlayer> players, final GameLogger logger,
+            final RandomGenerator random) {
+        if (players.size() != hands.length) {
+            throw new IllegalArgumentException("The snapshot has " + hands.length + " seats, not "
+                    + players.size() + ".");
+        }
+
+        final CardCatalog catalog = shared.catalog();
+        final List<AbstractPlayer> seats = new ArrayList<>(players);
+        for (int i = 0; i < seats.size(); i++) {
+            final List<Optional<Card>> hand = new ArrayList<>(hands[i].length);
+            for (final int id : hands[i]) {
+                hand.add(Optional.of(catalog.getCard(id)));
+            }
+            final AbstractPlayer player = seats.get(i);
+            player.setHand(hand);
+            player.setHasCalledUno(shared.calledUno()[i]);
+            player.setScore(shared.scores()[i]);
+        }
+
+        final DiscardPile pile = new DiscardPileImpl();
+        for (final int id : shared.discard()) {
+            pile.addCard(catalog.getCard(id));
+        }
+
+        final TurnManager turnManager = new TurnManagerImpl(seats, shared.rules(), random, shared.current());
+        for (int i = 0; i < seats.size(); i++) {
+            if (!shared.active()[i]) {
+                turnManager.eliminatePlayer(seats.get(i));
+            }
+        }
+        turnManager.setClockwise(shared.clockwise());
+        turnManager.skipPlayers(shared.skipSize());
+        turnManager.setHasDrawnThisTurn(shared.hasDrawn());
+
+        final IntArrayDeck drawDeck = new IntArrayDeck(catalog, logger, random, deck, 0, deck.length);
+        final GameContext game = new GameImpl(drawDeck, seats, turnManager, pile, catalog.getMode().name(),
+                logger, shared.rules(), random);
+        game.setCurrentPlayedCard(shared.playedCard() == NONE ? null : catalog.getCard(shared.playedCard()));
+        game.setCurrentColorOptional(shared.color());
+        game.setDarkSide(shared.darkSide());
+        game.setWinner(shared.winner() == NONE ? null : seats.get(shared.winner()));
+        game.setGameState(behaviorOf(shared.state(), game));
+        return game;
+    }
+
+    /**
+     * Writes the snapshot in the compact binary form read by
+     * {@link #readFrom(DataInput)}: enums by ordinal, cards by catalog id and
+     * seats as shorts.
+     *
+     * @param out the destination.
+     * @throws IOException if the destination cannot be written.
+     */
+    void writeTo(final DataOutput out) throws IOException {
+        final GameRules rules = shared.rules();
+        out.writeByte(shared.catalog().getMode().ordinal());
+        out.writeByte(flags(rules.isUnoPenaltyEnabled(), rules.isSkipAfterDrawEnabled(),
+                rules.isMandatoryPassEnabled(), rules.isScoringModeEnabled()));
+        out.writeByte(shared.state().ordinal());
+        out.writeByte(flags(shared.darkSide(), shared.clockwise(), shared.hasDrawn(), false));
+        out.writeShort(shared.skipSize());
+        out.writeShort(shared.current());
+        out.writeShort(shared.winner());
+        out.writeByte(shared.color().map(Enum::ordinal).orElse(NONE));
+        out.writeShort(shared.playedCard());
+        out.writeShort(hands.length);
+        for (int i = 0; i < hands.length; i++) {
+            out.writeBoolean(shared.active()[i]);
+            out.writeBoolean(shared.calledUno()[i]);
+            out.writeInt(shared.scores()[i]);
+            writeIds(out, hands[i]);
+        }
+        writeIds(out, deck);
+        writeIds(out, shared.discard());
+    }
+
+    /**
+     * Reads a snapshot written by {@link #writeTo(DataOutput)}, checking that
+     * every card of the catalog appears exactly once.
+     *
+     * @param in the source.
+     * @return the snapshot.
+     * @throws IOException if the source cannot be read or is not a valid snapshot.
+     */
+    static GameSnapshotImpl readFrom(final DataInput in) throws IOException {
+        final CardCatalog catalog = CardCatalogImpl.forMode(enumAt(GameMode.values(), in.readByte()));
+        final int ruleFlags = in.readByte();
+        final GameRules rules = new GameRulesImpl(isSet(ruleFlags, 0), isSet(ruleFlags, 1), isSet(ruleFlags, 2),
+                isSet(ruleFlags, 3));
+        final GameState state = enumAt(GameState.values(), in.readByte());
+        final int stateFlags = in.readByte();
+        final int skipSize = in.readShort();
+        final int current = in.readShort();
+        final int winner = in.readShort();
+        final int colorIndex = in.readByte();
+        final Optional<CardColor> color = colorIndex == NONE
+                ? Optional.empty()
+                : Optional.of(enumAt(CardColor.values(), colorIndex));
+        final int playedCard = in.readShort();
+
+        final int playerCount = in.readShort();
+        if (playerCount <= 0 || skipSize < 0 || current < 0 || current >= playerCount || winner < NONE
+                || winner >= playerCount || playedCard < NONE || playedCard >= catalog.size()) {
+            throw new IOException("Corrupted game snapshot.");
+        }
+        final boolean[] seen = new boolean[catalog.size()];
+        final int[][] hands = new int[playerCount][];
+        final boolean[] calledUno = new boolean[playerCount];
+        final int[] scores = new int[playerCount];
+        final boolean[] active = new boolean[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            active[i] = in.readBoolean();
+            calledUno[i] = in.readBoolean();
+            scores[i] = in.readInt();
+            hands[i] = readIds(in, seen);
+        }
+        if (!active[current]) {
+            throw new IOException("Corrupted game snapshot: the current player is eliminated.");
+        }
+        final int[] deck = readIds(in, seen);
+        final int[] discard = readIds(in, seen);
+        for (final boolean cardSeen : seen) {
+            if (!cardSeen) {
+                throw new IOException("Corrupted game snapshot: missing cards.");
+            }
+        }
+
+        final Shared shared = new Shared(catalog, rules, state, calledUno, scores, active, discard, playedCard, color,
+                isSet(stateFlags, 0), isSet(stateFlags, 1), isSet(stateFlags, 2), skipSize, current, winner);
+        return new GameSnapshotImpl(shared, hands, deck);
+    }
+
+    /**
+     * Writes a list of card ids, preceded by its length.
+     *
+     * @param out the destination.
+     * @param ids the ids.
+     * @throws IOException if the destination cannot be written.
+     */
+    private static void writeIds(final DataOutput out, final int[] ids) throws IOException {
+        out.writeShort(ids.length);
+        for (final int id : ids) {
+            out.writeShort(id);
+        }
+    }
+
+    /**
+     * Reads a list of card ids written by {@link #writeIds(DataOutput, int[])}.
+     *
+     * @param in   the source.
+     * @param seen the ids read so far, updated with the new ones.
+     * @return the ids.
+     * @throws IOException if the source cannot be read or repeats a card.
+     */
+    private static int[] readIds(final DataInput in, final boolean[] seen) throws IOException {
+        final int length = in.readShort();
+        if (length < 0 || length > seen.length) {
+            throw new IOException("Corrupted game snapshot: bad card count.");
+        }
+        final int[] ids = new int[length];
+        for (int i = 0; i < length; i++) {
+            final int id = in.readShort();
+            if (id < 0 || id >= seen.length || seen[id]) {
+                throw new IOException("Corrupted game snapshot: bad card id " + id + ".");
+            }
+            seen[id] = true;
+            ids[i] = id;
+        }
+        return ids;
+    }
+
+    /**
+     * Packs up to four booleans in the low bits of a byte.
+     *
+     * @param first  bit 0.
+     * @param second bit 1.
+     * @param third  bit 2.
+     * @param fourth bit 3.
+     * @return the packed flags.
+     */
+    private static int flags(final boolean first, final boolean second, final boolean third,
+            final boolean fourth) {
+        return (first ? 1 : 0) | (second ? 2 : 0) | (third ? 4 : 0) | (fourth ? 8 : 0);
+    }
+
+    /**
+     * Tests a bit of packed flags.
+     *
+     * @param flags the packed flags.
+     * @param bit   the bit to test.
+     * @return true if the bit is set.
+     */
+    private static boolean isSet(final int flags, final int bit) {
+        return (flags >> bit & 1) != 0;
+    }
+
+    /**
+     * Gets an enum constant by ordinal.
+     *
+     * @param <E>     the enum type.
+     * @param values  the constants of the enum.
+     * @param ordinal the ordinal read.
+     * @return the constant.
+     * @throws IOException if the ordinal is out of range.
+     */
+    private static <E extends Enum<E>> E enumAt(final E[] values, final int ordinal) throws IOException {
+        if (ordinal < 0 || ordinal >= values.length) {
+            throw new IOException("Corrupted game snapshot: unknown constant " + ordinal + ".");
+        }
+        return values[ordinal];
+    }
+
+    /**
+     * Creates the behavior of a state.
+     *
+     * @param state the state.
+     * @param game  the game the behavior acts on.
+     * @return the behavior.
+     */
+    private static GameStateBehavior behaviorOf(final GameState state, final GameContext game) {
+        switch (state) {
+            case WAITING_FOR_COLOR:
+                return new WaitingForColorState(game);
+            case WAITING_FOR_PLAYER:
+                return new WaitingForPlayerState(game);
+            case ROUND_OVER:
+                return new RoundOverState(game);
+            case GAME_OVER:
+                return new GameOverState(game);
+            default:
+                return new RunningState(game);
+        }
+    }
+
+    /**
+     * Finds the catalog of the cards of a game.
+     *
+     * @param drawDeck the draw deck.
+     * @param pile     the discard pile.
+     * @param players  the players.
+     * @return the catalog.
+     */
+    private static CardCatalog findCatalog(final Deck<Card> drawDeck, final DiscardPile pile,
+            final List<AbstractPlayer> players) {
+        if (drawDeck instanceof IntArrayDeck intDeck) {
+            return intDeck.getCatalog();
+        }
+        Optional<Card> sample = pile.getTopCard().or(drawDeck::peek);
+        for (int i = 0; sample.isEmpty() && i < players.size(); i++) {
+            if (!players.get(i).getHandView().isEmpty()) {
+                sample = Optional.of(players.get(i).getHandView().get(0));
+            }
+        }
+        return sample.flatMap(CardCatalogImpl::ofCard)
+                .orElseThrow(() -> new IllegalStateException("The cards of this game do not come from a catalog."));
+    }
+
+    /**
+     * Returns the catalog id of a card.
+     *
+     * @param catalog the catalog of the game.
+     * @param card    the card.
+     * @return the id.
+     */
+    private static int idOf(final CardCatalog catalog, final Card card) {
+        final int id = card.getId();
+        if (id < 0 || id >= catalog.size() || catalog.getCard(id) != card) {
+            throw new IllegalStateException("Card " + card + " does not belong to the "
+                    + catalog.getMode() + " catalog.");
+        }
+        return id;
+    }
+
+    /**
+     * Returns the catalog ids of a list of cards.
+     *
+     * @param catalog the catalog of the game.
+     * @param cards   the cards.
+     * @return the ids, in the same order.
+     */
+    private static int[] idsOf(final CardCatalog catalog, final List<Card> cards) {
+        final int[] ids = new int[cards.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = idOf(catalog, cards.get(i));
+        }
+        return ids;
+    }
+
+    /**
+     * The fields of a snapshot that are the same for all its forks.
+     *
+     * @param catalog    the catalog of the cards.
+     * @param rules      the rules.
+     * @param state      the state.
+     * @param calledUno  the UNO flag of each player.
+     * @param scores     the score of each player.
+     * @param active     whether each player is taking turns.
+     * @param discard    the card ids of the discard pile, top last.
+     * @param playedCard the id of the card whose effect is being applied.
+     * @param color      the current color.
+     * @param darkSide   whether the dark side is active.
+     * @param clockwise  whether play proceeds clockwise.
+     * @param hasDrawn   whether the current player already drew.
+     * @param skipSize   the pending skip count.
+     * @param current    the seat of the current player.
+     * @param winner     the seat of the winner.
+     */
+    private record Shared(CardCatalog catalog, GameRules rules, GameState state, boolean[] calledUno,
+            int[] scores, boolean[] active, int[] discard, int playedCard, Optional<CardColor> color, boolean darkSide,
+            boolean clockwise, boolean hasDrawn, int skipSize, int current, int winner) { }
+}
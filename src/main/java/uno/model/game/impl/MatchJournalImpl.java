@@ -0,0 +1,199 @@
+package uno.model.game.impl;
+
+import uno.model.api.GameCommand;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.MatchJournal;
+import uno.model.utils.impl.SplitMixRandom;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Implementation of the {@link MatchJournal} interface that appends to a
+ * binary file.
+ * The file starts with a magic number, a format version, the game mode and the
+ * seat of each player (name and type), followed by records: a command, encoded
+ * by {@link GameCommandCodec}, or a checkpoint, made of the number of commands
+ * before it, the state of the {@link SplitMixRandom} of the game and a
+ * {@link GameSnapshotImpl}. The first record is always a checkpoint.
+ * Records are buffered and appended at the end of every update, so the file
+ * is complete whenever the game is shown to the user.
+ */
+public final class MatchJournalImpl implements MatchJournal {
+
+    /**
+     * Default number of commands between two checkpoints.
+     */
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 64;
+
+    /**
+     * Version of the file format written by this class.
+     */
+    public static final int FORMAT_VERSION = 2;
+
+    static final int MAGIC = 0x554E4F4A;
+    static final int COMMAND = 1;
+    static final int CHECKPOINT = 2;
+
+    private static final Logger LOGGER = Logger.getLogger("UNO");
+
+    private final GameContext game;
+    private final SplitMixRandom random;
+    private final Path file;
+    private final int checkpointInterval;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private final DataOutputStream data = new DataOutputStream(buffer);
+    private int commandCount;
+    private int lastCheckpoint;
+    private int checkpointCount;
+    private boolean failed;
+
+    /**
+     * Constructor for MatchJournalImpl.
+     *
+     * @param game               the recorded match.
+     * @param random             the random source of the match.
+     * @param file               the journal file.
+     * @param checkpointInterval the number of commands between two checkpoints.
+     */
+    private MatchJournalImpl(final GameContext game, final SplitMixRandom random, final Path file,
+            final int checkpointInterval) {
+        this.game = game;
+        this.random = random;
+        this.file = file;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Starts recording a match, with a checkpoint every
+     * {@link #DEFAULT_CHECKPOINT_INTERVAL} commands.
+     *
+     * @param game the match, in its current state.
+     * @param file the journal file, replaced if it exists.
+     * @return the journal, already observing the match.
+     * @throws IOException if the file cannot be written.
+     * @throws IllegalArgumentException if the match does not use a {@link SplitMixRandom}.
+     */
+    public static MatchJournal start(final GameContext game, final Path file) throws IOException {
+        return start(game, file, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Starts recording a match.
+     *
+     * @param game               the match, in its current state.
+     * @param file               the journal file, replaced if it exists.
+     * @param checkpointInterval the number of commands between two checkpoints.
+     * @return the journal, already observing the match.
+     * @throws IOException if the file cannot be written.
+     * @throws IllegalArgumentException if the match does not use a
+     *                                  {@link SplitMixRandom} or the interval is
+     *                                  not positive.
+     */
+    public static MatchJournal start(final GameContext game, final Path file, final int checkpointInterval)
+            throws IOException {
+        if (!(game.getRandom() instanceof SplitMixRandom random)) {
+            throw new IllegalArgumentException("Only matches using a SplitMixRandom can be replayed.");
+        }
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("The checkpoint interval must be positive.");
+        }
+        final MatchJournalImpl journal = new MatchJournalImpl(game, random, file, checkpointInterval);
+        journal.data.writeInt(MAGIC);
+        journal.data.writeShort(FORMAT_VERSION);
+        journal.data.writeByte(game.snapshot().getMode().ordinal());
+        MatchStoreImpl.writeSeats(journal.data, game.getPlayers());
+        journal.writeCheckpoint();
+
+        final Path dir = file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Files.write(file, journal.buffer.toByteArray());
+        journal.buffer.reset();
+        game.addObserver(journal);
+        return journal;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCheckpointCount() {
+        return checkpointCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onGameCommand(final GameCommand command) {
+        if (failed) {
+            return;
+        }
+        try {
+            data.writeByte(COMMAND);
+            GameCommandCodec.write(data, command);
+            commandCount++;
+        } catch (final IOException | IllegalArgumentException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onGameUpdate() {
+        if (failed) {
+            return;
+        }
+        try {
+            if (commandCount - lastCheckpoint >= checkpointInterval) {
+                writeCheckpoint();
+            }
+            if (buffer.size() > 0) {
+                Files.write(file, buffer.toByteArray(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                buffer.reset();
+            }
+        } catch (final IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Writes a checkpoint of the current state of the match to the buffer.
+     *
+     * @throws IOException if the buffer cannot be written.
+     */
+    private void writeCheckpoint() throws IOException {
+        data.writeByte(CHECKPOINT);
+        data.writeInt(commandCount);
+        data.writeLong(random.getState());
+        GameSnapshotImpl.capture(game).writeTo(data);
+        lastCheckpoint = commandCount;
+        checkpointCount++;
+    }
+
+    /**
+     * Stops recording after an error, so the file never holds a gap.
+     *
+     * @param e the error.
+     */
+    private void fail(final Exception e) {
+        failed = true;
+        LOGGER.log(Level.WARNING, "Impossible to write the match journal " + file + ".", e);
+    }
+}
@@ -0,0 +1,214 @@
+package uno.model.game.impl;
+
+import uno.model.api.GameCommand;
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.cards.deck.impl.CardCatalogImpl;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.GameMode;
+import uno.model.game.api.MatchReplay;
+import uno.model.players.impl.AbstractPlayer;
+import uno.model.utils.impl.SilentGameLoggerImpl;
+import uno.model.utils.impl.SplitMixRandom;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Implementation of the {@link MatchReplay} interface that reads a journal
+ * written by {@link MatchJournalImpl}.
+ * Rebuilding a point of the match restores the latest checkpoint before it
+ * with the random source in the recorded state, then applies the remaining
+ * commands: the same inputs on the same state and the same random draws give
+ * the same match. Players joining during the match take the next seats. A
+ * journal cut short by a crash is read up to its last complete record.
+ */
+public final class MatchReplayImpl implements MatchReplay {
+
+    private final List<String> names;
+    private final List<Integer> types;
+    private final List<GameCommand> commands;
+    private final List<Checkpoint> checkpoints;
+
+    /**
+     * A recorded state of the match.
+     *
+     * @param commandCount the number of commands before the checkpoint.
+     * @param randomState  the state of the random source.
+     * @param snapshot     the state of the game.
+     */
+    private record Checkpoint(int commandCount, long randomState, GameSnapshotImpl snapshot) {
+    }
+
+    /**
+     * Constructor for MatchReplayImpl.
+     *
+     * @param names       the names of the players, in seat order.
+     * @param types       the types of the players, in seat order.
+     * @param commands    the commands of the match.
+     * @param checkpoints the checkpoints, in order.
+     */
+    private MatchReplayImpl(final List<String> names, final List<Integer> types, final List<GameCommand> commands,
+            final List<Checkpoint> checkpoints) {
+        this.names = names;
+        this.types = types;
+        this.commands = commands;
+        this.checkpoints = checkpoints;
+    }
+
+    /**
+     * Loads the journal of a match.
+     *
+     * @param file the journal file.
+     * @return the replay.
+     * @throws IOException if the file cannot be read or is not a valid journal.
+     */
+    public static MatchReplay load(final Path file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Reads the journal of a match.
+     *
+     * @param in the source, left open.
+     * @return the replay.
+     * @throws IOException if the source cannot be read or is not a valid journal.
+     */
+    static MatchReplayImpl read(final InputStream in) throws IOException {
+        final DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MatchJournalImpl.MAGIC) {
+            throw new IOException("Not an UNO match journal.");
+        }
+        final int version = data.readUnsignedShort();
+        if (version != MatchJournalImpl.FORMAT_VERSION) {
+            throw new IOException("Unsupported journal format version " + version + ".");
+        }
+        final GameMode mode = GameMode.values()[checkIndex(data.readByte(), GameMode.values().length)];
+        final CardCatalog catalog = CardCatalogImpl.forMode(mode);
+        final int playerCount = data.readShort();
+        final List<String> names = new ArrayList<>(Math.max(playerCount, 0));
+        final List<Integer> types = new ArrayList<>(Math.max(playerCount, 0));
+        for (int i = 0; i < playerCount; i++) {
+            names.add(data.readUTF());
+            types.add((int) data.readByte());
+            MatchStoreImpl.createPlayer(types.get(i), names.get(i));
+        }
+
+        final List<GameCommand> commands = new ArrayList<>();
+        final List<Checkpoint> checkpoints = new ArrayList<>();
+        try {
+            while (true) {
+                final int tag = data.read();
+                if (tag == -1) {
+                    break;
+                } else if (tag == MatchJournalImpl.COMMAND) {
+                    final GameCommand command = GameCommandCodec.read(data, catalog);
+                    if (command instanceof GameCommand.AddPlayer add && add.seat() >= names.size()) {
+                        if (add.seat() > names.size()) {
+                            throw new IOException("Corrupted journal: player added to seat " + add.seat() + ".");
+                        }
+                        names.add(add.name());
+                        types.add(add.type());
+                    }
+                    commands.add(command);
+                } else if (tag == MatchJournalImpl.CHECKPOINT) {
+                    final int commandCount = data.readInt();
+                    final long randomState = data.readLong();
+                    final GameSnapshotImpl snapshot = GameSnapshotImpl.readFrom(data);
+                    if (commandCount != commands.size() || snapshot.getPlayerCount() != names.size()
+                            || snapshot.getMode() != mode) {
+                        throw new IOException("Corrupted journal: checkpoint out of place.");
+                    }
+                    checkpoints.add(new Checkpoint(commandCount, randomState, snapshot));
+                } else {
+                    throw new IOException("Corrupted journal: unknown record " + tag + ".");
+                }
+            }
+        } catch (final EOFException e) {
+            // The last record was cut short: the complete ones are still valid.
+        }
+        if (checkpoints.isEmpty()) {
+            throw new IOException("Corrupted journal: no initial state.");
+        }
+        return new MatchReplayImpl(names, types, Collections.unmodifiableList(commands),
+                Collections.unmodifiableList(checkpoints));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<GameCommand> getCommands() {
+        return commands;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameContext replayTo(final int commandCount) {
+        if (commandCount < 0 || commandCount > commands.size()) {
+            throw new IllegalArgumentException("The journal holds " + commands.size() + " commands, not "
+                    + commandCount + ".");
+        }
+        Checkpoint start = checkpoints.get(0);
+        for (final Checkpoint checkpoint : checkpoints) {
+            if (checkpoint.commandCount() <= commandCount) {
+                start = checkpoint;
+            }
+        }
+
+        final GameContext game = start.snapshot().restore(createPlayers(start.snapshot().getPlayerCount()),
+                new SilentGameLoggerImpl(), new SplitMixRandom(start.randomState()));
+        for (final GameCommand command : commands.subList(start.commandCount(), commandCount)) {
+            try {
+                command.applyTo(game);
+            } catch (final IllegalStateException e) {
+                // The command was refused during the match as well.
+            }
+        }
+        return game;
+    }
+
+    /**
+     * Creates the players of the first seats of the match, with empty hands.
+     *
+     * @param count the number of seats.
+     * @return the players, in seat order.
+     */
+    private List<AbstractPlayer> createPlayers(final int count) {
+        final List<AbstractPlayer> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            try {
+                players.add(MatchStoreImpl.createPlayer(types.get(i), names.get(i)));
+            } catch (final IOException e) {
+                throw new IllegalStateException("Player types are checked when the journal is read.", e);
+            }
+        }
+        return players;
+    }
+
+    /**
+     * Checks an ordinal read from the journal.
+     *
+     * @param index the ordinal.
+     * @param size  the number of values.
+     * @return the ordinal.
+     * @throws IOException if the ordinal is out of range.
+     */
+    private static int checkIndex(final int index, final int size) throws IOException {
+        if (index < 0 || index >= size) {
+            throw new IOException("Corrupted journal: unknown value " + index + ".");
+        }
+        return index;
+    }
+}
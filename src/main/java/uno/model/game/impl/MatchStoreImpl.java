@@ -0,0 +1,268 @@
+package uno.model.game.impl;
+
+import uno.model.game.api.GameContext;
+import uno.model.game.api.MatchStore;
+import uno.model.players.impl.AIAllWild;
+import uno.model.players.impl.AIClassic;
+import uno.model.players.impl.AIFlip;
+import uno.model.players.impl.AIMonteCarlo;
+import uno.model.players.impl.AbstractPlayer;
+import uno.model.players.impl.HumanPlayer;
+import uno.model.utils.api.GameLogger;
+import uno.model.utils.impl.SplitMixRandom;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of the {@link MatchStore} interface that keeps one match in a
+ * compact, versioned binary file.
+ * The file starts with a magic number and a format version, followed by the
+ * seed of the random source of the resumed match, the seat of each player (name and type) and the
+ * {@link GameSnapshotImpl} of the game, with cards stored by catalog id.
+ * A long match takes a few hundred bytes. Files are written to a temporary file
+ * and then moved over the previous save, so a crash never leaves a partial save.
+ */
+public final class MatchStoreImpl implements MatchStore {
+
+    /**
+     * Version of the file format written by this class.
+     */
+    public static final int FORMAT_VERSION = 2;
+
+    /**
+     * Code of the players whose type cannot be saved.
+     */
+    public static final int UNKNOWN_TYPE = -1;
+
+    private static final int MAGIC = 0x554E4F4D;
+    private static final int HUMAN = 0;
+    private static final int AI_CLASSIC = 1;
+    private static final int AI_FLIP = 2;
+    private static final int AI_ALL_WILD = 3;
+    private static final int AI_MONTE_CARLO = 4;
+
+    private final Path file;
+
+    /**
+     * Constructor for MatchStoreImpl.
+     * 
+     * @param file the file holding the saved match.
+     */
+    public MatchStoreImpl(final Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Creates a store in the default location, {@code ~/.uno/saves/match.bin}.
+     * 
+     * @return the store.
+     */
+    public static MatchStore createDefault() {
+        return new MatchStoreImpl(Paths.get(System.getProperty("user.home"), ".uno", "saves", "match.bin"));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void save(final GameContext game) throws IOException {
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        write(game, seedOf(game), buffer);
+
+        final Path dir = file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        final Path temp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, buffer.toByteArray());
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameContext load(final GameLogger logger) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return read(in, logger);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasSavedMatch() {
+        return Files.isRegularFile(file);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void delete() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Writes a match in the format of this store.
+     * 
+     * @param game the match.
+     * @param seed the seed of the resumed match.
+     * @param out  the destination, left open.
+     * @throws IOException if the destination cannot be written.
+     * @throws IllegalArgumentException if a player has a type that cannot be saved.
+     */
+    static void write(final GameContext game, final long seed, final OutputStream out) throws IOException {
+        final DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeShort(FORMAT_VERSION);
+        data.writeLong(seed);
+        writeSeats(data, game.getPlayers());
+        GameSnapshotImpl.capture(game).writeTo(data);
+        data.flush();
+    }
+
+    /**
+     * Reads a match written by {@link #write(GameContext, long, OutputStream)}.
+     * 
+     * @param in     the source, left open.
+     * @param logger the logger of the resumed match.
+     * @return a playable game in the saved state.
+     * @throws IOException if the source cannot be read or is not a valid save.
+     */
+    static GameContext read(final InputStream in, final GameLogger logger) throws IOException {
+        final DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a saved UNO match.");
+        }
+        final int version = data.readUnsignedShort();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported save format version " + version + ".");
+        }
+        final long seed = data.readLong();
+        final int playerCount = data.readShort();
+        final List<AbstractPlayer> players = new ArrayList<>(Math.max(playerCount, 0));
+        for (int i = 0; i < playerCount; i++) {
+            final String name = data.readUTF();
+            players.add(createPlayer(data.readByte(), name));
+        }
+
+        final GameSnapshotImpl snapshot = GameSnapshotImpl.readFrom(data);
+        if (snapshot.getPlayerCount() != players.size()) {
+            throw new IOException("Corrupted save: " + players.size() + " players for "
+                    + snapshot.getPlayerCount() + " seats.");
+        }
+        return snapshot.restore(players, logger, new SplitMixRandom(seed));
+    }
+
+    /**
+     * Gets the seed of the resumed match: the exact state of the random source
+     * of the game, so the resumed match continues as the saved one would have.
+     * The random source is only read, so saving does not change the match.
+     * 
+     * @param game the match.
+     * @return the seed.
+     * @throws IllegalArgumentException if the match does not use a {@link SplitMixRandom}.
+     */
+    static long seedOf(final GameContext game) {
+        if (!(game.getRandom() instanceof SplitMixRandom splitMix)) {
+            throw new IllegalArgumentException("Only matches using a SplitMixRandom can be saved.");
+        }
+        return splitMix.getState();
+    }
+
+    /**
+     * Writes the name and the type of each player.
+     * 
+     * @param out     the destination.
+     * @param players the players, in seat order.
+     * @throws IOException if the destination cannot be written.
+     * @throws IllegalArgumentException if a player has a type that cannot be saved.
+     */
+    static void writeSeats(final DataOutput out, final List<AbstractPlayer> players) throws IOException {
+        out.writeShort(players.size());
+        for (final AbstractPlayer player : players) {
+            out.writeUTF(player.getName());
+            out.writeByte(typeOf(player));
+        }
+    }
+
+    /**
+     * Gets the code of the type of a player.
+     * 
+     * @param player the player.
+     * @return the code written in the file.
+     * @throws IllegalArgumentException if the player has a type that cannot be saved.
+     */
+    static int typeOf(final AbstractPlayer player) {
+        final int type = typeCodeOf(player);
+        if (type == UNKNOWN_TYPE) {
+            throw new IllegalArgumentException("Players of type " + player.getClass().getSimpleName()
+                    + " cannot be saved.");
+        }
+        return type;
+    }
+
+    /**
+     * Gets the code of the type of a player, as written in saves and journals.
+     * 
+     * @param player the player.
+     * @return the code, or {@link #UNKNOWN_TYPE} if the type cannot be saved.
+     */
+    public static int typeCodeOf(final AbstractPlayer player) {
+        if (player.getClass() == HumanPlayer.class) {
+            return HUMAN;
+        } else if (player.getClass() == AIClassic.class) {
+            return AI_CLASSIC;
+        } else if (player.getClass() == AIFlip.class) {
+            return AI_FLIP;
+        } else if (player.getClass() == AIAllWild.class) {
+            return AI_ALL_WILD;
+        } else if (player.getClass() == AIMonteCarlo.class) {
+            return AI_MONTE_CARLO;
+        }
+        return UNKNOWN_TYPE;
+    }
+
+    /**
+     * Creates a player of a saved type.
+     * 
+     * @param type the code read from the file.
+     * @param name the name of the player.
+     * @return the new player, with an empty hand.
+     * @throws IOException if the code is unknown.
+     */
+    public static AbstractPlayer createPlayer(final int type, final String name) throws IOException {
+        switch (type) {
+            case HUMAN:
+                return new HumanPlayer(name);
+            case AI_CLASSIC:
+                return new AIClassic(name);
+            case AI_FLIP:
+                return new AIFlip(name);
+            case AI_ALL_WILD:
+                return new AIAllWild(name);
+            case AI_MONTE_CARLO:
+                return new AIMonteCarlo(name);
+            default:
+                throw new IOException("Corrupted save: unknown player type " + type + ".");
+        }
+    }
+}
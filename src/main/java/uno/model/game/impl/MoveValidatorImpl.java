@@ -40,11 +40,7 @@ public class MoveValidatorImpl implements MoveValidator {
      */
     @Override
     public boolean playerHasPlayableCard(final AbstractPlayer player) {
-        for (final Optional<Card> card : player.getHand()) {
-            if (card.isPresent() && isValidMove(card.get())) {
-                return true;
-            }
-        }
-        return false;
+        final Optional<Card> topCard = gameContext.getTopDiscardCard();
+        return topCard.isPresent() && player.getHandView().hasPlayableCard(topCard.get(), gameContext);
     }
 }
@@ -6,7 +6,6 @@ import uno.model.game.api.ScoreManager;
 import uno.model.players.impl.AbstractPlayer;
 
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Helper class responsible for calculating scores at the end of a round.
@@ -22,10 +21,8 @@ public class ScoreManagerImpl implements ScoreManager {
 
         for (final AbstractPlayer player : players) {
             if (!player.equals(winner)) {
-                for (final Optional<Card> cardOpt : player.getHand()) {
-                    if (cardOpt.isPresent()) {
-                        totalPoints += cardOpt.get().getPointValue(game);
-                    }
+                for (final Card card : player.getHandView()) {
+                    totalPoints += card.getPointValue(game);
                 }
             }
         }
@@ -0,0 +1,112 @@
+package uno.model.game.impl;
+
+import uno.model.game.api.GameMode;
+import uno.model.game.api.GameRules;
+import uno.model.game.api.GameSimulator;
+import uno.model.game.api.SimulationResult;
+import uno.model.game.api.TournamentResult;
+import uno.model.game.api.TournamentRunner;
+import uno.model.players.impl.AbstractAIPlayer;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+/**
+ * Implementation of the TournamentRunner.
+ * Games are independent, so they are split over a dedicated fork-join pool with
+ * a parallel stream; every worker accumulates into its own
+ * {@link TournamentStats} and the partial results are merged at the end, so
+ * workers never contend on shared state. Random numbers come either from
+ * {@link java.util.concurrent.ThreadLocalRandom}, which is local to each worker,
+ * or from a per-game source derived from a tournament seed.
+ */
+public class TournamentRunnerImpl implements TournamentRunner {
+
+    private final GameSimulator simulator;
+    private final int parallelism;
+
+    /**
+     * Constructor for TournamentRunnerImpl using every available core.
+     *
+     * @param rules rules of the simulated games.
+     */
+    public TournamentRunnerImpl(final GameRules rules) {
+        this(rules, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor for TournamentRunnerImpl.
+     *
+     * @param rules       rules of the simulated games.
+     * @param parallelism number of worker threads.
+     */
+    public TournamentRunnerImpl(final GameRules rules, final int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive.");
+        }
+        this.simulator = new GameSimulatorImpl(rules);
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TournamentResult run(final GameMode gameMode, final int playerCount, final long games) {
+        return run(gameMode, () -> GameSimulatorImpl.createDefaultPlayers(gameMode, playerCount), games);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TournamentResult run(final GameMode gameMode, final Supplier<List<AbstractAIPlayer>> lineup,
+            final long games) {
+        return play(games, i -> simulator.simulate(gameMode, lineup.get()));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Game {@code i} uses a {@link SplittableRandom} seeded with {@code seed + i},
+     * so a single game of the tournament can be replayed with
+     * {@link GameSimulator#simulate(GameMode, List, java.util.random.RandomGenerator)}.
+     */
+    @Override
+    public TournamentResult run(final GameMode gameMode, final Supplier<List<AbstractAIPlayer>> lineup,
+            final long games, final long seed) {
+        return play(games, i -> simulator.simulate(gameMode, lineup.get(), new SplittableRandom(seed + i)));
+    }
+
+    /**
+     * Plays the games on the worker pool and merges the per-worker statistics.
+     *
+     * @param games the number of games to play.
+     * @param game  plays the game with the given index.
+     * @return the aggregated results.
+     */
+    private TournamentResult play(final long games, final LongFunction<SimulationResult> game) {
+        if (games < 0) {
+            throw new IllegalArgumentException("The number of games cannot be negative.");
+        }
+
+        try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+            return pool.submit(() -> LongStream.range(0, games)
+                    .parallel()
+                    .collect(TournamentStats::new,
+                            (stats, i) -> stats.record(game.apply(i)),
+                            TournamentStats::merge))
+                    .get()
+                    .toResult();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Tournament interrupted.", e);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("A tournament game failed.", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package uno.model.game.impl;
+
+import uno.model.game.api.SimulationResult;
+import uno.model.game.api.TournamentResult;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Mutable accumulator of tournament results.
+ * Each worker thread fills its own instance without any synchronization; the
+ * instances are merged together only once the workers are done.
+ */
+final class TournamentStats {
+
+    private static final int SCORE_BUCKET_WIDTH = 50;
+
+    private final Map<String, Long> winsByAiClass = new HashMap<>();
+    private final Map<Integer, Long> scoreHistogram = new HashMap<>();
+    private long games;
+    private long stalledGames;
+    private long totalTurns;
+
+    /**
+     * Adds the outcome of a single game.
+     *
+     * @param result the outcome of the game.
+     */
+    void record(final SimulationResult result) {
+        games++;
+        totalTurns += result.turns();
+        if (result.hasWinner()) {
+            winsByAiClass.merge(result.winner().get().getClass().getSimpleName(), 1L, Long::sum);
+            scoreHistogram.merge(result.score() / SCORE_BUCKET_WIDTH * SCORE_BUCKET_WIDTH, 1L, Long::sum);
+        } else {
+            stalledGames++;
+        }
+    }
+
+    /**
+     * Adds every outcome accumulated by another worker.
+     *
+     * @param other the accumulator of the other worker.
+     */
+    void merge(final TournamentStats other) {
+        games += other.games;
+        stalledGames += other.stalledGames;
+        totalTurns += other.totalTurns;
+        other.winsByAiClass.forEach((k, v) -> winsByAiClass.merge(k, v, Long::sum));
+        other.scoreHistogram.forEach((k, v) -> scoreHistogram.merge(k, v, Long::sum));
+    }
+
+    /**
+     * Builds the immutable summary of the accumulated outcomes.
+     *
+     * @return the tournament result.
+     */
+    TournamentResult toResult() {
+        final double averageTurns = games == 0 ? 0 : (double) totalTurns / games;
+        return new TournamentResult(games, stalledGames, winsByAiClass, averageTurns, scoreHistogram);
+    }
+}
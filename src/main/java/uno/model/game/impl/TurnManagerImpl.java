@@ -1,24 +1,39 @@
 package uno.model.game.impl;
 
 import uno.model.game.api.Game;
+import uno.model.game.api.GameContext;
 import uno.model.game.api.TurnManager;
 import uno.model.players.impl.AbstractPlayer;
 import uno.model.game.api.GameRules;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Concrete implementation of the Turn Manager logic.
+ * Every participant keeps the seat given by their index in the list of
+ * players. The seats of the active players are kept in table order in an
+ * array, so that advancing, skipping and peeking are a single modulo step
+ * whatever the number of players; only eliminating a player or bringing one
+ * back shifts the array.
  */
 public class TurnManagerImpl implements TurnManager {
 
-    private static final Random RANDOM = new Random();
-
-    private final List<AbstractPlayer> players;
+    private final List<AbstractPlayer> seats;
+    private final Map<AbstractPlayer, Integer> seatOf;
     private final GameRules rules;
-    private int currentPlayerIndex;
+    private final RandomGenerator random;
+    private int[] activeSeats;
+    private int activeCount;
+    private int currentPosition;
+    private long version;
+    private long lookaheadVersion = -1;
+    private List<AbstractPlayer> lookahead = List.of();
     private boolean isClockwise;
     private boolean hasDrawnThisTurn;
     private int skipSize;
@@ -39,9 +54,49 @@ public class TurnManagerImpl implements TurnManager {
      * @param rules   The game rules.
      */
     public TurnManagerImpl(final List<AbstractPlayer> players, final GameRules rules) {
-        this.players = new ArrayList<>(players);
+        this(players, rules, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Initializes the turn manager with custom rules and a random source used
+     * to pick the starting player.
+     * 
+     * @param players The list of participants.
+     * @param rules   The game rules.
+     * @param random  The random source of the game.
+     */
+    public TurnManagerImpl(final List<AbstractPlayer> players, final GameRules rules,
+            final RandomGenerator random) {
+        this(players, rules, random, random.nextInt(players.size()));
+    }
+
+    /**
+     * Initializes the turn manager with a given starting player, without
+     * drawing from the random source. Used to rebuild a game in a known state.
+     * 
+     * @param players       The list of participants.
+     * @param rules         The game rules.
+     * @param random        The random source of the game.
+     * @param startingIndex The index of the starting player.
+     */
+    public TurnManagerImpl(final List<AbstractPlayer> players, final GameRules rules,
+            final RandomGenerator random, final int startingIndex) {
+        if (startingIndex < 0 || startingIndex >= players.size()) {
+            throw new IllegalArgumentException("No player at index " + startingIndex + ".");
+        }
+        this.seats = new ArrayList<>(players);
+        this.seatOf = new HashMap<>();
+        this.activeSeats = new int[players.size()];
+        for (int seat = 0; seat < players.size(); seat++) {
+            if (seatOf.put(players.get(seat), seat) != null) {
+                throw new IllegalArgumentException("Player " + players.get(seat).getName() + " is seated twice.");
+            }
+            activeSeats[seat] = seat;
+        }
+        this.activeCount = players.size();
         this.rules = rules;
-        this.currentPlayerIndex = RANDOM.nextInt(players.size());
+        this.random = random;
+        this.currentPosition = startingIndex;
         this.isClockwise = true;
         this.hasDrawnThisTurn = false;
         this.skipSize = 0;
@@ -52,7 +107,7 @@ public class TurnManagerImpl implements TurnManager {
      */
     @Override
     public AbstractPlayer getCurrentPlayer() {
-        return players.get(currentPlayerIndex);
+        return playerAt(currentPosition);
     }
 
     /**
@@ -60,18 +115,11 @@ public class TurnManagerImpl implements TurnManager {
      */
     @Override
     public void advanceTurn(final Game game) {
-        final int n = players.size();
-
-        final int totalSteps = this.skipSize + 1;
+        currentPosition = nextPosition();
 
         this.skipSize = 0;
         this.hasDrawnThisTurn = false;
-
-        final int direction = isClockwise ? 1 : -1;
-
-        final int nextIndex = currentPlayerIndex + (totalSteps * direction);
-
-        currentPlayerIndex = (nextIndex % n + n) % n;
+        version++;
 
         checkAndApplyStartTurnPenalty(game);
     }
@@ -89,6 +137,10 @@ public class TurnManagerImpl implements TurnManager {
         final AbstractPlayer player = getCurrentPlayer();
 
         if (player.getHandSize() == 1 && !player.isHasCalledUno()) {
+            if (game instanceof GameContext context) {
+                context.getLogger().logAction(player.getName(), "UNO_PENALTY", "N/A",
+                        "UNO not called. Penalty: Draw 2.");
+            }
             player.unoPenalty(game);
         }
 
@@ -100,13 +152,31 @@ public class TurnManagerImpl implements TurnManager {
      */
     @Override
     public AbstractPlayer peekNextPlayer() {
-        final int totalSteps = this.skipSize + 1;
-        final int n = players.size();
-        final int direction = isClockwise ? 1 : -1;
-        final int nextIndex = currentPlayerIndex + (totalSteps * direction);
-        final int nextPlayerIndex = (nextIndex % n + n) % n;
+        return playerAt(nextPosition());
+    }
 
-        return players.get(nextPlayerIndex);
+    /**
+     * {@inheritDoc}
+     * The list is built once and shared until the turn, the direction, the
+     * pending skip or the seats change.
+     */
+    @Override
+    public List<AbstractPlayer> peekNextPlayers(final int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Cannot look ahead " + n + " players.");
+        }
+        final int size = Math.min(n, activeCount);
+        if (lookaheadVersion != version || lookahead.size() < size) {
+            final AbstractPlayer[] next = new AbstractPlayer[size];
+            final int step = isClockwise ? 1 : -1;
+            final int first = nextPosition();
+            for (int i = 0; i < size; i++) {
+                next[i] = playerAt(Math.floorMod(first + i * step, activeCount));
+            }
+            lookahead = List.of(next);
+            lookaheadVersion = version;
+        }
+        return lookahead.size() == size ? lookahead : lookahead.subList(0, size);
     }
 
     /**
@@ -114,10 +184,11 @@ public class TurnManagerImpl implements TurnManager {
      */
     @Override
     public void reverseDirection() {
-        if (players.size() == 2) {
+        if (activeCount == 2) {
             skipPlayers(1);
         }
         isClockwise = !isClockwise;
+        version++;
     }
 
     /**
@@ -126,6 +197,7 @@ public class TurnManagerImpl implements TurnManager {
     @Override
     public void skipPlayers(final int n) {
         this.skipSize = n;
+        version++;
     }
 
     /**
@@ -160,6 +232,135 @@ public class TurnManagerImpl implements TurnManager {
         this.isClockwise = true;
         this.hasDrawnThisTurn = false;
         this.skipSize = 0;
-        this.currentPlayerIndex = RANDOM.nextInt(players.size());
+        this.currentPosition = random.nextInt(activeCount);
+        version++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setCurrentPlayer(final AbstractPlayer player) {
+        this.currentPosition = positionOf(player);
+        version++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSkipSize() {
+        return this.skipSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setClockwise(final boolean clockwise) {
+        this.isClockwise = clockwise;
+        version++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getActivePlayerCount() {
+        return activeCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isActive(final AbstractPlayer player) {
+        final Integer seat = seatOf.get(player);
+        return seat != null && Arrays.binarySearch(activeSeats, 0, activeCount, seat) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void eliminatePlayer(final AbstractPlayer player) {
+        final int position = positionOf(player);
+        if (activeCount == 1) {
+            throw new IllegalStateException("Cannot eliminate the last player " + player.getName() + ".");
+        }
+        System.arraycopy(activeSeats, position + 1, activeSeats, position, activeCount - position - 1);
+        activeCount--;
+        if (position < currentPosition) {
+            currentPosition--;
+        } else if (position == currentPosition) {
+            // The following seat slid into this position: going the other way, the turn is one seat back.
+            currentPosition = Math.floorMod(isClockwise ? position : position - 1, activeCount);
+            hasDrawnThisTurn = false;
+        }
+        version++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addPlayer(final AbstractPlayer player) {
+        Integer seat = seatOf.get(player);
+        if (seat == null) {
+            seat = seats.size();
+            seats.add(player);
+            seatOf.put(player, seat);
+        }
+        int position = Arrays.binarySearch(activeSeats, 0, activeCount, seat);
+        if (position >= 0) {
+            throw new IllegalArgumentException("Player " + player.getName() + " is already playing.");
+        }
+        position = -position - 1;
+        if (activeCount == activeSeats.length) {
+            activeSeats = Arrays.copyOf(activeSeats, Math.max(1, activeCount * 2));
+        }
+        System.arraycopy(activeSeats, position, activeSeats, position + 1, activeCount - position);
+        activeSeats[position] = seat;
+        activeCount++;
+        if (position <= currentPosition) {
+            currentPosition++;
+        }
+        version++;
+    }
+
+    /**
+     * Computes the position, among the active seats, of the next player.
+     * 
+     * @return the position reached applying the direction and the pending skip.
+     */
+    private int nextPosition() {
+        final int direction = isClockwise ? 1 : -1;
+        return Math.floorMod(currentPosition + ((skipSize + 1) % activeCount) * direction, activeCount);
+    }
+
+    /**
+     * Gets the player sitting at a position among the active seats.
+     * 
+     * @param position the position.
+     * @return the player.
+     */
+    private AbstractPlayer playerAt(final int position) {
+        return seats.get(activeSeats[position]);
+    }
+
+    /**
+     * Finds the position of an active player among the active seats.
+     * 
+     * @param player the player.
+     * @return the position.
+     * @throws IllegalArgumentException if the player is not active in the game.
+     */
+    private int positionOf(final AbstractPlayer player) {
+        final Integer seat = seatOf.get(player);
+        final int position = seat == null ? -1 : Arrays.binarySearch(activeSeats, 0, activeCount, seat);
+        if (position < 0) {
+            throw new IllegalArgumentException("Player " + player.getName() + " is not in this game.");
+        }
+        return position;
     }
 }
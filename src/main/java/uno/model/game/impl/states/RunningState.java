@@ -1,5 +1,6 @@
 package uno.model.game.impl.states;
 
+import uno.model.api.GameEvent;
 import uno.model.cards.attributes.CardColor;
 import uno.model.cards.attributes.CardValue;
 import uno.model.cards.types.api.Card;
@@ -47,7 +48,7 @@ public class RunningState extends AbstractGameState {
             throw new IllegalStateException("RULE: Skip After Draw. You drawn a card, so you must pass your turn.");
         }
 
-        if (!player.getHand().contains(card)) {
+        if (card.isEmpty() || !player.getHandView().contains(card.get())) {
             throw new IllegalStateException("Player " + player.getName() + " does not have the card");
         }
 
@@ -66,6 +67,8 @@ public class RunningState extends AbstractGameState {
             this.getGame().setCurrentColorOptional(Optional.of(card.get().getColor(this.getGame())));
         }
 
+        this.getGame().fireEvent(new GameEvent.CardPlayed(player, card.get()));
+
         if (card.get().getValue(this.getGame()) == CardValue.WILD_FORCED_SWAP) {
             player.playCard(card);
             this.getGame().getDiscardPile().addCard(card.get());
@@ -92,9 +95,14 @@ public class RunningState extends AbstractGameState {
             }
 
             this.getGame().setWinner(player);
+            this.getGame().fireEvent(new GameEvent.RoundEnded(player,
+                    this.getGame().getGameState() == GameState.GAME_OVER));
             this.getGame().getLogger().logAction("SYSTEM", "GAME_OVER", "N/A",
                     "Winner: " + player.getName() + " (" + winType + ") Points: " + points + " Total Score: "
                             + player.getScore());
+            if (this.getGame().getGameState() == GameState.GAME_OVER) {
+                this.getGame().getLogger().close();
+            }
             this.getGame().notifyObservers();
             return;
         }
@@ -142,7 +150,7 @@ public class RunningState extends AbstractGameState {
         }
 
         final AbstractPlayer currentPlayer = this.getGame().getCurrentPlayer();
-        final String handSize = String.valueOf(currentPlayer.getHand().size());
+        final String handSize = String.valueOf(currentPlayer.getHandSize());
 
         this.getGame().getLogger().logAction(currentPlayer.getName(), "PASS_TURN", "N/A", "HandSize: " + handSize);
         this.getGame().getTurnManager().advanceTurn(this.getGame());
@@ -1,5 +1,6 @@
 package uno.model.game.impl.states;
 
+import uno.model.api.GameEvent;
 import uno.model.cards.attributes.CardColor;
 import uno.model.cards.attributes.CardValue;
 import uno.model.cards.types.api.Card;
@@ -48,6 +49,7 @@ public class WaitingForColorState extends AbstractGameState {
         }
 
         this.getGame().setCurrentColorOptional(Optional.of(color));
+        this.getGame().fireEvent(new GameEvent.ColorChosen(color));
         this.getGame().setGameState(new RunningState(this.getGame()));
         this.getGame().notifyObservers();
     }
@@ -59,18 +61,11 @@ public class WaitingForColorState extends AbstractGameState {
     public void drawUntilColorChosenCard(final CardColor color) {
         final AbstractPlayer nextPlayer = this.getGame().getTurnManager().peekNextPlayer();
 
-        while (true) {
-            final Optional<Card> drawnCard = this.getGame().getDrawDeck().draw();
-            if (drawnCard.isPresent()) {
-                nextPlayer.addCardToHand(drawnCard.get());
-
-                if (drawnCard.get().getColor(this.getGame()) == color) {
-                    break;
-                }
-            }
-        }
+        final int drawn = this.getGame().drawUntilColorForPlayer(nextPlayer, color);
 
+        this.getGame().fireEvent(new GameEvent.CardsDrawn(nextPlayer, drawn));
         this.getGame().setCurrentColorOptional(Optional.of(color));
+        this.getGame().fireEvent(new GameEvent.ColorChosen(color));
         this.getGame().setGameState(new RunningState(this.getGame()));
         this.getGame().getTurnManager().advanceTurn(this.getGame());
         this.getGame().notifyObservers();
@@ -1,5 +1,6 @@
 package uno.model.game.impl.states;
 
+import uno.model.api.GameEvent;
 import uno.model.cards.attributes.CardValue;
 import uno.model.cards.types.api.Card;
 import uno.model.game.api.GameContext;
@@ -17,6 +18,8 @@ import java.util.Optional;
  */
 public class WaitingForPlayerState extends AbstractGameState {
 
+    private static final int TARGETED_DRAW_CARDS = 2;
+
     /**
      * Constructor for WaitingForPlayerState.
      * 
@@ -36,9 +39,14 @@ public class WaitingForPlayerState extends AbstractGameState {
 
     /**
      * {@inheritDoc}
+     * 
+     * @throws IllegalStateException if the chosen player was eliminated.
      */
     @Override
     public void chosenPlayer(final AbstractPlayer player) {
+        if (!this.getGame().getTurnManager().isActive(player)) {
+            throw new IllegalStateException("Player " + player.getName() + " is not playing.");
+        }
         final Card playedCard = this.getGame().getCurrentPlayedCard();
 
         this.getGame().getLogger().logAction(this.getGame().getCurrentPlayer().getName(), 
@@ -50,11 +58,11 @@ public class WaitingForPlayerState extends AbstractGameState {
             final List<Optional<Card>> tempHand = new ArrayList<>(currentPlayer.getHand());
             currentPlayer.setHand(player.getHand());
             player.setHand(tempHand);
+            this.getGame().fireEvent(new GameEvent.HandsSwapped(currentPlayer, player));
         }
 
         if (playedCard.getValue(this.getGame()) == CardValue.WILD_TARGETED_DRAW_TWO) {
-            this.getGame().drawCardForPlayer(player);
-            this.getGame().drawCardForPlayer(player);
+            this.getGame().drawCardsForPlayer(player, TARGETED_DRAW_CARDS);
         }
 
         this.getGame().setGameState(new RunningState(this.getGame()));
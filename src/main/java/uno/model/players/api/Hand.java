@@ -0,0 +1,86 @@
+package uno.model.players.api;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.attributes.CardValue;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.Game;
+
+import java.util.List;
+
+/**
+ * Read-only view of the cards held by a player.
+ * The view is live: it always reflects the current content of the hand, and
+ * reading it never copies the cards nor wraps them.
+ */
+public interface Hand extends Iterable<Card> {
+
+    /**
+     * Returns the number of cards in the hand.
+     * 
+     * @return the number of cards.
+     */
+    int size();
+
+    /**
+     * Checks if the hand has no cards.
+     * 
+     * @return true if the hand is empty.
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns the card at the given position, in the order the cards were received.
+     * 
+     * @param index the position of the card.
+     * @return the card at the given position.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    Card get(int index);
+
+    /**
+     * Checks if the hand holds the given card instance.
+     * 
+     * @param card the card to look for.
+     * @return true if the card is in the hand.
+     */
+    boolean contains(Card card);
+
+    /**
+     * Counts the cards of the given color on the side currently in play.
+     * 
+     * @param color the color to count.
+     * @param game  the current game, used to know which side is in play.
+     * @return the number of cards of that color.
+     */
+    int count(CardColor color, Game game);
+
+    /**
+     * Counts the cards of the given value on the side currently in play.
+     * 
+     * @param value the value to count.
+     * @param game  the current game, used to know which side is in play.
+     * @return the number of cards of that value.
+     */
+    int count(CardValue value, Game game);
+
+    /**
+     * Checks if at least one card can be played on the given top card, with the
+     * same rules as {@link Card#canBePlayedOn(Card, Game)}, in constant time.
+     * 
+     * @param topCard the card on top of the discard pile.
+     * @param game    the current game.
+     * @return true if the hand holds a playable card.
+     */
+    boolean hasPlayableCard(Card topCard, Game game);
+
+    /**
+     * Lists the cards that can be played on the given top card, with the same
+     * rules as {@link Card#canBePlayedOn(Card, Game)}, in the order of the hand.
+     * Only the cards of the matching color, value and wild groups are visited.
+     * 
+     * @param topCard the card on top of the discard pile.
+     * @param game    the current game.
+     * @return a new list with the playable cards.
+     */
+    List<Card> getPlayableCards(Card topCard, Game game);
+}
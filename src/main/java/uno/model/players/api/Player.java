@@ -52,6 +52,15 @@ public interface Player {
      */
     List<Optional<Card>> getHand();
 
+    /**
+     * Gets a live, read-only view of the player's hand.
+     * Unlike {@link #getHand()}, it does not copy the cards, so it is the one to
+     * use in hot paths such as move validation and AI strategies.
+     * 
+     * @return The hand of the player.
+     */
+    Hand getHandView();
+
     /**
      * Gets the current size of the player's hand.
      * 
@@ -73,6 +82,13 @@ public interface Player {
      */
     void addCardToHand(Card card);
 
+    /**
+     * Adds several cards to the player's hand in one operation.
+     * 
+     * @param cards The cards to add.
+     */
+    void addCardsToHand(List<Card> cards);
+
     /**
      * Removes a card from hand.
      * 
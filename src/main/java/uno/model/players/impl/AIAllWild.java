@@ -1,7 +1,5 @@
 package uno.model.players.impl;
 
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,7 +7,6 @@ import uno.model.cards.attributes.CardColor;
 import uno.model.cards.attributes.CardValue;
 import uno.model.cards.types.api.Card;
 import uno.model.game.api.Game;
-import uno.model.game.api.GameState;
 
 /**
  * AI implementation for UNO All Wild.
@@ -30,17 +27,12 @@ public class AIAllWild extends AbstractAIPlayer {
      * {@inheritDoc}
      */
     @Override
-    public void takeTurn(final Game game) {
+    protected void playTurn(final Game game, final Optional<Card> chosenCard) {
         // Standard turn logic handled by AbstractAIPlayer
-        super.takeTurn(game);
+        super.playTurn(game, chosenCard);
 
         // if we are waiting for a player choice, we need to choose the target
-        if (game.getGameState() == GameState.WAITING_FOR_PLAYER) {
-            findBestTarget(game).ifPresent(target -> {
-                game.chosenPlayer(target);
-                game.aiAdvanceTurn();
-            });
-        }
+        chooseTargetIfNeeded(game);
     }
 
     /**
@@ -98,18 +90,6 @@ public class AIAllWild extends AbstractAIPlayer {
         return CardColor.WILD;
     }
 
-    /**
-     * Find the best target player (the one with the fewest cards).
-     * 
-     * @param game Current game instance.
-     * @return The best target player.
-     */
-    private Optional<AbstractPlayer> findBestTarget(final Game game) {
-        return game.getPlayers().stream()
-                .filter(p -> !p.equals(this))
-                .min(Comparator.comparingInt(AbstractPlayer::getHandSize));
-    }
-
     /**
      * Check if the card is an aggressive type.
      * 
@@ -123,20 +103,4 @@ public class AIAllWild extends AbstractAIPlayer {
                 || val == CardValue.WILD_SKIP_TWO
                 || val == CardValue.WILD_SKIP;
     }
-
-    /**
-     * Get playable cards from hand.
-     * 
-     * @param game Current game instance.
-     * @return List of playable cards.
-     */
-    private List<Card> getPlayableCards(final Game game) {
-        final List<Card> list = new ArrayList<>();
-        for (final Optional<Card> opt : getHand()) {
-            if (opt.isPresent() && isMoveValid(opt.get(), game)) {
-                list.add(opt.get());
-            }
-        }
-        return list;
-    }
 }
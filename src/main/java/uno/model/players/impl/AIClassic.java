@@ -131,20 +131,17 @@ public class AIClassic extends AbstractAIPlayer {
         colorScores.put(CardColor.BLUE, 0);
         colorScores.put(CardColor.YELLOW, 0);
 
-        for (final Optional<Card> cardOpt : this.getHand()) {
-            if (cardOpt.isPresent()) {
-                final Card card = cardOpt.get();
-                final CardColor color = card.getColor(game);
+        for (final Card card : this.getHandView()) {
+            final CardColor color = card.getColor(game);
 
-                if (colorScores.containsKey(color)) {
-                    int score = 1;
+            if (colorScores.containsKey(color)) {
+                int score = 1;
 
-                    if (isActionCard(card.getValue(game))) {
-                        score = 3;
-                    }
-
-                    colorScores.put(color, colorScores.get(color) + score);
+                if (isActionCard(card.getValue(game))) {
+                    score = 3;
                 }
+
+                colorScores.put(color, colorScores.get(color) + score);
             }
         }
 
@@ -198,36 +195,20 @@ public class AIClassic extends AbstractAIPlayer {
     }
 
     /**
-     * Check if any opponent has only one card left (UNO).
+     * Check if any active opponent has only one card left (UNO).
      * 
      * @param game The current game instance.
      * @return True if any opponent has UNO, false otherwise.
      */
     private boolean hasOpponentWithUno(final Game game) {
         for (final var player : game.getPlayers()) {
-            if (!player.equals(this) && player.getHandSize() == 1) {
+            if (!player.equals(this) && player.getHandSize() == 1 && game.getTurnManager().isActive(player)) {
                 return true;
             }
         }
         return false;
     }
 
-    /**
-     * Get all playable cards from hand.
-     * 
-     * @param game The current game instance.
-     * @return List of playable cards.
-     */
-    private List<Card> getPlayableCards(final Game game) {
-        final List<Card> playable = new ArrayList<>();
-        for (final Optional<Card> cardOpt : this.getHand()) {
-            if (cardOpt.isPresent() && isMoveValid(cardOpt.get(), game)) {
-                playable.add(cardOpt.get());
-            }
-        }
-        return playable;
-    }
-
     /**
      * Check if a card is an action card.
      * 
@@ -9,7 +9,6 @@ import java.util.Optional;
 import java.util.List;
 import java.util.Map;
 import java.util.EnumMap;
-import java.util.ArrayList;
 
 /**
  * AI implementation specifically for UNO Flip.
@@ -89,12 +88,10 @@ public class AIFlip extends AbstractAIPlayer {
             colorCounts.put(c, 0);
         }
 
-        for (final Optional<Card> cardOpt : this.getHand()) {
-            if (cardOpt.isPresent()) {
-                final CardColor c = cardOpt.get().getColor(game);
-                if (colorCounts.containsKey(c)) {
-                    colorCounts.put(c, colorCounts.get(c) + 1);
-                }
+        for (final Card card : this.getHandView()) {
+            final CardColor c = card.getColor(game);
+            if (colorCounts.containsKey(c)) {
+                colorCounts.put(c, colorCounts.get(c) + 1);
             }
         }
 
@@ -104,22 +101,6 @@ public class AIFlip extends AbstractAIPlayer {
                 .orElse(validColors[0]);
     }
 
-    /**
-     * Get all playable cards from hand based on current game state.
-     * 
-     * @param game the current game state
-     * @return list of playable cards
-     */
-    private List<Card> getPlayableCards(final Game game) {
-        final List<Card> list = new ArrayList<>();
-        for (final Optional<Card> opt : getHand()) {
-            if (opt.isPresent() && isMoveValid(opt.get(), game)) {
-                list.add(opt.get());
-            }
-        }
-        return list;
-    }
-
     /**
      * Calculate a score for a card to determine its priority.
      * Higher score means higher priority to play.
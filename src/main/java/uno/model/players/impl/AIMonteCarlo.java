@@ -0,0 +1,332 @@
+package uno.model.players.impl;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.behaviors.api.CardSideBehavior;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.Game;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.GameSnapshot;
+import uno.model.game.api.GameState;
+import uno.model.game.impl.GameSimulatorImpl;
+import uno.model.utils.api.GameLogger;
+import uno.model.utils.impl.SilentGameLoggerImpl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * AI implementation based on information-set Monte Carlo tree search.
+ * The search tree is rooted at the information set of the player: its own hand,
+ * the discard pile and the number of cards held by everyone are known, while
+ * the opponents' hands and the order of the draw deck are not. Each iteration
+ * samples them (a determinization), picks a card with UCB1, plays it and then
+ * finishes the round with the heuristic AIs of the mode as a fast rollout
+ * policy. The card with the best win rate is played.
+ * Iterations are split across independent searches that run in parallel
+ * (root parallelization) and whose statistics are merged at the end. Each move
+ * stops at its iteration or time budget, whichever comes first.
+ */
+public class AIMonteCarlo extends AbstractAIPlayer {
+
+    /**
+     * Default number of iterations per move.
+     */
+    public static final int DEFAULT_ITERATIONS = 2_000;
+
+    /**
+     * Default time budget per move.
+     */
+    public static final Duration DEFAULT_TIME_BUDGET = Duration.ofSeconds(1);
+
+    private static final int MAX_ROLLOUT_TURNS = 1_000;
+    private static final double EXPLORATION = Math.sqrt(2);
+    private static final GameLogger SILENT_LOGGER = new SilentGameLoggerImpl();
+    private static final CardColor[] LIGHT_COLORS = {
+        CardColor.RED, CardColor.BLUE, CardColor.GREEN, CardColor.YELLOW,
+    };
+    private static final CardColor[] DARK_COLORS = {
+        CardColor.PINK, CardColor.TEAL, CardColor.PURPLE, CardColor.ORANGE,
+    };
+
+    private final int iterations;
+    private final Duration timeBudget;
+    private final int parallelism;
+    private final SplittableRandom random;
+
+    /**
+     * Constructor for AIMonteCarlo with the default budgets, using every core.
+     *
+     * @param name The name of the AI player.
+     */
+    public AIMonteCarlo(final String name) {
+        this(name, DEFAULT_ITERATIONS, DEFAULT_TIME_BUDGET, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor for AIMonteCarlo.
+     *
+     * @param name        The name of the AI player.
+     * @param iterations  The maximum number of iterations per move.
+     * @param timeBudget  The maximum time spent per move.
+     * @param parallelism The number of searches run in parallel.
+     */
+    public AIMonteCarlo(final String name, final int iterations, final Duration timeBudget,
+            final int parallelism) {
+        this(name, iterations, timeBudget, parallelism, new SplittableRandom());
+    }
+
+    /**
+     * Constructor for AIMonteCarlo with a seeded random source. With a time
+     * budget larger than needed, the same seed gives the same moves.
+     *
+     * @param name        The name of the AI player.
+     * @param iterations  The maximum number of iterations per move.
+     * @param timeBudget  The maximum time spent per move.
+     * @param parallelism The number of searches run in parallel.
+     * @param seed        The seed of the searches.
+     */
+    public AIMonteCarlo(final String name, final int iterations, final Duration timeBudget,
+            final int parallelism, final long seed) {
+        this(name, iterations, timeBudget, parallelism, new SplittableRandom(seed));
+    }
+
+    /**
+     * Common constructor.
+     *
+     * @param name        The name of the AI player.
+     * @param iterations  The maximum number of iterations per move.
+     * @param timeBudget  The maximum time spent per move.
+     * @param parallelism The number of searches run in parallel.
+     * @param random      The random source of the searches.
+     */
+    private AIMonteCarlo(final String name, final int iterations, final Duration timeBudget,
+            final int parallelism, final SplittableRandom random) {
+        super(name);
+        if (iterations <= 0 || parallelism <= 0 || timeBudget.isNegative() || timeBudget.isZero()) {
+            throw new IllegalArgumentException("The search budgets must be positive.");
+        }
+        this.iterations = iterations;
+        this.timeBudget = timeBudget;
+        this.parallelism = parallelism;
+        this.random = random;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Optional<Card> chooseCardToPlay(final Game game) {
+        final List<Card> moves = distinctMoves(game);
+        if (moves.size() <= 1) {
+            return moves.stream().findFirst();
+        }
+
+        if (!(game instanceof GameContext context)) {
+            return moves.stream().max(Comparator.comparingInt(card -> card.getSide(game.isDarkSide()).getPointValue()));
+        }
+        final GameSnapshot root = context.snapshot();
+        final int self = game.getPlayers().indexOf(this);
+
+        final long deadline = System.nanoTime() + timeBudget.toNanos();
+        final List<CompletableFuture<MoveStats>> searches = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            final int share = iterations / parallelism + (i < iterations % parallelism ? 1 : 0);
+            final SplittableRandom searchRandom = random.split();
+            searches.add(parallelism == 1
+                    ? CompletableFuture.completedFuture(search(root, self, moves, share, deadline, searchRandom))
+                    : CompletableFuture.supplyAsync(() -> search(root, self, moves, share, deadline, searchRandom),
+                            ForkJoinPool.commonPool()));
+        }
+
+        final MoveStats total = new MoveStats(moves.size());
+        for (final CompletableFuture<MoveStats> search : searches) {
+            total.merge(search.join());
+        }
+        return Optional.of(moves.get(total.best()));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Picks the color held the most in hand on the active side.
+     */
+    @Override
+    protected CardColor chooseBestColor(final Game game) {
+        final CardColor[] colors = game.isDarkSide() ? DARK_COLORS : LIGHT_COLORS;
+        final Map<CardColor, Integer> counts = new EnumMap<>(CardColor.class);
+        for (final Card card : getHandView()) {
+            counts.merge(card.getColor(game), 1, Integer::sum);
+        }
+        CardColor best = colors[0];
+        for (final CardColor color : colors) {
+            if (counts.getOrDefault(color, 0) > counts.getOrDefault(best, 0)) {
+                best = color;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * {@inheritDoc}
+     * When a card asks for a target, the opponent with the fewest cards is chosen.
+     */
+    @Override
+    protected void playTurn(final Game game, final Optional<Card> chosenCard) {
+        super.playTurn(game, chosenCard);
+        chooseTargetIfNeeded(game);
+    }
+
+    /**
+     * Returns the playable cards of the hand, keeping one card per face: copies
+     * of a card lead to the same game, so they are searched once.
+     *
+     * @param game The current game state.
+     * @return the candidate moves.
+     */
+    private List<Card> distinctMoves(final Game game) {
+        final Map<CardSideBehavior, Card> byFace = new LinkedHashMap<>();
+        for (final Card card : getPlayableCards(game)) {
+            byFace.putIfAbsent(card.getSide(game.isDarkSide()), card);
+        }
+        return new ArrayList<>(byFace.values());
+    }
+
+    /**
+     * Runs one independent search. Each iteration forks the root snapshot from
+     * the point of view of the searching player, so the hidden cards are dealt
+     * at random, and restores it with the heuristic AIs of the mode in every seat.
+     *
+     * @param root          the snapshot of the real game.
+     * @param self          the seat of the searching player.
+     * @param moves         the candidate moves.
+     * @param maxIterations the iterations of this search.
+     * @param deadline      the time at which the search stops, from {@link System#nanoTime()}.
+     * @param searchRandom  the random source of this search.
+     * @return the statistics of the candidate moves.
+     */
+    private static MoveStats search(final GameSnapshot root, final int self, final List<Card> moves,
+            final int maxIterations, final long deadline, final SplittableRandom searchRandom) {
+        final MoveStats stats = new MoveStats(moves.size());
+        for (int i = 0; i < maxIterations && System.nanoTime() < deadline; i++) {
+            final int move = stats.select();
+            final GameContext world = root.fork(self, searchRandom).restore(
+                    GameSimulatorImpl.createDefaultPlayers(root.getMode(), root.getPlayerCount()),
+                    SILENT_LOGGER, searchRandom);
+            stats.update(move, rollout(world, self, moves.get(move)));
+        }
+        return stats;
+    }
+
+    /**
+     * Plays a move in a determinized game and finishes the round with the
+     * heuristic AIs.
+     *
+     * @param world the determinized game.
+     * @param self  the index of the searching player.
+     * @param move  the card to play.
+     * @return 1 if the searching player won the round, 0 otherwise.
+     */
+    private static double rollout(final GameContext world, final int self, final Card move) {
+        final AbstractAIPlayer player = (AbstractAIPlayer) world.getPlayers().get(self);
+        player.playTurn(world, Optional.of(move));
+
+        int turns = 0;
+        while (world.getGameState() == GameState.RUNNING && turns < MAX_ROLLOUT_TURNS) {
+            world.getCurrentPlayer().takeTurn(world);
+            turns++;
+        }
+        return world.getWinner() == player ? 1.0 : 0.0;
+    }
+
+    /**
+     * Win statistics of the candidate moves, with UCB1 selection.
+     */
+    private static final class MoveStats {
+
+        private final int[] visits;
+        private final double[] wins;
+        private int total;
+
+        /**
+         * Creates empty statistics.
+         *
+         * @param moves the number of candidate moves.
+         */
+        MoveStats(final int moves) {
+            this.visits = new int[moves];
+            this.wins = new double[moves];
+        }
+
+        /**
+         * Selects the next move to try: every move once, then by UCB1.
+         *
+         * @return the index of the move.
+         */
+        int select() {
+            int best = 0;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < visits.length; i++) {
+                if (visits[i] == 0) {
+                    return i;
+                }
+                final double score = wins[i] / visits[i] + EXPLORATION * Math.sqrt(Math.log(total) / visits[i]);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = i;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Records the outcome of a rollout.
+         *
+         * @param move   the index of the move tried.
+         * @param reward the outcome.
+         */
+        void update(final int move, final double reward) {
+            visits[move]++;
+            wins[move] += reward;
+            total++;
+        }
+
+        /**
+         * Adds the statistics of another search.
+         *
+         * @param other the other statistics.
+         */
+        void merge(final MoveStats other) {
+            for (int i = 0; i < visits.length; i++) {
+                visits[i] += other.visits[i];
+                wins[i] += other.wins[i];
+            }
+            total += other.total;
+        }
+
+        /**
+         * Returns the move with the best win rate, preferring the most visited
+         * one on ties.
+         *
+         * @return the index of the move.
+         */
+        int best() {
+            int best = 0;
+            for (int i = 1; i < visits.length; i++) {
+                final double rate = visits[i] == 0 ? -1 : wins[i] / visits[i];
+                final double bestRate = visits[best] == 0 ? -1 : wins[best] / visits[best];
+                if (rate > bestRate || rate == bestRate && visits[i] > visits[best]) {
+                    best = i;
+                }
+            }
+            return best;
+        }
+    }
+}
@@ -5,6 +5,9 @@ import uno.model.cards.types.api.Card;
 import uno.model.game.api.Game;
 import uno.model.game.api.GameState;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Objects;
 
@@ -26,14 +29,50 @@ public abstract class AbstractAIPlayer extends AbstractPlayer {
      * {@inheritDoc}
      */
     @Override
-    public void takeTurn(final Game game) {
+    public final void takeTurn(final Game game) {
         if (!game.getCurrentPlayer().equals(this)) {
             return;
         }
+        playTurn(game, chooseCardToPlay(game));
+    }
 
-        // Try to find a valid move
-        final Optional<Card> chosenCard = chooseCardToPlay(game);
+    /**
+     * Chooses the card to play without changing the game, so the choice can
+     * be computed away from the thread that owns the model.
+     * The game must not be modified while the choice is being computed.
+     * 
+     * @param game The current game state
+     * @return An Optional containing the chosen card, or empty if the player
+     *         should draw.
+     */
+    public Optional<Card> planMove(final Game game) {
+        return chooseCardToPlay(game);
+    }
 
+    /**
+     * Takes the turn using a move computed earlier by {@link #planMove(Game)}.
+     * A planned card is chosen again if it is no longer in the hand or can no
+     * longer be played.
+     * 
+     * @param game        The current game state
+     * @param plannedMove The move computed earlier.
+     */
+    public final void takeTurn(final Game game, final Optional<Card> plannedMove) {
+        if (!game.getCurrentPlayer().equals(this)) {
+            return;
+        }
+        final boolean stillValid = plannedMove.isEmpty()
+                || getHandView().contains(plannedMove.get()) && isMoveValid(plannedMove.get(), game);
+        playTurn(game, stillValid ? plannedMove : chooseCardToPlay(game));
+    }
+
+    /**
+     * Plays a turn starting from the given move.
+     * 
+     * @param game       The current game state
+     * @param chosenCard The card to play, or empty to draw.
+     */
+    protected void playTurn(final Game game, final Optional<Card> chosenCard) {
         if (chosenCard.isPresent()) {
             // Before playing, check UNO condition
             if (getHandSize() == 2) {
@@ -103,6 +142,49 @@ public abstract class AbstractAIPlayer extends AbstractPlayer {
         return topCard.isEmpty() || card.canBePlayedOn(topCard.get(), game);
     }
 
+    /**
+     * Gets the cards of the hand that can be played on the top of the discard
+     * pile. When the discard pile is empty, every card can be played.
+     * 
+     * @param game The current game state
+     * @return A new list of the playable cards, in hand order.
+     */
+    protected List<Card> getPlayableCards(final Game game) {
+        final Optional<Card> topCard = game.getTopDiscardCard();
+        if (topCard.isEmpty()) {
+            final List<Card> all = new ArrayList<>(getHandView().size());
+            getHandView().forEach(all::add);
+            return all;
+        }
+        return getHandView().getPlayableCards(topCard.get(), game);
+    }
+
+    /**
+     * Find the best target player (the active opponent with the fewest cards).
+     * 
+     * @param game Current game instance.
+     * @return The best target player.
+     */
+    protected Optional<AbstractPlayer> findBestTarget(final Game game) {
+        return game.getPlayers().stream()
+                .filter(p -> !p.equals(this) && game.getTurnManager().isActive(p))
+                .min(Comparator.comparingInt(AbstractPlayer::getHandSize));
+    }
+
+    /**
+     * When the played card asks for a target, chooses the best one and ends the turn.
+     * 
+     * @param game The current game state
+     */
+    protected void chooseTargetIfNeeded(final Game game) {
+        if (game.getGameState() == GameState.WAITING_FOR_PLAYER) {
+            findBestTarget(game).ifPresent(target -> {
+                game.chosenPlayer(target);
+                game.aiAdvanceTurn();
+            });
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -2,20 +2,25 @@ package uno.model.players.impl;
 
 import uno.model.cards.types.api.Card;
 import uno.model.game.api.Game;
+import uno.model.players.api.Hand;
 import uno.model.players.api.Player;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
 /**
  * Abstract base class representing a generic player in the UNO game.
  * Manages the hand state and basic player properties.
  */
 public abstract class AbstractPlayer implements Player {
 
+    private static final int UNO_PENALTY_CARDS = 2;
+
     private final String name;
-    private final List<Optional<Card>> hand;
+    private final HandImpl hand;
     private boolean hasCalledUno;
     private int score;
 
@@ -26,7 +31,7 @@ public abstract class AbstractPlayer implements Player {
      */
     public AbstractPlayer(final String name) {
         this.name = name;
-        this.hand = new ArrayList<>();
+        this.hand = new HandImpl();
         this.hasCalledUno = false;
         this.score = 0;
     }
@@ -74,7 +79,20 @@ public abstract class AbstractPlayer implements Player {
      */
     @Override
     public List<Optional<Card>> getHand() {
-        return new ArrayList<>(hand);
+        final List<Optional<Card>> copy = new ArrayList<>(hand.size());
+        for (final Card card : hand) {
+            copy.add(Optional.of(card));
+        }
+        return copy;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressFBWarnings("EI_EXPOSE_REP")
+    public Hand getHandView() {
+        return hand;
     }
 
     /**
@@ -90,8 +108,11 @@ public abstract class AbstractPlayer implements Player {
      */
     @Override
     public void setHand(final List<Optional<Card>> newHand) {
-        this.hand.clear();
-        this.hand.addAll(newHand);
+        final List<Card> cards = new ArrayList<>(newHand.size());
+        for (final Optional<Card> card : newHand) {
+            card.ifPresent(cards::add);
+        }
+        this.hand.setAll(cards);
     }
 
     /**
@@ -99,7 +120,18 @@ public abstract class AbstractPlayer implements Player {
      */
     @Override
     public void addCardToHand(final Card card) {
-        this.hand.add(Optional.of(card));
+        this.hand.add(card);
+        if (hand.size() > 1) {
+            this.hasCalledUno = false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addCardsToHand(final List<Card> cards) {
+        this.hand.addAll(cards);
         if (hand.size() > 1) {
             this.hasCalledUno = false;
         }
@@ -110,7 +142,7 @@ public abstract class AbstractPlayer implements Player {
      */
     @Override
     public boolean playCard(final Optional<Card> card) {
-        return !card.isEmpty() && this.hand.remove(card);
+        return card.isPresent() && this.hand.remove(card.get());
     }
 
     /**
@@ -126,8 +158,7 @@ public abstract class AbstractPlayer implements Player {
      */
     @Override
     public void unoPenalty(final Game game) {
-        game.drawCardForPlayer(this);
-        game.drawCardForPlayer(this);
+        game.drawCardsForPlayer(this, UNO_PENALTY_CARDS);
     }
 
     /**
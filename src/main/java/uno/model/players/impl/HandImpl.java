@@ -0,0 +1,315 @@
+package uno.model.players.impl;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.attributes.CardValue;
+import uno.model.cards.attributes.PlayabilityTable;
+import uno.model.cards.behaviors.api.CardSideBehavior;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.Game;
+import uno.model.players.api.Hand;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Implementation of the {@link Hand} interface backed by an array list.
+ * Besides the list, every card is filed, for each of its two faces, in a bucket
+ * of its color and in a bucket of its value, so that playability questions only
+ * look at the buckets matching the top card instead of the whole hand. Each
+ * side also keeps a bitmask of the faces it holds, so whether the hand can play
+ * at all is answered with a few bitwise operations against the
+ * {@link PlayabilityTable}.
+ * Only the owning player can modify it, through the package-private methods.
+ */
+public final class HandImpl implements Hand {
+
+    private static final int LIGHT = 0;
+    private static final int DARK = 1;
+    private static final int SIDES = 2;
+    private static final int COLORS = CardColor.values().length;
+    private static final int VALUES = CardValue.values().length;
+
+    private final List<Card> cards = new ArrayList<>();
+    private final List<Card> readOnlyCards = Collections.unmodifiableList(cards);
+    private final List<List<Slot>> colorBuckets = createBuckets(SIDES * COLORS);
+    private final List<List<Slot>> valueBuckets = createBuckets(SIDES * VALUES);
+    private final int[] faceCounts = new int[SIDES * PlayabilityTable.FACES];
+    private final long[] faceMasks = new long[SIDES * PlayabilityTable.WORDS];
+    private long nextSequence;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return cards.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return cards.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Card get(final int index) {
+        return cards.get(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(final Card card) {
+        return cards.contains(card);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The iterator does not support removal.
+     */
+    @Override
+    public Iterator<Card> iterator() {
+        return readOnlyCards.iterator();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int count(final CardColor color, final Game game) {
+        return colorBucket(side(game), color).size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int count(final CardValue value, final Game game) {
+        return valueBucket(side(game), value).size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasPlayableCard(final Card topCard, final Game game) {
+        final CardColor targetColor = game.getCurrentColor().orElse(topCard.getColor(game));
+        return PlayabilityTable.anyPlayable(faceMasks, side(game) * PlayabilityTable.WORDS, targetColor,
+                topCard.getValue(game));
+    }
+
+    /**
+     * {@inheritDoc}
+     * The three matching buckets are already in hand order, so they are merged
+     * by insertion sequence; a card found in two buckets is listed once.
+     */
+    @Override
+    public List<Card> getPlayableCards(final Card topCard, final Game game) {
+        final int side = side(game);
+        final CardColor targetColor = game.getCurrentColor().orElse(topCard.getColor(game));
+        final List<Slot> wild = colorBucket(side, CardColor.WILD);
+        final List<Slot> color = targetColor == CardColor.WILD ? List.of() : colorBucket(side, targetColor);
+        final List<Slot> value = valueBucket(side, topCard.getValue(game));
+
+        final List<Card> playable = new ArrayList<>(wild.size() + color.size() + value.size());
+        int w = 0;
+        int c = 0;
+        int v = 0;
+        long last = -1;
+        while (w < wild.size() || c < color.size() || v < value.size()) {
+            Slot next = null;
+            int from = -1;
+            if (w < wild.size()) {
+                next = wild.get(w);
+                from = 0;
+            }
+            if (c < color.size() && (next == null || color.get(c).sequence() < next.sequence())) {
+                next = color.get(c);
+                from = 1;
+            }
+            if (v < value.size() && (next == null || value.get(v).sequence() < next.sequence())) {
+                next = value.get(v);
+                from = 2;
+            }
+            if (from == 0) {
+                w++;
+            } else if (from == 1) {
+                c++;
+            } else {
+                v++;
+            }
+            if (next.sequence() != last) {
+                playable.add(next.card());
+                last = next.sequence();
+            }
+        }
+        return playable;
+    }
+
+    /**
+     * Adds a card at the end of the hand.
+     * 
+     * @param card the card to add.
+     */
+    void add(final Card card) {
+        cards.add(card);
+        final Slot slot = new Slot(card, nextSequence++);
+        index(slot, LIGHT, card.getSide(false));
+        index(slot, DARK, card.getSide(true));
+    }
+
+    /**
+     * Adds several cards to the hand at once.
+     * 
+     * @param newCards the cards to add, in order.
+     */
+    void addAll(final Collection<Card> newCards) {
+        cards.addAll(newCards);
+        for (final Card card : newCards) {
+            final Slot slot = new Slot(card, nextSequence++);
+            index(slot, LIGHT, card.getSide(false));
+            index(slot, DARK, card.getSide(true));
+        }
+    }
+
+    /**
+     * Removes a card from the hand.
+     * 
+     * @param card the card to remove.
+     * @return true if the card was in the hand.
+     */
+    boolean remove(final Card card) {
+        if (!cards.remove(card)) {
+            return false;
+        }
+        unindex(card, LIGHT, card.getSide(false));
+        unindex(card, DARK, card.getSide(true));
+        return true;
+    }
+
+    /**
+     * Replaces the whole content of the hand.
+     * 
+     * @param newCards the new cards of the hand.
+     */
+    void setAll(final Collection<Card> newCards) {
+        cards.clear();
+        colorBuckets.forEach(List::clear);
+        valueBuckets.forEach(List::clear);
+        Arrays.fill(faceCounts, 0);
+        Arrays.fill(faceMasks, 0);
+        for (final Card card : newCards) {
+            add(card);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return cards.toString();
+    }
+
+    /**
+     * Files a card in the buckets of one of its faces. Card backs are not filed.
+     * 
+     * @param slot the card with its insertion sequence.
+     * @param side the index of the face.
+     * @param face the behavior of the face.
+     */
+    private void index(final Slot slot, final int side, final CardSideBehavior face) {
+        if (!face.isBack()) {
+            colorBucket(side, face.getColor()).add(slot);
+            valueBucket(side, face.getValue()).add(slot);
+            final int index = PlayabilityTable.face(face.getColor(), face.getValue());
+            if (faceCounts[side * PlayabilityTable.FACES + index]++ == 0) {
+                faceMasks[side * PlayabilityTable.WORDS + index / Long.SIZE] |= 1L << index;
+            }
+        }
+    }
+
+    /**
+     * Removes a card from the buckets of one of its faces.
+     * 
+     * @param card the card to remove.
+     * @param side the index of the face.
+     * @param face the behavior of the face.
+     */
+    private void unindex(final Card card, final int side, final CardSideBehavior face) {
+        if (!face.isBack()) {
+            colorBucket(side, face.getColor()).removeIf(s -> s.card() == card);
+            valueBucket(side, face.getValue()).removeIf(s -> s.card() == card);
+            final int index = PlayabilityTable.face(face.getColor(), face.getValue());
+            if (--faceCounts[side * PlayabilityTable.FACES + index] == 0) {
+                faceMasks[side * PlayabilityTable.WORDS + index / Long.SIZE] &= ~(1L << index);
+            }
+        }
+    }
+
+    /**
+     * Returns the bucket of a color on one side.
+     * 
+     * @param side  the index of the face.
+     * @param color the color.
+     * @return the bucket, in hand order.
+     */
+    private List<Slot> colorBucket(final int side, final CardColor color) {
+        return colorBuckets.get(side * COLORS + color.ordinal());
+    }
+
+    /**
+     * Returns the bucket of a value on one side.
+     * 
+     * @param side  the index of the face.
+     * @param value the value.
+     * @return the bucket, in hand order.
+     */
+    private List<Slot> valueBucket(final int side, final CardValue value) {
+        return valueBuckets.get(side * VALUES + value.ordinal());
+    }
+
+    /**
+     * Returns the index of the face currently in play.
+     * 
+     * @param game the current game.
+     * @return the index of the active face.
+     */
+    private static int side(final Game game) {
+        return game.isDarkSide() ? DARK : LIGHT;
+    }
+
+    /**
+     * Creates a list of empty buckets.
+     * 
+     * @param count the number of buckets.
+     * @return the buckets.
+     */
+    private static List<List<Slot>> createBuckets(final int count) {
+        final List<List<Slot>> buckets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        return buckets;
+    }
+
+    /**
+     * A card filed in a bucket, with the sequence number it received when it
+     * entered the hand. Sequence numbers grow with the position in the hand.
+     * 
+     * @param card     the card.
+     * @param sequence the insertion sequence of the card.
+     */
+    private record Slot(Card card, long sequence) {
+    }
+}
@@ -23,4 +23,13 @@ public interface GameLogger {
      * @param e exception
      */
     void logError(String context, Exception e);
+
+    /**
+     * Flushes any pending entries and releases the resources held by the logger.
+     * It is called once the match is over; the default implementation does nothing
+     * because synchronous loggers have nothing left to write.
+     */
+    default void close() {
+        // Nothing to release by default.
+    }
 }
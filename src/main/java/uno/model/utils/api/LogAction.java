@@ -0,0 +1,104 @@
+package uno.model.utils.api;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Enumeration of the action types logged by the game, as passed to
+ * {@link GameLogger#logAction(String, String, String, String)}.
+ * Binary logs store the ordinal of the action instead of its name.
+ */
+public enum LogAction {
+    /**
+     * A match was created.
+     */
+    GAME_START,
+
+    /**
+     * A step of the initial setup, named in the card details.
+     */
+    SETUP,
+
+    /**
+     * A new round was dealt.
+     */
+    ROUND_START,
+
+    /**
+     * The first card of a round was turned.
+     */
+    FIRST_CARD,
+
+    /**
+     * A player played a card.
+     */
+    PLAY,
+
+    /**
+     * A player drew a card.
+     */
+    DRAW,
+
+    /**
+     * A player passed the turn.
+     */
+    PASS_TURN,
+
+    /**
+     * A player chose a color.
+     */
+    SET_COLOR,
+
+    /**
+     * A player chose a target player.
+     */
+    CHOOSEN_PLAYER,
+
+    /**
+     * A player called UNO with one card left.
+     */
+    CALL_UNO_SUCCESS,
+
+    /**
+     * A player called UNO with more than one card left and was penalized.
+     */
+    CALL_UNO_FAILED,
+
+    /**
+     * A player did not call UNO and was penalized.
+     */
+    UNO_PENALTY,
+
+    /**
+     * The draw deck ran out.
+     */
+    DECK_EMPTY,
+
+    /**
+     * A round ended, and possibly the match.
+     */
+    GAME_OVER,
+
+    /**
+     * Any other action, stored by name.
+     */
+    OTHER;
+
+    private static final Map<String, LogAction> BY_NAME = new HashMap<>();
+
+    static {
+        for (final LogAction action : values()) {
+            BY_NAME.put(action.name(), action);
+        }
+    }
+
+    /**
+     * Gets the action with the given name.
+     *
+     * @param name the name of the action.
+     * @return the action, or {@link #OTHER} if the name is not a known action.
+     */
+    public static LogAction of(final String name) {
+        return BY_NAME.getOrDefault(name, OTHER);
+    }
+}
@@ -0,0 +1,31 @@
+package uno.model.utils.api;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Offline analysis of the text logs written by the game, in the
+ * {@code timestamp;player;action;card;extra} format.
+ */
+public interface LogAnalyzer {
+
+    /**
+     * Analyzes every match log in a directory and its subdirectories, such as
+     * the archive of old logs.
+     *
+     * @param directory the logs directory.
+     * @return the aggregates of all the matches.
+     * @throws IOException if the directory or a log cannot be read.
+     */
+    LogStatistics analyzeDirectory(Path directory) throws IOException;
+
+    /**
+     * Analyzes the given match logs.
+     *
+     * @param files the log files, one per match.
+     * @return the aggregates of all the matches.
+     * @throws IOException if a log cannot be read.
+     */
+    LogStatistics analyzeFiles(List<Path> files) throws IOException;
+}
@@ -0,0 +1,18 @@
+package uno.model.utils.api;
+
+/**
+ * Enumeration of the strategies an asynchronous logger can apply when its
+ * buffer of pending entries is full.
+ */
+public enum LogOverflowPolicy {
+    /**
+     * The game thread waits until the writer has made room in the buffer.
+     * No entry is ever lost.
+     */
+    BLOCK,
+
+    /**
+     * The new entry is discarded and counted, so the game thread never waits.
+     */
+    DROP
+}
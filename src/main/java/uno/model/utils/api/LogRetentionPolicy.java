@@ -0,0 +1,18 @@
+package uno.model.utils.api;
+
+/**
+ * Enumeration of the strategies a file logger can apply to the logs of old
+ * matches, once more than a few of them are in the logs directory.
+ */
+public enum LogRetentionPolicy {
+    /**
+     * The oldest logs are deleted.
+     */
+    DELETE,
+
+    /**
+     * The oldest logs are moved to the {@code archive} subdirectory, where they
+     * are kept for analysis.
+     */
+    ARCHIVE
+}
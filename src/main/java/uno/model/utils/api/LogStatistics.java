@@ -0,0 +1,72 @@
+package uno.model.utils.api;
+
+import java.util.Map;
+
+/**
+ * Aggregates computed by a {@link LogAnalyzer} over the logs of many matches.
+ */
+public interface LogStatistics {
+
+    /**
+     * Gets the number of analyzed matches, one per non-empty log file.
+     *
+     * @return the number of matches.
+     */
+    int getMatchCount();
+
+    /**
+     * Gets the number of analyzed log records.
+     *
+     * @return the number of records.
+     */
+    long getRecordCount();
+
+    /**
+     * Gets how many times each card value was played.
+     *
+     * @return the number of plays, by card value, sorted by value.
+     */
+    Map<String, Long> getPlaysPerCard();
+
+    /**
+     * Gets how many cards each player drew, penalties included.
+     *
+     * @return the number of draws, by player name, sorted by name.
+     */
+    Map<String, Long> getDrawsPerPlayer();
+
+    /**
+     * Gets the number of UNO penalties: wrong UNO calls and missed ones.
+     *
+     * @return the number of penalties.
+     */
+    long getUnoPenalties();
+
+    /**
+     * Gets the number of rounds that were played to the end.
+     *
+     * @return the number of finished rounds.
+     */
+    long getRoundCount();
+
+    /**
+     * Gets the average length of a finished round.
+     *
+     * @return the average number of cards played per round, 0 without rounds.
+     */
+    double getAverageRoundLength();
+
+    /**
+     * Gets the length of the longest finished round.
+     *
+     * @return the number of cards played in the longest round.
+     */
+    long getLongestRound();
+
+    /**
+     * Gets the average duration of a match, from its first to its last record.
+     *
+     * @return the average duration, in seconds, 0 without matches.
+     */
+    double getAverageMatchSeconds();
+}
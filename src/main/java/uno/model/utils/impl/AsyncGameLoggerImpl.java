@@ -0,0 +1,353 @@
+package uno.model.utils.impl;
+
+import uno.model.utils.api.LogOverflowPolicy;
+import uno.model.utils.api.LogRetentionPolicy;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import static java.util.logging.Level.SEVERE;
+
+/**
+ * Asynchronous variant of {@link GameLoggerImpl}.
+ * The game thread only enqueues entries into a bounded ring buffer; a background
+ * writer thread keeps a single file channel open for the whole match and writes
+ * the entries in batches, flushing when a batch is full or when the flush interval
+ * elapses. {@link #close()} drains everything still pending at the end of the match.
+ * Entries are queued for as long as the writer thread runs, even after
+ * {@link #close()}, so they keep their order. Neither the game thread nor
+ * {@link #close()} wait on a writer thread that has stopped: the entries left
+ * in the buffer and the ones logged later are then written synchronously.
+ */
+public final class AsyncGameLoggerImpl extends GameLoggerImpl {
+
+    private static final int DEFAULT_CAPACITY = 4096;
+    private static final int DEFAULT_BATCH_SIZE = 256;
+    private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 200;
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+    private static final long OFFER_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final String UNO = "UNO";
+
+    /**
+     * Marker entry telling the writer thread that the match is over.
+     */
+    private static final LogEntry END_OF_MATCH = new LogEntry(0, "", "", "", "");
+
+    private final BlockingQueue<LogEntry> buffer;
+    private final LogOverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final AtomicLong droppedEntries = new AtomicLong();
+    private final Thread writerThread;
+    private final Thread shutdownHook;
+    private volatile boolean writerStopped;
+    private boolean closeRequested;
+
+    /**
+     * Creates an asynchronous logger with the default buffer settings and the
+     * {@link LogOverflowPolicy#BLOCK} policy.
+     *
+     * @param matchId A unique identifier for the current match (used in the
+     *                filename).
+     */
+    public AsyncGameLoggerImpl(final String matchId) {
+        this(matchId, LogRetentionPolicy.DELETE);
+    }
+
+    /**
+     * Creates an asynchronous logger with the default buffer settings and the
+     * {@link LogOverflowPolicy#BLOCK} policy.
+     *
+     * @param matchId         A unique identifier for the current match (used in
+     *                        the filename).
+     * @param retentionPolicy What to do with the logs of old matches.
+     */
+    public AsyncGameLoggerImpl(final String matchId, final LogRetentionPolicy retentionPolicy) {
+        this(matchId, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE, DEFAULT_FLUSH_INTERVAL_MILLIS, LogOverflowPolicy.BLOCK,
+                retentionPolicy);
+    }
+
+    /**
+     * Creates an asynchronous logger with custom buffer settings.
+     *
+     * @param matchId             A unique identifier for the current match (used in
+     *                            the filename).
+     * @param capacity            Maximum number of entries waiting to be written.
+     * @param batchSize           Number of entries after which the file is flushed.
+     * @param flushIntervalMillis Maximum time, in milliseconds, an entry waits
+     *                            before being flushed.
+     * @param overflowPolicy      What to do when the buffer is full.
+     */
+    public AsyncGameLoggerImpl(final String matchId, final int capacity, final int batchSize,
+            final long flushIntervalMillis, final LogOverflowPolicy overflowPolicy) {
+        this(matchId, capacity, batchSize, flushIntervalMillis, overflowPolicy, LogRetentionPolicy.DELETE);
+    }
+
+    /**
+     * Creates an asynchronous logger with custom buffer settings and retention.
+     *
+     * @param matchId             A unique identifier for the current match (used in
+     *                            the filename).
+     * @param capacity            Maximum number of entries waiting to be written.
+     * @param batchSize           Number of entries after which the file is flushed.
+     * @param flushIntervalMillis Maximum time, in milliseconds, an entry waits
+     *                            before being flushed.
+     * @param overflowPolicy      What to do when the buffer is full.
+     * @param retentionPolicy     What to do with the logs of old matches.
+     */
+    public AsyncGameLoggerImpl(final String matchId, final int capacity, final int batchSize,
+            final long flushIntervalMillis, final LogOverflowPolicy overflowPolicy,
+            final LogRetentionPolicy retentionPolicy) {
+        super(matchId, retentionPolicy);
+        if (capacity <= 0 || batchSize <= 0 || flushIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Capacity, batch size and flush interval must be positive.");
+        }
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+
+        this.writerThread = new Thread(this::writeLoop, "uno-log-writer-" + matchId);
+        this.writerThread.setDaemon(true);
+        this.shutdownHook = new Thread(this::close, "uno-log-drain-" + matchId);
+        Runtime.getRuntime().addShutdownHook(this.shutdownHook);
+        this.writerThread.start();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The entry is timestamped immediately and handed to the writer thread,
+     * or written at once if the writer thread has stopped.
+     */
+    @Override
+    public void logAction(final String playerName, final String actionType, final String cardDetails,
+            final String extraInfo) {
+        final LogEntry entry = new LogEntry(System.currentTimeMillis(), playerName, actionType, cardDetails,
+                extraInfo);
+
+        if (writerStopped) {
+            writeSynchronously(entry);
+            return;
+        }
+
+        if (overflowPolicy == LogOverflowPolicy.DROP) {
+            if (!buffer.offer(entry)) {
+                droppedEntries.incrementAndGet();
+            } else if (writerStopped) {
+                // The writer thread stopped before taking the entry.
+                writeSynchronously(null);
+            }
+            return;
+        }
+
+        try {
+            if (!enqueue(entry, Long.MAX_VALUE)) {
+                writeSynchronously(entry);
+            } else if (writerStopped) {
+                // The writer thread stopped before taking the entry.
+                writeSynchronously(null);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            droppedEntries.incrementAndGet();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Waits for the writer thread to write every pending entry, then closes the file.
+     * Entries logged after the writer thread has stopped are written synchronously.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closeRequested) {
+                return;
+            }
+            closeRequested = true;
+        }
+
+        try {
+            final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CLOSE_TIMEOUT_MILLIS);
+            if (enqueue(END_OF_MATCH, deadline - System.nanoTime())) {
+                writerThread.join(Duration.ofNanos(Math.max(0, deadline - System.nanoTime())));
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (Thread.currentThread() != shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (final IllegalStateException e) {
+                // The JVM is already shutting down: the hook is running or has run.
+            }
+        }
+    }
+
+    /**
+     * Returns the number of entries discarded because the buffer was full.
+     *
+     * @return The count of dropped entries.
+     */
+    public long getDroppedEntries() {
+        return droppedEntries.get();
+    }
+
+    /**
+     * Hands an entry to the writer thread, waiting while the buffer is full
+     * and the writer thread is still running.
+     *
+     * @param entry        The entry.
+     * @param timeoutNanos The maximum time to wait, in nanoseconds.
+     * @return true if the entry was queued, false if the writer thread has
+     *         stopped or the time ran out.
+     * @throws InterruptedException if the calling thread is interrupted.
+     */
+    private boolean enqueue(final LogEntry entry, final long timeoutNanos) throws InterruptedException {
+        final long start = System.nanoTime();
+        while (writerThread.isAlive()) {
+            final long remaining = timeoutNanos - (System.nanoTime() - start);
+            if (remaining <= 0) {
+                return false;
+            }
+            if (buffer.offer(entry, Math.min(remaining, OFFER_SLICE_NANOS), TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Body of the writer thread: keeps the log file open and writes the buffered
+     * entries in batches until the end-of-match marker is received.
+     */
+    private void writeLoop() {
+        final List<LogEntry> batch = new ArrayList<>(batchSize);
+        final Path path = Path.of(getFilePath());
+
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            int pending = 0;
+            long nextFlush = System.currentTimeMillis() + flushIntervalMillis;
+            boolean running = true;
+
+            while (running) {
+                final long wait = Math.max(0, nextFlush - System.currentTimeMillis());
+                final LogEntry first = buffer.poll(wait, TimeUnit.MILLISECONDS);
+
+                if (first != null) {
+                    batch.add(first);
+                    buffer.drainTo(batch, batchSize - 1);
+                    for (final LogEntry entry : batch) {
+                        if (entry == END_OF_MATCH) {
+                            running = false;
+                        } else {
+                            writeEntry(writer, entry);
+                            pending++;
+                        }
+                    }
+                    batch.clear();
+                }
+
+                if (!running || pending >= batchSize || System.currentTimeMillis() >= nextFlush) {
+                    writeDroppedSummary(writer, running);
+                    writer.flush();
+                    pending = 0;
+                    nextFlush = System.currentTimeMillis() + flushIntervalMillis;
+                }
+            }
+        } catch (final IOException e) {
+            Logger.getLogger(UNO).log(SEVERE, "Impossible to write to log file: " + path, e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            writerStopped = true;
+            // Entries queued while the writer thread was finishing are written here.
+            writeSynchronously(null);
+        }
+    }
+
+    /**
+     * Writes the entries left in the buffer, followed by a new entry, directly
+     * to the log file. Used once the writer thread has stopped, so the entries
+     * keep their order.
+     *
+     * @param entry The entry to write after the buffered ones, or null.
+     */
+    private synchronized void writeSynchronously(final LogEntry entry) {
+        final List<LogEntry> entries = new ArrayList<>();
+        buffer.drainTo(entries);
+        entries.removeIf(e -> e == END_OF_MATCH);
+        if (entry != null) {
+            entries.add(entry);
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        final Path path = Path.of(getFilePath());
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (final LogEntry pending : entries) {
+                writeEntry(writer, pending);
+            }
+        } catch (final IOException e) {
+            Logger.getLogger(UNO).log(SEVERE, "Impossible to write to log file: " + path, e);
+        }
+    }
+
+    /**
+     * Writes a single entry followed by a line terminator.
+     *
+     * @param writer The open writer of the match log.
+     * @param entry  The entry to write.
+     * @throws IOException if the write fails.
+     */
+    private void writeEntry(final BufferedWriter writer, final LogEntry entry) throws IOException {
+        writer.write(formatEntry(entry.timestamp(), entry.playerName(), entry.actionType(), entry.cardDetails(),
+                entry.extraInfo()));
+        writer.newLine();
+    }
+
+    /**
+     * Records, at the end of the match, how many entries were dropped because the
+     * buffer was full.
+     *
+     * @param writer  The open writer of the match log.
+     * @param running false if the match is over.
+     * @throws IOException if the write fails.
+     */
+    private void writeDroppedSummary(final BufferedWriter writer, final boolean running) throws IOException {
+        final long dropped = droppedEntries.get();
+        if (!running && dropped > 0) {
+            writeEntry(writer, new LogEntry(System.currentTimeMillis(), "SYSTEM", "LOG_OVERFLOW", "N/A",
+                    "Dropped entries: " + dropped));
+        }
+    }
+
+    /**
+     * A log entry waiting to be written.
+     *
+     * @param timestamp   The moment the action was logged, in epoch milliseconds.
+     * @param playerName  The name of the player performing the action.
+     * @param actionType  The type of action.
+     * @param cardDetails Specifics about the card involved.
+     * @param extraInfo   Any additional context.
+     */
+    private record LogEntry(long timestamp, String playerName, String actionType, String cardDetails,
+            String extraInfo) {
+    }
+}
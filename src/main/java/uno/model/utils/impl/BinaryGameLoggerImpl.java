@@ -0,0 +1,291 @@
+package uno.model.utils.impl;
+
+import uno.model.utils.api.GameLogger;
+import uno.model.utils.api.LogAction;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static java.util.logging.Level.SEVERE;
+import static java.util.logging.Level.WARNING;
+
+/**
+ * Implementation of GameLogger that writes fixed-width binary records.
+ * Each action is an event record holding the time in nanoseconds since the
+ * epoch, the ordinal of its {@link LogAction} and the ids of the player name,
+ * card details and extra information. The texts are interned: the first time
+ * a text appears, a string record assigns it the next id, and later records
+ * only refer to the id. Nothing is formatted while the game runs.
+ * Records are collected in a direct buffer and written to a file channel when
+ * the buffer is full and when the match is over. When a write fails, only
+ * the entry being logged is lost: the buffered records are kept and written
+ * with the next ones, so every id in the file still has its string record.
+ * Only the first failure is reported in full; the entries lost until the
+ * next successful write are counted and reported once the file is written
+ * again.
+ * {@link BinaryLogDecoder} converts the file back to the text format.
+ */
+public final class BinaryGameLoggerImpl implements GameLogger {
+
+    /**
+     * Version of the file format written by this class.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    static final int MAGIC = 0x554E4F4C;
+    static final byte STRING = 1;
+    static final byte EVENT = 2;
+    static final int NONE = -1;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int EVENT_SIZE = Byte.BYTES + Long.BYTES + Integer.BYTES + Byte.BYTES
+            + 3 * Integer.BYTES;
+    private static final int STRING_HEADER_SIZE = Byte.BYTES + 2 * Integer.BYTES;
+    private static final String UNO = "UNO";
+
+    private final Path file;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private final long originNanoTime = System.nanoTime();
+    private final long originEpochNanos = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+    private final Thread shutdownHook;
+    private ByteBuffer pending;
+    private FileChannel channel;
+    private boolean closed;
+    private int dropped;
+
+    /**
+     * Creates a logger writing to {@code logs/log_match_<matchId>.bin} in the
+     * project root, next to the text logs.
+     *
+     * @param matchId A unique identifier for the current match (used in the
+     *                filename).
+     * @throws IOException if the file cannot be created.
+     */
+    public BinaryGameLoggerImpl(final String matchId) throws IOException {
+        this(Paths.get(System.getProperty("user.dir"), "logs",
+                GameLoggerImpl.LOG_FILE_PREFIX + matchId + ".bin"));
+    }
+
+    /**
+     * Creates a logger writing to the given file, replaced if it exists.
+     *
+     * @param file The log file.
+     * @throws IOException if the file cannot be created.
+     */
+    public BinaryGameLoggerImpl(final Path file) throws IOException {
+        this.file = file;
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        buffer.putInt(MAGIC);
+        buffer.putShort((short) FORMAT_VERSION);
+        this.shutdownHook = new Thread(this::close, "uno-binary-log-drain");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Entries logged after {@link #close()} are written to the file at once.
+     */
+    @Override
+    public synchronized void logAction(final String playerName, final String actionType, final String cardDetails,
+            final String extraInfo) {
+        final long epochNanos = originEpochNanos + System.nanoTime() - originNanoTime;
+        final LogAction action = LogAction.of(actionType);
+        try {
+            final int player = intern(playerName);
+            final int actionName = action == LogAction.OTHER ? intern(actionType) : NONE;
+            final int card = intern(cardDetails);
+            final int extra = intern(extraInfo);
+
+            reserve(EVENT_SIZE);
+            buffer.put(EVENT);
+            buffer.putLong(epochNanos);
+            buffer.putInt(player);
+            buffer.put((byte) action.ordinal());
+            buffer.putInt(actionName);
+            buffer.putInt(card);
+            buffer.putInt(extra);
+
+            if (closed) {
+                drain(requireChannel());
+                releaseChannel();
+            }
+        } catch (final IOException e) {
+            if (channel != null && !channel.isOpen()) {
+                // An interrupted write closes the channel: open the file again next time.
+                channel = null;
+            }
+            if (dropped++ == 0) {
+                Logger.getLogger(UNO).log(SEVERE, "Impossible to write to log file: " + file, e);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void logError(final String context, final Exception e) {
+        this.logAction("SYSTEM_ERROR", context, e.getClass().getSimpleName(), e.getMessage());
+
+        Logger.getLogger(UNO)
+                .log(SEVERE, context, e);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Writes the pending records and closes the file.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                drain(requireChannel());
+            } catch (final IOException e) {
+                Logger.getLogger(UNO).log(SEVERE, "Impossible to write to log file: " + file, e);
+            }
+            releaseChannel();
+        }
+
+        if (Thread.currentThread() != shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (final IllegalStateException e) {
+                // The JVM is already shutting down: the hook is running or has run.
+            }
+        }
+    }
+
+    /**
+     * Gets the path of the file this logger writes to.
+     *
+     * @return The path of the match log file.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Gets the id of a text, adding a string record the first time it appears.
+     *
+     * @param text The text, possibly null.
+     * @return The id, or {@link #NONE} for null.
+     * @throws IOException if the buffer cannot be written to the file.
+     */
+    private int intern(final String text) throws IOException {
+        if (text == null) {
+            return NONE;
+        }
+        final Integer known = dictionary.get(text);
+        if (known != null) {
+            return known;
+        }
+        final int id = dictionary.size();
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        final int size = STRING_HEADER_SIZE + bytes.length;
+        if (size <= BUFFER_SIZE) {
+            reserve(size);
+            buffer.put(STRING);
+            buffer.putInt(id);
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        } else {
+            drain(requireChannel());
+            pending = ByteBuffer.allocate(size);
+            pending.put(STRING);
+            pending.putInt(id);
+            pending.putInt(bytes.length);
+            pending.put(bytes);
+            pending.flip();
+        }
+        dictionary.put(text, id);
+        return id;
+    }
+
+    /**
+     * Makes room for a record, writing the buffer to the file if needed.
+     *
+     * @param size The size of the record.
+     * @throws IOException if the buffer cannot be written to the file.
+     */
+    private void reserve(final int size) throws IOException {
+        if (buffer.remaining() < Math.min(size, BUFFER_SIZE)) {
+            drain(requireChannel());
+        }
+    }
+
+    /**
+     * Gets the channel of the file, opening it again for the entries logged
+     * after the end of the match.
+     *
+     * @return The channel.
+     * @throws IOException if the file cannot be opened.
+     */
+    private FileChannel requireChannel() throws IOException {
+        if (channel == null) {
+            channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        return channel;
+    }
+
+    /**
+     * Closes the channel of the file.
+     */
+    private void releaseChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (final IOException e) {
+                Logger.getLogger(UNO).log(SEVERE, "Impossible to close log file: " + file, e);
+            }
+            channel = null;
+        }
+    }
+
+    /**
+     * Writes the record too large for the buffer, if any, and the buffered
+     * records to a channel, then empties the buffer. When the write fails, the
+     * records not written yet are kept. After a successful write, the entries
+     * lost since the last failure are reported.
+     *
+     * @param target The channel.
+     * @throws IOException if the write fails.
+     */
+    private void drain(final FileChannel target) throws IOException {
+        if (pending != null) {
+            while (pending.hasRemaining()) {
+                target.write(pending);
+            }
+            pending = null;
+        }
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+        } finally {
+            buffer.compact();
+        }
+        if (dropped > 0) {
+            Logger.getLogger(UNO).log(WARNING, "Writing to log file " + file + " again after losing " + dropped
+                    + " entries.");
+            dropped = 0;
+        }
+    }
+}
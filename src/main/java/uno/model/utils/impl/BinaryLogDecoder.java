@@ -0,0 +1,115 @@
+package uno.model.utils.impl;
+
+import uno.model.utils.api.LogAction;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converts the logs written by {@link BinaryGameLoggerImpl} to the
+ * {@code timestamp;player;action;card;extra} text format of
+ * {@link GameLoggerImpl}, one line per event. A log cut short by a crash is
+ * decoded up to its last complete record.
+ */
+public final class BinaryLogDecoder {
+
+    private BinaryLogDecoder() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Decodes a binary log file into a text log file.
+     *
+     * @param binaryFile the binary log.
+     * @param textFile   the text log, replaced if it exists.
+     * @throws IOException if a file cannot be accessed or the binary log is not valid.
+     */
+    public static void decode(final Path binaryFile, final Path textFile) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(binaryFile));
+                BufferedWriter out = Files.newBufferedWriter(textFile, StandardCharsets.UTF_8)) {
+            decode(in, out);
+        }
+    }
+
+    /**
+     * Decodes a binary log.
+     *
+     * @param in  the binary log, left open.
+     * @param out the destination of the text lines, left open.
+     * @throws IOException if the log cannot be read or is not valid, or the
+     *                     destination cannot be written.
+     */
+    public static void decode(final InputStream in, final Appendable out) throws IOException {
+        final DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != BinaryGameLoggerImpl.MAGIC) {
+            throw new IOException("Not a binary UNO log.");
+        }
+        final int version = data.readUnsignedShort();
+        if (version != BinaryGameLoggerImpl.FORMAT_VERSION) {
+            throw new IOException("Unsupported log format version " + version + ".");
+        }
+
+        final List<String> dictionary = new ArrayList<>();
+        try {
+            while (true) {
+                final int tag = data.read();
+                if (tag == -1) {
+                    break;
+                } else if (tag == BinaryGameLoggerImpl.STRING) {
+                    final int id = data.readInt();
+                    final byte[] bytes = new byte[data.readInt()];
+                    data.readFully(bytes);
+                    if (id != dictionary.size()) {
+                        throw new IOException("Corrupted log: string " + id + " out of place.");
+                    }
+                    dictionary.add(new String(bytes, StandardCharsets.UTF_8));
+                } else if (tag == BinaryGameLoggerImpl.EVENT) {
+                    final long epochNanos = data.readLong();
+                    final String player = text(dictionary, data.readInt());
+                    final int action = data.readByte();
+                    final String actionName = text(dictionary, data.readInt());
+                    final String card = text(dictionary, data.readInt());
+                    final String extra = text(dictionary, data.readInt());
+                    if (action < 0 || action >= LogAction.values().length) {
+                        throw new IOException("Corrupted log: unknown action " + action + ".");
+                    }
+                    out.append(GameLoggerImpl.formatLine(TimeUnit.NANOSECONDS.toMillis(epochNanos), player,
+                            actionName == null ? LogAction.values()[action].name() : actionName, card, extra))
+                            .append(System.lineSeparator());
+                } else {
+                    throw new IOException("Corrupted log: unknown record " + tag + ".");
+                }
+            }
+        } catch (final EOFException e) {
+            // The last record was cut short: the complete ones are already decoded.
+        }
+    }
+
+    /**
+     * Gets an interned text.
+     *
+     * @param dictionary the texts read so far.
+     * @param id         the id of the text.
+     * @return the text, or null for {@link BinaryGameLoggerImpl#NONE}.
+     * @throws IOException if the text was never defined.
+     */
+    private static String text(final List<String> dictionary, final int id) throws IOException {
+        if (id == BinaryGameLoggerImpl.NONE) {
+            return null;
+        }
+        if (id < 0 || id >= dictionary.size()) {
+            throw new IOException("Corrupted log: unknown string " + id + ".");
+        }
+        return dictionary.get(id);
+    }
+}
@@ -0,0 +1,132 @@
+package uno.model.utils.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Counter keyed by byte sequences, read directly from a buffer.
+ * Keys are hashed and compared byte by byte in an open-addressing table, so
+ * counting a key that was already seen allocates nothing: a copy of the bytes
+ * is only made the first time a key appears. Keys are decoded as UTF-8 only
+ * when the counts are read.
+ */
+final class ByteKeyCounter {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int HASH_MULTIPLIER = 31;
+
+    private byte[][] keys = new byte[INITIAL_CAPACITY][];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    private long[] counts = new long[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Adds to the count of the key made of the bytes of a buffer in a range.
+     *
+     * @param buffer the buffer.
+     * @param from   the index of the first byte of the key.
+     * @param to     the index after the last byte of the key.
+     * @param amount the amount to add.
+     */
+    void add(final ByteBuffer buffer, final int from, final int to, final long amount) {
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            hash = HASH_MULTIPLIER * hash + buffer.get(i);
+        }
+        final int mask = keys.length - 1;
+        int slot = hash & mask;
+        while (keys[slot] != null) {
+            if (hashes[slot] == hash && matches(keys[slot], buffer, from, to)) {
+                counts[slot] += amount;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        final byte[] key = new byte[to - from];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = buffer.get(from + i);
+        }
+        keys[slot] = key;
+        hashes[slot] = hash;
+        counts[slot] = amount;
+        size++;
+        if (size * 2 > keys.length) {
+            grow();
+        }
+    }
+
+    /**
+     * Adds all the counts of another counter to this one.
+     *
+     * @param other the other counter.
+     */
+    void addAll(final ByteKeyCounter other) {
+        for (int i = 0; i < other.keys.length; i++) {
+            if (other.keys[i] != null) {
+                add(ByteBuffer.wrap(other.keys[i]), 0, other.keys[i].length, other.counts[i]);
+            }
+        }
+    }
+
+    /**
+     * Gets the counts, with the keys decoded as text.
+     *
+     * @return the counts, sorted by key.
+     */
+    Map<String, Long> toMap() {
+        final Map<String, Long> map = new TreeMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                map.merge(new String(keys[i], StandardCharsets.UTF_8), counts[i], Long::sum);
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Checks whether a key equals the bytes of a buffer in a range.
+     *
+     * @param key    the key.
+     * @param buffer the buffer.
+     * @param from   the index of the first byte.
+     * @param to     the index after the last byte.
+     * @return true if the bytes are the same.
+     */
+    private static boolean matches(final byte[] key, final ByteBuffer buffer, final int from, final int to) {
+        if (key.length != to - from) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (key[i] != buffer.get(from + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Doubles the capacity of the table.
+     */
+    private void grow() {
+        final byte[][] oldKeys = keys;
+        final int[] oldHashes = hashes;
+        final long[] oldCounts = counts;
+        keys = new byte[oldKeys.length * 2][];
+        hashes = new int[keys.length];
+        counts = new long[keys.length];
+        final int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int slot = oldHashes[i] & mask;
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                hashes[slot] = oldHashes[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+    }
+}
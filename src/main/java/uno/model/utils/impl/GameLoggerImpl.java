@@ -1,13 +1,19 @@
 package uno.model.utils.impl;
 
 import uno.model.utils.api.GameLogger;
+import uno.model.utils.api.LogRetentionPolicy;
 
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Optional;
 import java.util.Arrays;
@@ -15,18 +21,30 @@ import java.util.Comparator;
 import java.util.logging.Logger;
 
 import static java.util.logging.Level.SEVERE;
+import static java.util.logging.Level.WARNING;
 
 /**
  * Concrete implementation of GameLogger that writes events to a text file.
- * The logs are stored in a "logs" directory within the project root.
+ * The logs are stored in a "logs" directory within the project root, which
+ * keeps the newest few matches; older logs are deleted or archived according
+ * to the {@link LogRetentionPolicy}.
  */
 public class GameLoggerImpl implements GameLogger {
 
+    /**
+     * Name of the subdirectory of the logs directory holding archived logs.
+     */
+    public static final String ARCHIVE_DIRECTORY = "archive";
+
+    static final String LOG_FILE_PREFIX = "log_match_";
+    static final String LOG_FILE_SUFFIX = ".txt";
+
     private static final int MAX_LOG_FILES = 5;
     private static final String UNO = "UNO";
+    private static final DateTimeFormatter DTF = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     private final String filePath;
-    private final DateTimeFormatter dtf = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private final LogRetentionPolicy retentionPolicy;
 
     /**
      * Initializes the logger and ensures the directory structure exists.
@@ -35,8 +53,21 @@ public class GameLoggerImpl implements GameLogger {
      *                filename).
      */
     public GameLoggerImpl(final String matchId) {
+        this(matchId, LogRetentionPolicy.DELETE);
+    }
+
+    /**
+     * Initializes the logger and ensures the directory structure exists.
+     *
+     * @param matchId         A unique identifier for the current match (used in
+     *                        the filename).
+     * @param retentionPolicy What to do with the logs of old matches.
+     */
+    public GameLoggerImpl(final String matchId, final LogRetentionPolicy retentionPolicy) {
         final String userDir = System.getProperty("user.dir");
-        this.filePath = userDir + File.separator + "logs" + File.separator + "log_match_" + matchId + ".txt";
+        this.filePath = userDir + File.separator + "logs" + File.separator
+                + LOG_FILE_PREFIX + matchId + LOG_FILE_SUFFIX;
+        this.retentionPolicy = retentionPolicy;
         initializeLogDirectory();
     }
 
@@ -60,22 +91,39 @@ public class GameLoggerImpl implements GameLogger {
     }
 
     /**
-     * Deletes old log files if the number of log files exceeds the defined limit.
+     * Deletes or archives old log files if the number of log files exceeds the
+     * defined limit.
      * 
      * @param logDir The directory where log files are stored.
      */
     private void cleanOldLogs(final File logDir) {
+        cleanOldFiles(logDir, LOG_FILE_PREFIX, LOG_FILE_SUFFIX, retentionPolicy);
+    }
+
+    /**
+     * Deletes or archives the oldest files of a kind in the logs directory, so
+     * that room is left for a new one within the defined limit.
+     * 
+     * @param logDir The directory where the files are stored.
+     * @param prefix The prefix of the names of the files.
+     * @param suffix The suffix of the names of the files.
+     * @param policy What to do with the oldest files.
+     */
+    public static void cleanOldFiles(final File logDir, final String prefix, final String suffix,
+            final LogRetentionPolicy policy) {
         if (logDir == null || !logDir.exists() || !logDir.isDirectory()) {
             return;
         }
 
-        final File[] logFiles = logDir.listFiles((dir, name) -> name.startsWith("log_match_") && name.endsWith(".txt"));
+        final File[] logFiles = logDir.listFiles((dir, name) -> name.startsWith(prefix) && name.endsWith(suffix));
 
         if (logFiles != null && logFiles.length >= MAX_LOG_FILES) {
             Arrays.sort(logFiles, Comparator.comparingLong(File::lastModified));
 
             for (int i = 0; i < logFiles.length - MAX_LOG_FILES + 1; i++) {
-                if (!logFiles[i].delete()) {
+                if (policy == LogRetentionPolicy.ARCHIVE) {
+                    archive(logFiles[i]);
+                } else if (!logFiles[i].delete()) {
                     Logger.getLogger(UNO)
                             .warning("Impossible to delete old log file: " + logFiles[i].getPath());
                 }
@@ -83,16 +131,29 @@ public class GameLoggerImpl implements GameLogger {
         }
     }
 
+    /**
+     * Moves an old log file to the archive directory.
+     * 
+     * @param logFile The log file to archive.
+     */
+    private static void archive(final File logFile) {
+        final Path archiveDir = logFile.toPath().resolveSibling(ARCHIVE_DIRECTORY);
+        try {
+            Files.createDirectories(archiveDir);
+            Files.move(logFile.toPath(), archiveDir.resolve(logFile.getName()), StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException e) {
+            Logger.getLogger(UNO).log(WARNING, "Impossible to archive old log file: " + logFile.getPath(), e);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void logAction(final String playerName, final String actionType, final String cardDetails,
             final String extraInfo) {
-        final String timestamp = dtf.format(LocalDateTime.now());
-
-        final String logEntry = String.format("%s;%s;%s;%s;%s",
-                timestamp, playerName, actionType, cardDetails, extraInfo);
+        final String logEntry = formatEntry(System.currentTimeMillis(), playerName, actionType, cardDetails,
+                extraInfo);
 
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath, StandardCharsets.UTF_8, true))) {
             writer.write(logEntry);
@@ -103,6 +164,50 @@ public class GameLoggerImpl implements GameLogger {
         }
     }
 
+    /**
+     * Builds a single log line in the {@code timestamp;player;action;card;extra} format.
+     *
+     * @param epochMillis The moment the action happened, in milliseconds since the epoch.
+     * @param playerName  The name of the player performing the action.
+     * @param actionType  The type of action.
+     * @param cardDetails Specifics about the card involved.
+     * @param extraInfo   Any additional context.
+     * @return The formatted log line, without line terminator.
+     */
+    protected String formatEntry(final long epochMillis, final String playerName, final String actionType,
+            final String cardDetails, final String extraInfo) {
+        return formatLine(epochMillis, playerName, actionType, cardDetails, extraInfo);
+    }
+
+    /**
+     * Builds a single log line in the {@code timestamp;player;action;card;extra}
+     * format, as written by this logger.
+     *
+     * @param epochMillis The moment the action happened, in milliseconds since the epoch.
+     * @param playerName  The name of the player performing the action.
+     * @param actionType  The type of action.
+     * @param cardDetails Specifics about the card involved.
+     * @param extraInfo   Any additional context.
+     * @return The formatted log line, without line terminator.
+     */
+    static String formatLine(final long epochMillis, final String playerName, final String actionType,
+            final String cardDetails, final String extraInfo) {
+        final String timestamp = DTF.format(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis),
+                ZoneId.systemDefault()));
+
+        return String.format("%s;%s;%s;%s;%s",
+                timestamp, playerName, actionType, cardDetails, extraInfo);
+    }
+
+    /**
+     * Gets the path of the file this logger writes to.
+     *
+     * @return The absolute path of the match log file.
+     */
+    protected String getFilePath() {
+        return this.filePath;
+    }
+
     /**
      * {@inheritDoc}
      */
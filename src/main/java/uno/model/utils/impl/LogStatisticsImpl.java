@@ -0,0 +1,190 @@
+package uno.model.utils.impl;
+
+import uno.model.utils.api.LogStatistics;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+/**
+ * Implementation of the {@link LogStatistics} interface, filled in by a
+ * {@link MappedLogAnalyzer}. Each file is analyzed into its own instance and
+ * the instances are then merged, so no state is shared between threads.
+ */
+final class LogStatisticsImpl implements LogStatistics {
+
+    private final ByteKeyCounter playsPerCard = new ByteKeyCounter();
+    private final ByteKeyCounter drawsPerPlayer = new ByteKeyCounter();
+    private int matchCount;
+    private long recordCount;
+    private long unoPenalties;
+    private long roundCount;
+    private long roundPlays;
+    private long longestRound;
+    private long matchSeconds;
+
+    /**
+     * Counts a record.
+     */
+    void countRecord() {
+        recordCount++;
+    }
+
+    /**
+     * Counts a play of the card value held by a buffer in a range.
+     *
+     * @param buffer the buffer.
+     * @param from   the index of the first byte of the value.
+     * @param to     the index after the last byte of the value.
+     */
+    void countPlay(final ByteBuffer buffer, final int from, final int to) {
+        playsPerCard.add(buffer, from, to, 1);
+    }
+
+    /**
+     * Counts the cards drawn by the player whose name is held by a buffer in a range.
+     *
+     * @param buffer the buffer.
+     * @param from   the index of the first byte of the name.
+     * @param to     the index after the last byte of the name.
+     * @param cards  the number of cards drawn.
+     */
+    void countDraw(final ByteBuffer buffer, final int from, final int to, final int cards) {
+        drawsPerPlayer.add(buffer, from, to, cards);
+    }
+
+    /**
+     * Counts an UNO penalty.
+     */
+    void countUnoPenalty() {
+        unoPenalties++;
+    }
+
+    /**
+     * Counts a finished round.
+     *
+     * @param plays the number of cards played in the round.
+     */
+    void countRound(final long plays) {
+        roundCount++;
+        roundPlays += plays;
+        longestRound = Math.max(longestRound, plays);
+    }
+
+    /**
+     * Counts a match.
+     *
+     * @param seconds the duration of the match.
+     */
+    void countMatch(final long seconds) {
+        matchCount++;
+        matchSeconds += seconds;
+    }
+
+    /**
+     * Adds the aggregates of another instance to this one.
+     *
+     * @param other the other instance.
+     * @return this instance.
+     */
+    LogStatisticsImpl merge(final LogStatisticsImpl other) {
+        playsPerCard.addAll(other.playsPerCard);
+        drawsPerPlayer.addAll(other.drawsPerPlayer);
+        matchCount += other.matchCount;
+        recordCount += other.recordCount;
+        unoPenalties += other.unoPenalties;
+        roundCount += other.roundCount;
+        roundPlays += other.roundPlays;
+        longestRound = Math.max(longestRound, other.longestRound);
+        matchSeconds += other.matchSeconds;
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getPlaysPerCard() {
+        return playsPerCard.toMap();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getDrawsPerPlayer() {
+        return drawsPerPlayer.toMap();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getUnoPenalties() {
+        return unoPenalties;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getRoundCount() {
+        return roundCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getAverageRoundLength() {
+        return roundCount == 0 ? 0 : (double) roundPlays / roundCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getLongestRound() {
+        return longestRound;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getAverageMatchSeconds() {
+        return matchCount == 0 ? 0 : (double) matchSeconds / matchCount;
+    }
+
+    /**
+     * Describes the aggregates as a multi-line report.
+     *
+     * @return the report.
+     */
+    @Override
+    public String toString() {
+        return String.format("Matches: %d (%d records, %.1f s on average)%n"
+                + "Rounds: %d (%.1f cards played on average, %d at most)%n"
+                + "UNO penalties: %d%n"
+                + "Plays per card: %s%n"
+                + "Draws per player: %s",
+                matchCount, recordCount, getAverageMatchSeconds(),
+                roundCount, getAverageRoundLength(), longestRound,
+                unoPenalties, getPlaysPerCard(), getDrawsPerPlayer());
+    }
+}
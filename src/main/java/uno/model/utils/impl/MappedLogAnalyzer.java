@@ -0,0 +1,368 @@
+package uno.model.utils.impl;
+
+import uno.model.utils.api.LogAnalyzer;
+import uno.model.utils.api.LogStatistics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of the {@link LogAnalyzer} interface that memory-maps the log
+ * files and parses the records in place.
+ * Fields are located as byte ranges between separators and actions are
+ * compared with their encoded names, so no {@code String} is built per record;
+ * card values and player names are counted by {@link ByteKeyCounter}. Files are
+ * analyzed in parallel, each into its own statistics, and large files are
+ * mapped in chunks cut at line boundaries.
+ */
+public final class MappedLogAnalyzer implements LogAnalyzer {
+
+    /**
+     * Default size of the regions of a file mapped at once.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024 * 1024;
+
+    private static final byte SEPARATOR = ';';
+    private static final byte NEW_LINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final byte VALUE_SEPARATOR = ',';
+    private static final int FIELDS = 5;
+    private static final int PLAYER = 1;
+    private static final int ACTION = 2;
+    private static final int EXTRA = 4;
+
+    private static final int TIMESTAMP_LENGTH = 19;
+    private static final int YEAR = 0;
+    private static final int YEAR_DIGITS = 4;
+    private static final int MONTH = 5;
+    private static final int DAY = 8;
+    private static final int HOUR = 11;
+    private static final int MINUTE = 14;
+    private static final int SECOND = 17;
+    private static final int TWO_DIGITS = 2;
+    private static final int RADIX = 10;
+
+    private static final byte[] PLAY = ascii("PLAY");
+    private static final byte[] DRAW = ascii("DRAW");
+    private static final byte[] CALL_UNO_FAILED = ascii("CALL_UNO_FAILED");
+    private static final byte[] UNO_PENALTY = ascii("UNO_PENALTY");
+    private static final byte[] GAME_START = ascii("GAME_START");
+    private static final byte[] ROUND_START = ascii("ROUND_START");
+
+    /**
+     * Action logged at the end of every round, not only of the last one.
+     */
+    private static final byte[] GAME_OVER = ascii("GAME_OVER");
+
+    private final int chunkSize;
+
+    /**
+     * Creates an analyzer mapping {@link #DEFAULT_CHUNK_SIZE} bytes at once.
+     */
+    public MappedLogAnalyzer() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates an analyzer.
+     *
+     * @param chunkSize the size of the regions of a file mapped at once, larger
+     *                  than the longest record.
+     * @throws IllegalArgumentException if the size is not positive.
+     */
+    public MappedLogAnalyzer(final int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("The chunk size must be positive.");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LogStatistics analyzeDirectory(final Path directory) throws IOException {
+        final List<Path> files;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            files = paths.filter(Files::isRegularFile)
+                    .filter(path -> {
+                        final String name = path.getFileName().toString();
+                        return name.startsWith(GameLoggerImpl.LOG_FILE_PREFIX)
+                                && name.endsWith(GameLoggerImpl.LOG_FILE_SUFFIX);
+                    })
+                    .toList();
+        }
+        return analyzeFiles(files);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LogStatistics analyzeFiles(final List<Path> files) throws IOException {
+        try {
+            return files.parallelStream().collect(LogStatisticsImpl::new,
+                    (statistics, file) -> statistics.merge(analyzeFile(file)), LogStatisticsImpl::merge);
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Analyzes the log of one match.
+     *
+     * @param file the log file.
+     * @return the aggregates of the match.
+     * @throws UncheckedIOException if the file cannot be read.
+     */
+    private LogStatisticsImpl analyzeFile(final Path file) {
+        final MatchParser parser = new MatchParser();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                final int length = (int) Math.min(chunkSize, size - position);
+                final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                int end = length;
+                if (position + length < size) {
+                    final int lastLine = lastIndexOf(buffer, NEW_LINE, length);
+                    end = lastLine < 0 ? length : lastLine + 1;
+                }
+                parser.parse(buffer, end);
+                position += end;
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return parser.finish();
+    }
+
+    /**
+     * Parser of the records of one match, which keeps the state of the
+     * current round across the chunks of the file.
+     */
+    private static final class MatchParser {
+
+        private final LogStatisticsImpl statistics = new LogStatisticsImpl();
+        private final int[] separators = new int[FIELDS - 1];
+        private long firstSecond = -1;
+        private long lastSecond = -1;
+        private boolean inRound;
+        private long roundPlays;
+
+        /**
+         * Parses the complete lines at the start of a buffer.
+         *
+         * @param buffer the buffer.
+         * @param end    the index after the last byte to parse.
+         */
+        void parse(final ByteBuffer buffer, final int end) {
+            int lastRecord = -1;
+            int start = 0;
+            while (start < end) {
+                int lineEnd = start;
+                while (lineEnd < end && buffer.get(lineEnd) != NEW_LINE) {
+                    lineEnd++;
+                }
+                final int next = lineEnd + 1;
+                if (lineEnd > start && buffer.get(lineEnd - 1) == CARRIAGE_RETURN) {
+                    lineEnd--;
+                }
+                if (parseRecord(buffer, start, lineEnd)) {
+                    lastRecord = start;
+                }
+                start = next;
+            }
+            if (lastRecord >= 0) {
+                final long second = epochSecond(buffer, lastRecord);
+                if (second >= 0) {
+                    lastSecond = second;
+                }
+            }
+        }
+
+        /**
+         * Parses one record.
+         *
+         * @param buffer the buffer.
+         * @param start  the index of the first byte of the line.
+         * @param end    the index after the last byte of the line.
+         * @return true if the line is a record.
+         */
+        private boolean parseRecord(final ByteBuffer buffer, final int start, final int end) {
+            int found = 0;
+            for (int i = start; i < end && found < separators.length; i++) {
+                if (buffer.get(i) == SEPARATOR) {
+                    separators[found++] = i;
+                }
+            }
+            if (found < separators.length) {
+                return false;
+            }
+            statistics.countRecord();
+            if (firstSecond < 0) {
+                firstSecond = epochSecond(buffer, start);
+            }
+
+            final int actionStart = separators[ACTION - 1] + 1;
+            final int actionEnd = separators[ACTION];
+            if (equalsAt(buffer, actionStart, actionEnd, PLAY)) {
+                statistics.countPlay(buffer, separators[EXTRA - 1] + 1, end);
+                roundPlays++;
+            } else if (equalsAt(buffer, actionStart, actionEnd, DRAW)) {
+                // A draw of several cards lists their values separated by commas.
+                statistics.countDraw(buffer, separators[PLAYER - 1] + 1, separators[PLAYER],
+                        1 + occurrences(buffer, VALUE_SEPARATOR, separators[EXTRA - 1] + 1, end));
+            } else if (equalsAt(buffer, actionStart, actionEnd, CALL_UNO_FAILED)
+                    || equalsAt(buffer, actionStart, actionEnd, UNO_PENALTY)) {
+                statistics.countUnoPenalty();
+            } else if (equalsAt(buffer, actionStart, actionEnd, GAME_START)
+                    || equalsAt(buffer, actionStart, actionEnd, ROUND_START)) {
+                inRound = true;
+                roundPlays = 0;
+            } else if (equalsAt(buffer, actionStart, actionEnd, GAME_OVER) && inRound) {
+                statistics.countRound(roundPlays);
+                inRound = false;
+            }
+            return true;
+        }
+
+        /**
+         * Completes the aggregates of the match.
+         *
+         * @return the aggregates.
+         */
+        LogStatisticsImpl finish() {
+            if (statistics.getRecordCount() > 0) {
+                statistics.countMatch(firstSecond >= 0 && lastSecond >= firstSecond ? lastSecond - firstSecond : 0);
+            }
+            return statistics;
+        }
+    }
+
+    /**
+     * Parses the {@code yyyy-MM-dd HH:mm:ss} timestamp at the start of a record.
+     *
+     * @param buffer the buffer.
+     * @param start  the index of the first byte of the record.
+     * @return the seconds since the epoch, or -1 if there is no valid timestamp.
+     */
+    private static long epochSecond(final ByteBuffer buffer, final int start) {
+        if (start + TIMESTAMP_LENGTH > buffer.limit()) {
+            return -1;
+        }
+        final int year = number(buffer, start + YEAR, YEAR_DIGITS);
+        final int month = number(buffer, start + MONTH, TWO_DIGITS);
+        final int day = number(buffer, start + DAY, TWO_DIGITS);
+        final int hour = number(buffer, start + HOUR, TWO_DIGITS);
+        final int minute = number(buffer, start + MINUTE, TWO_DIGITS);
+        final int second = number(buffer, start + SECOND, TWO_DIGITS);
+        if (year < 0 || month < 0 || day < 0 || hour < 0 || minute < 0 || second < 0) {
+            return -1;
+        }
+        try {
+            return LocalDateTime.of(year, month, day, hour, minute, second).toEpochSecond(ZoneOffset.UTC);
+        } catch (final DateTimeException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Parses a non-negative decimal number of fixed length.
+     *
+     * @param buffer the buffer.
+     * @param from   the index of the first digit.
+     * @param digits the number of digits.
+     * @return the number, or -1 if a byte is not a digit.
+     */
+    private static int number(final ByteBuffer buffer, final int from, final int digits) {
+        int value = 0;
+        for (int i = from; i < from + digits; i++) {
+            final int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit >= RADIX) {
+                return -1;
+            }
+            value = value * RADIX + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Counts the occurrences of a byte in a range of a buffer.
+     *
+     * @param buffer the buffer.
+     * @param value  the byte to count.
+     * @param from   the index of the first byte.
+     * @param to     the index after the last byte.
+     * @return the number of occurrences.
+     */
+    private static int occurrences(final ByteBuffer buffer, final byte value, final int from, final int to) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks whether the bytes of a buffer in a range equal a constant.
+     *
+     * @param buffer   the buffer.
+     * @param from     the index of the first byte.
+     * @param to       the index after the last byte.
+     * @param expected the constant.
+     * @return true if the bytes are the same.
+     */
+    private static boolean equalsAt(final ByteBuffer buffer, final int from, final int to, final byte[] expected) {
+        if (to - from != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (buffer.get(from + i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the last occurrence of a byte before a position.
+     *
+     * @param buffer the buffer.
+     * @param value  the byte.
+     * @param end    the index after the last byte to search.
+     * @return the index of the byte, or -1 if it does not occur.
+     */
+    private static int lastIndexOf(final ByteBuffer buffer, final byte value, final int end) {
+        for (int i = end - 1; i >= 0; i--) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Encodes the name of an action.
+     *
+     * @param action the name.
+     * @return the encoded name.
+     */
+    private static byte[] ascii(final String action) {
+        return action.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,28 @@
+package uno.model.utils.impl;
+
+import uno.model.utils.api.GameLogger;
+
+/**
+ * Implementation of GameLogger that discards every event.
+ * It is meant for headless simulations, where thousands of games are played
+ * per second and writing a log file for each of them would dominate the cost.
+ */
+public class SilentGameLoggerImpl implements GameLogger {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void logAction(final String playerName, final String actionType, final String cardDetails,
+            final String extraInfo) {
+        // Intentionally empty: simulations do not keep a log.
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void logError(final String context, final Exception e) {
+        // Intentionally empty: simulations do not keep a log.
+    }
+}
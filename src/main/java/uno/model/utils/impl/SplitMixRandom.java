@@ -0,0 +1,63 @@
+package uno.model.utils.impl;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Random generator whose whole state is a single readable {@code long}.
+ * It implements the SplitMix64 algorithm, the one behind
+ * {@link java.util.SplittableRandom}: quality is the same, but the state can be
+ * saved with {@link #getState()} and restored with {@link #setState(long)}, so a
+ * game can be resumed or replayed from any point with the exact same draws.
+ * Instances are not thread-safe, like the games that use them.
+ */
+public final class SplitMixRandom implements RandomGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final long MIX_1 = 0xbf58476d1ce4e5b9L;
+    private static final long MIX_2 = 0x94d049bb133111ebL;
+    private static final int SHIFT_1 = 30;
+    private static final int SHIFT_2 = 27;
+    private static final int SHIFT_3 = 31;
+
+    private long state;
+
+    /**
+     * Creates a generator from a seed.
+     *
+     * @param seed the initial state.
+     */
+    public SplitMixRandom(final long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * Gets the current state, from which the generator produces the same
+     * sequence again.
+     *
+     * @return the state.
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Sets the state of the generator.
+     *
+     * @param state a state returned by {@link #getState()}.
+     */
+    public void setState(final long state) {
+        this.state = state;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        long z = state;
+        z = (z ^ (z >>> SHIFT_1)) * MIX_1;
+        z = (z ^ (z >>> SHIFT_2)) * MIX_2;
+        return z ^ (z >>> SHIFT_3);
+    }
+}
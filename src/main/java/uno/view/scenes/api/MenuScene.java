@@ -6,7 +6,6 @@ import uno.controller.api.MenuObserver;
  * Interface representing the Main Menu screen of the application.
  * It defines the mechanism to attach a controller (observer) to handle user inputs.
  */
-@FunctionalInterface
 public interface MenuScene {
 
     /**
@@ -15,4 +14,11 @@ public interface MenuScene {
      * @param observer The controller implementing MenuObserver.
      */
     void setObserver(MenuObserver observer);
+
+    /**
+     * Shows or hides the entry that resumes a saved match.
+     *
+     * @param available true if a saved match can be resumed.
+     */
+    void setResumeAvailable(boolean available);
 }
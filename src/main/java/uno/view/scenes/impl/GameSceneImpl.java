@@ -2,8 +2,10 @@ package uno.view.scenes.impl;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import uno.model.cards.attributes.CardColor;
+import uno.model.cards.types.api.Card;
 import uno.model.players.impl.AbstractPlayer;
 import uno.model.players.impl.HumanPlayer;
+import uno.model.game.api.GameMode;
 import uno.model.game.api.GameState;
 import uno.view.components.impl.ColorChooserPanelImpl;
 import uno.view.components.impl.PlayerChooserPanelImpl;
@@ -18,9 +20,12 @@ import uno.view.api.GameViewObserver;
 import uno.view.components.api.ColorChooserPanel;
 import uno.view.components.api.PlayerChooserPanel;
 import uno.view.style.UnoTheme;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Optional;
 
-import javax.swing.ImageIcon;
+import javax.swing.Icon;
 
 import javax.swing.BorderFactory;
 import javax.swing.BoxLayout;
@@ -90,6 +95,7 @@ public final class GameSceneImpl extends JPanel implements GameScene {
     private static final String POSITION_WEST = "West";
     private static final String POSITION_NORTH = "North";
     private static final String POSITION_EAST = "East";
+    private static final String IMAGE_KEY_PROPERTY = "uno.imageKey";
 
     private final CardImageLoaderImpl cardImageLoader;
 
@@ -97,6 +103,9 @@ public final class GameSceneImpl extends JPanel implements GameScene {
     private Optional<GameViewObserver> controllerObserver = Optional.empty();
 
     private final JPanel playerHandPanel;
+    private final GridBagLayout handLayout = new GridBagLayout();
+    private final Map<Card, JButton> handButtons = new IdentityHashMap<>();
+    private final List<JButton> handOrder = new ArrayList<>();
     private final JPanel westAIPanel;
     private final JPanel northAIPanel;
     private final JPanel eastAIPanel;
@@ -120,10 +129,15 @@ public final class GameSceneImpl extends JPanel implements GameScene {
 
     /**
      * Constructor for GameSceneImpl.
+     * The card images of the mode start loading in the background before the
+     * components are built.
+     * 
+     * @param gameMode the mode of the game shown by the scene.
      */
-    public GameSceneImpl() {
+    public GameSceneImpl(final GameMode gameMode) {
         super(new BorderLayout(10, 10));
         this.cardImageLoader = new CardImageLoaderImpl(CARD_WIDTH, CARD_HEIGHT);
+        this.cardImageLoader.preload(gameMode);
         setBackground(UnoTheme.BACKGROUND_COLOR);
         setBorder(new EmptyBorder(10, 10, 10, 10));
 
@@ -604,7 +618,7 @@ public final class GameSceneImpl extends JPanel implements GameScene {
      * @return The created JPanel.
      */
     private JPanel createPlayerHandPanel() {
-        final JPanel panel = new JPanel(new GridBagLayout());
+        final JPanel panel = new JPanel(handLayout);
         panel.setBackground(UnoTheme.PANEL_COLOR);
 
         panel.setBorder(new CompoundBorder(
@@ -665,8 +679,8 @@ public final class GameSceneImpl extends JPanel implements GameScene {
      * @param cardName The name of the card image to load.
      */
     private void styleAsCardButton(final JButton button, final String cardName) {
-        final Optional<ImageIcon> icon = Optional.of(cardImageLoader.getImage(cardName));
-        final ImageIcon transparentIcon = cardImageLoader.getTransparentImage(cardName);
+        final Optional<Icon> icon = Optional.ofNullable(cardImageLoader.getImage(cardName));
+        final Icon transparentIcon = cardImageLoader.getTransparentImage(cardName);
         if (icon.isPresent()) {
             button.setIcon(icon.get());
             button.setDisabledIcon(transparentIcon);
@@ -674,6 +688,7 @@ public final class GameSceneImpl extends JPanel implements GameScene {
         } else {
             button.setText(cardName.replace("", " "));
             button.setForeground(Color.WHITE);
+            cardImageLoader.onImageLoaded(cardName, () -> styleAsCardButton(button, cardName));
         }
 
         button.setPreferredSize(new Dimension(CARD_WIDTH, CARD_HEIGHT));
@@ -746,7 +761,7 @@ public final class GameSceneImpl extends JPanel implements GameScene {
             if (topCardData.isPresent()) {
                 final CardViewData card = topCardData.get();
                 final String cardName = card.getImageKey();
-                final Optional<ImageIcon> icon = Optional.of(cardImageLoader.getImage(cardName));
+                final Optional<Icon> icon = Optional.ofNullable(cardImageLoader.getImage(cardName));
 
                 if (icon.isPresent()) {
                     discardPileCard.setIcon(icon.get());
@@ -756,6 +771,7 @@ public final class GameSceneImpl extends JPanel implements GameScene {
                     discardPileCard.setText("<html><div style='text-align: center;'>"
                             + card.getValue() + "<br>" + card.getColor()
                             + "</div></html>");
+                    cardImageLoader.onImageLoaded(cardName, this::updateDiscardPile);
                 }
             }
 
@@ -779,21 +795,23 @@ public final class GameSceneImpl extends JPanel implements GameScene {
     }
 
     /**
-     * Refreshes the human player's hand panel by recreating card buttons.
+     * Refreshes the human player's hand panel.
+     * Buttons are kept per model card: only the buttons of cards that left or
+     * entered the hand are removed or added, moved cards only get new grid
+     * constraints, and the panel is laid out again only if something changed.
      */
     private void updateHumanHand() {
         if (currentData == null) {
             return;
         }
-        playerHandPanel.removeAll();
+        final List<CardViewData> hand = currentData.getPlayers().isEmpty()
+                ? List.of()
+                : currentData.getPlayers().get(0).getHand();
 
-        if (currentData.getPlayers().isEmpty()) {
-            playerHandPanel.revalidate();
-            playerHandPanel.repaint();
-            return;
-        }
-
-        final PlayerViewData humanPlayer = currentData.getPlayers().get(0);
+        final Map<Card, JButton> previousButtons = new IdentityHashMap<>(handButtons);
+        final List<JButton> previousOrder = new ArrayList<>(handOrder);
+        handButtons.clear();
+        handOrder.clear();
 
         final GridBagConstraints gbc = new GridBagConstraints();
         gbc.gridx = 0;
@@ -801,18 +819,54 @@ public final class GameSceneImpl extends JPanel implements GameScene {
         gbc.insets = GBC_INSETS;
         gbc.anchor = GridBagConstraints.CENTER;
 
-        for (final CardViewData cardData : humanPlayer.getHand()) {
-            final JButton cardButton = createCardButton(cardData);
+        boolean changed = false;
+        for (final CardViewData cardData : hand) {
+            final Card card = cardData.getModelCard().orElseThrow();
+            JButton cardButton = previousButtons.remove(card);
+            if (cardButton == null) {
+                cardButton = createHandCardButton(card, cardData);
+                playerHandPanel.add(cardButton, gbc);
+                changed = true;
+            } else {
+                if (!cardData.getImageKey().equals(cardButton.getClientProperty(IMAGE_KEY_PROPERTY))) {
+                    styleAsCardButton(cardButton, cardData.getImageKey());
+                    cardButton.putClientProperty(IMAGE_KEY_PROPERTY, cardData.getImageKey());
+                }
+                if (gbc.gridx >= previousOrder.size() || previousOrder.get(gbc.gridx) != cardButton) {
+                    handLayout.setConstraints(cardButton, gbc);
+                    changed = true;
+                }
+            }
+            handButtons.put(card, cardButton);
+            handOrder.add(cardButton);
+            gbc.gridx++;
+        }
 
-            cardButton.addActionListener(e -> {
-                controllerObserver.ifPresent(observer -> observer.onPlayCard(cardData.getModelCard()));
-            });
+        for (final JButton staleButton : previousButtons.values()) {
+            playerHandPanel.remove(staleButton);
+            changed = true;
+        }
 
-            playerHandPanel.add(cardButton, gbc);
-            gbc.gridx++;
+        if (changed) {
+            playerHandPanel.revalidate();
+            playerHandPanel.repaint();
         }
-        playerHandPanel.revalidate();
-        playerHandPanel.repaint();
+    }
+
+    /**
+     * Creates the button of a card in the human player's hand.
+     * 
+     * @param card     the model card the button plays.
+     * @param cardData the view data of the card.
+     * @return the new button.
+     */
+    private JButton createHandCardButton(final Card card, final CardViewData cardData) {
+        final JButton cardButton = createCardButton(cardData);
+        cardButton.putClientProperty(IMAGE_KEY_PROPERTY, cardData.getImageKey());
+        cardButton.addActionListener(e -> {
+            controllerObserver.ifPresent(observer -> observer.onPlayCard(Optional.of(card)));
+        });
+        return cardButton;
     }
 
     /**
@@ -10,6 +10,7 @@ import javax.swing.Box;
 import javax.swing.BoxLayout;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
+import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
@@ -31,6 +32,8 @@ public final class MenuSceneImpl extends JPanel implements MenuScene {
     private static final EmptyBorder TITLE_EMPTY_BORDER = new EmptyBorder(0, 0, 40, 0);
 
     private MenuObserver observer;
+    private final StyledButton resumeButton;
+    private final Component resumeSpacer;
 
     /**
      * Constructs the MenuSceneImpl, setting up the layout and components.
@@ -54,6 +57,10 @@ public final class MenuSceneImpl extends JPanel implements MenuScene {
         final int btnWidth = 350;
         final int btnHeight = 60;
 
+        resumeButton = new StyledButtonImpl("Resume Match");
+        resumeButton.setSize(btnWidth, btnHeight);
+        resumeButton.setMnemonic(KeyEvent.VK_M);
+
         final StyledButton classicButton = new StyledButtonImpl("Classic Mode");
         classicButton.setSize(btnWidth, btnHeight);
         classicButton.setMnemonic(KeyEvent.VK_C);
@@ -75,6 +82,9 @@ public final class MenuSceneImpl extends JPanel implements MenuScene {
         quitButton.setMnemonic(KeyEvent.VK_E);
 
         contentPanel.add(title);
+        contentPanel.add(resumeButton.getComponent());
+        resumeSpacer = Box.createRigidArea(RIGID_AREA_DIMENSION);
+        contentPanel.add(resumeSpacer);
         contentPanel.add(classicButton.getComponent());
         contentPanel.add(Box.createRigidArea(RIGID_AREA_DIMENSION));
         contentPanel.add(flipButton.getComponent());
@@ -86,6 +96,14 @@ public final class MenuSceneImpl extends JPanel implements MenuScene {
         contentPanel.add(quitButton.getComponent());
         add(contentPanel, new GridBagConstraints());
 
+        setResumeAvailable(false);
+
+        resumeButton.addActionListener(e -> {
+            if (observer != null) {
+                observer.onResumeGame();
+            }
+        });
+
         classicButton.addActionListener(e -> {
             if (observer != null) {
                 observer.onStartClassicGame();
@@ -124,4 +142,13 @@ public final class MenuSceneImpl extends JPanel implements MenuScene {
     public void setObserver(final MenuObserver observer) {
         this.observer = observer;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setResumeAvailable(final boolean available) {
+        resumeButton.setVisible(available);
+        resumeSpacer.setVisible(available);
+    }
 }
@@ -1,6 +1,8 @@
 package uno.view.utils.api;
 
-import javax.swing.ImageIcon;
+import uno.model.game.api.GameMode;
+
+import javax.swing.Icon;
 
 /**
  * Interface for the component responsible for retrieving card images.
@@ -12,16 +14,36 @@ public interface CardImageLoader {
      * Retrieves the standard image for a specific card.
      *
      * @param cardName The unique identifier name of the card (e.g., "RED_ZERO").
-     * @return The ImageIcon corresponding to the card, or Optional.empty() if not found.
+     * @return The Icon corresponding to the card, or null if not found or
+     *         still loading.
      */
-    ImageIcon getImage(String cardName);
+    Icon getImage(String cardName);
 
     /**
      * Retrieves a semi-transparent version of the card image.
      * Useful for visual cues like disabled cards or "ghost" effects.
      *
      * @param cardName The unique identifier name of the card.
-     * @return The transparent ImageIcon, or Optional.empty() if not found.
+     * @return The transparent Icon, or null if not found or still loading.
+     */
+    Icon getTransparentImage(String cardName);
+
+    /**
+     * Runs an action on the Swing event dispatch thread once the image of a
+     * card has been loaded, so that a component shown without it can be
+     * refreshed. The action is not run if the image does not exist.
+     *
+     * @param cardName The unique identifier name of the card.
+     * @param action   The action to run.
+     */
+    void onImageLoaded(String cardName, Runnable action);
+
+    /**
+     * Starts loading, in the background, the images of every card used by a
+     * game mode, so they are ready when the game scene first shows them.
+     * Implementations may pack them into a single atlas image.
+     *
+     * @param gameMode The game mode about to be played.
      */
-    ImageIcon getTransparentImage(String cardName);
+    void preload(GameMode gameMode);
 }
@@ -1,74 +1,106 @@
 package uno.view.utils.impl;
 
+import uno.model.cards.behaviors.api.CardSideBehavior;
+import uno.model.cards.deck.impl.CardCatalogImpl;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.GameMode;
 import uno.view.utils.api.CardImageLoader;
 
+import javax.imageio.ImageIO;
+import javax.swing.Icon;
 import javax.swing.ImageIcon;
-import java.awt.AlphaComposite;
+import javax.swing.SwingUtilities;
 import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
 import java.awt.Image;
+import java.awt.Transparency;
 import java.awt.image.BufferedImage;
-import java.util.Arrays;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.HashMap;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
 
 /**
  * Concrete implementation of CardImageLoader.
- * Handles loading images from resources, scaling them to specific dimensions,
- * and caching the results to improve performance.
+ * Images are loaded on demand and cached in memory. Decoding and scaling run
+ * on a small shared pool of daemon threads and never on the caller's thread:
+ * a request for an image that is still loading returns null, and
+ * {@link #onImageLoaded(String, Runnable)} tells the caller when to ask again.
+ * {@link #preload(GameMode)} packs every card face of the mode, pre-scaled,
+ * into a single compatible atlas image, and the icons of those cards paint
+ * their region of the atlas. The semi-transparent icons apply their alpha
+ * while painting, so no second copy of any image is kept.
+ * Scaled images are also stored on disk under the user's home directory, so
+ * later launches read them back at the target size without decoding and
+ * scaling the original resources again.
  */
 public class CardImageLoaderImpl implements CardImageLoader {
 
-    /**
-     * Static list of all expected image filenames in the resource folder.
-     */
-    private static final List<String> CARD_NAMES = Arrays.asList(
-
-            "RED_ZERO", "RED_ONE", "RED_TWO", "RED_THREE", "RED_FOUR", "RED_FIVE", "RED_SIX",
-            "RED_SEVEN", "RED_EIGHT", "RED_NINE",
-            "RED_SKIP", "RED_REVERSE", "RED_DRAW_TWO", "RED_FLIP", "RED_DRAW_ONE",
-            "GREEN_ZERO", "GREEN_ONE", "GREEN_TWO", "GREEN_THREE", "GREEN_FOUR", "GREEN_FIVE", "GREEN_SIX",
-            "GREEN_SEVEN", "GREEN_EIGHT", "GREEN_NINE",
-            "GREEN_SKIP", "GREEN_REVERSE", "GREEN_DRAW_TWO", "GREEN_FLIP", "GREEN_DRAW_ONE",
-            "BLUE_ZERO", "BLUE_ONE", "BLUE_TWO", "BLUE_THREE", "BLUE_FOUR", "BLUE_FIVE", "BLUE_SIX",
-            "BLUE_SEVEN", "BLUE_EIGHT", "BLUE_NINE",
-            "BLUE_SKIP", "BLUE_REVERSE", "BLUE_DRAW_TWO", "BLUE_FLIP", "BLUE_DRAW_ONE",
-            "YELLOW_ZERO", "YELLOW_ONE", "YELLOW_TWO", "YELLOW_THREE", "YELLOW_FOUR", "YELLOW_FIVE",
-            "YELLOW_SIX", "YELLOW_SEVEN", "YELLOW_EIGHT", "YELLOW_NINE",
-            "YELLOW_SKIP", "YELLOW_REVERSE", "YELLOW_DRAW_TWO", "YELLOW_FLIP", "YELLOW_DRAW_ONE",
-
-            "PINK_ONE", "PINK_TWO", "PINK_THREE", "PINK_FOUR", "PINK_FIVE", "PINK_SIX",
-            "PINK_SEVEN", "PINK_EIGHT", "PINK_NINE",
-            "PINK_REVERSE", "PINK_FLIP", "PINK_DRAW_FIVE", "PINK_SKIP_EVERYONE",
-            "TEAL_ONE", "TEAL_TWO", "TEAL_THREE", "TEAL_FOUR", "TEAL_FIVE", "TEAL_SIX",
-            "TEAL_SEVEN", "TEAL_EIGHT", "TEAL_NINE",
-            "TEAL_REVERSE", "TEAL_FLIP", "TEAL_DRAW_FIVE", "TEAL_SKIP_EVERYONE",
-            "ORANGE_ONE", "ORANGE_TWO", "ORANGE_THREE", "ORANGE_FOUR", "ORANGE_FIVE", "ORANGE_SIX",
-            "ORANGE_SEVEN", "ORANGE_EIGHT", "ORANGE_NINE",
-            "ORANGE_REVERSE", "ORANGE_FLIP", "ORANGE_DRAW_FIVE", "ORANGE_SKIP_EVERYONE",
-            "PURPLE_ONE", "PURPLE_TWO", "PURPLE_THREE", "PURPLE_FOUR", "PURPLE_FIVE", "PURPLE_SIX",
-            "PURPLE_SEVEN", "PURPLE_EIGHT", "PURPLE_NINE",
-            "PURPLE_REVERSE", "PURPLE_FLIP", "PURPLE_DRAW_FIVE", "PURPLE_SKIP_EVERYONE",
-
-            "WILD_WILD", "WILD_WILD_DARK", "WILD_WILD_DRAW_FOUR", "WILD_WILD_DRAW_TWO", "WILD_WILD_DRAW_COLOR",
-            "WILD_WILD_FORCED_SWAP", "WILD_WILD_ALLWILD", "WILD_WILD_DRAW_FOUR_ALLWILD",
-            "WILD_WILD_DRAW_TWO_ALLWILD", "WILD_WILD_TARGETED_DRAW_TWO", "WILD_WILD_REVERSE",
-            "WILD_WILD_SKIP", "WILD_WILD_SKIP_TWO",
-
-            "CARD_BACK");
-
     private static final java.util.logging.Logger LOGGER = java.util.logging.Logger
             .getLogger(CardImageLoaderImpl.class.getName());
 
-    private final Map<String, ImageIcon> cardImageCache;
-    private final Map<String, ImageIcon> transparentImageCache;
+    private static final String CARD_BACK = "CARD_BACK";
+    private static final float TRANSPARENT_ALPHA = 0.5f;
+    private static final int MAX_DECODE_THREADS = 4;
+    private static final String CACHE_FORMAT = "png";
+    private static final String CACHE_VERSION = "v1";
+
+    private static final ExecutorService DECODE_POOL = Executors.newFixedThreadPool(
+            Math.max(1, Math.min(MAX_DECODE_THREADS, Runtime.getRuntime().availableProcessors())),
+            task -> {
+                final Thread thread = new Thread(task, "uno-card-images");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final Map<String, CompletableFuture<Optional<CardIcons>>> loads;
     private final int cardWidth;
     private final int cardHeight;
+    private final Optional<Path> diskCache;
+    private volatile CompletableFuture<Map<String, CardIcons>> atlas;
+
+    /**
+     * Both versions of a loaded card image.
+     *
+     * @param image       the icon of the card.
+     * @param transparent the semi-transparent icon of the card, painting the
+     *                    same pixels.
+     */
+    private record CardIcons(CardRegionIcon image, CardRegionIcon transparent) {
+
+        /**
+         * Creates the icons of a region of an image.
+         *
+         * @param source the image.
+         * @param x      left edge of the region.
+         * @param y      top edge of the region.
+         * @param width  width of the region.
+         * @param height height of the region.
+         * @return the opaque and transparent icons of the region.
+         */
+        static CardIcons of(final BufferedImage source, final int x, final int y, final int width,
+                final int height) {
+            final CardRegionIcon image = new CardRegionIcon(source, x, y, width, height, 1.0f);
+            return new CardIcons(image, image.withAlpha(TRANSPARENT_ALPHA));
+        }
+    }
 
     /**
-     * Constructs and initializes the loader.
-     * All images are pre-loaded into memory upon creation.
+     * Constructs the loader. No image is loaded until it is requested or
+     * preloaded.
      *
      * @param cardWidth  Desired width for the card icons.
      * @param cardHeight Desired height for the card icons.
@@ -76,78 +108,246 @@ public class CardImageLoaderImpl implements CardImageLoader {
     public CardImageLoaderImpl(final int cardWidth, final int cardHeight) {
         this.cardWidth = cardWidth;
         this.cardHeight = cardHeight;
-        this.cardImageCache = new HashMap<>();
-        this.transparentImageCache = new HashMap<>();
-        loadAllImages();
+        this.loads = new ConcurrentHashMap<>();
+        this.diskCache = createDiskCache(cardWidth, cardHeight);
+        this.atlas = CompletableFuture.completedFuture(Map.of());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Icon getImage(final String cardName) {
+        return icons(cardName).map(CardIcons::image).orElse(null);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public ImageIcon getImage(final String cardName) {
-        return cardImageCache.get(cardName);
+    public Icon getTransparentImage(final String cardName) {
+        return icons(cardName).map(CardIcons::transparent).orElse(null);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public ImageIcon getTransparentImage(final String cardName) {
-        return transparentImageCache.get(cardName);
+    public void onImageLoaded(final String cardName, final Runnable action) {
+        load(cardName).thenAcceptAsync(icons -> {
+            if (icons.isPresent()) {
+                action.run();
+            }
+        }, SwingUtilities::invokeLater);
     }
 
     /**
-     * Iterates through the static list and loads each image file.
+     * {@inheritDoc}
+     * The image keys are derived from both sides of the cards in the mode's
+     * catalog, plus the card back; their images are loaded in parallel and
+     * then packed into the atlas.
      */
-    private void loadAllImages() {
-        for (final String cardName : CARD_NAMES) {
-            loadImage(cardName);
+    @Override
+    public void preload(final GameMode gameMode) {
+        final Set<String> cardNames = new LinkedHashSet<>();
+        cardNames.add(CARD_BACK);
+        for (final Card card : CardCatalogImpl.forMode(gameMode).getCards()) {
+            addImageKey(cardNames, card.getSide(false));
+            addImageKey(cardNames, card.getSide(true));
         }
+
+        final Map<String, CompletableFuture<Optional<BufferedImage>>> scaled = new LinkedHashMap<>();
+        for (final String cardName : cardNames) {
+            scaled.put(cardName, CompletableFuture.supplyAsync(() -> loadScaled(cardName), DECODE_POOL));
+        }
+        atlas = CompletableFuture.allOf(scaled.values().toArray(CompletableFuture[]::new))
+                .thenApply(done -> packAtlas(scaled));
+    }
+
+    /**
+     * Packs the loaded card images into a grid on a single compatible image.
+     *
+     * @param scaled the loads of the images, all completed.
+     * @return the icons of each packed card, painting from the atlas.
+     */
+    private Map<String, CardIcons> packAtlas(final Map<String, CompletableFuture<Optional<BufferedImage>>> scaled) {
+        final Map<String, BufferedImage> images = new LinkedHashMap<>();
+        scaled.forEach((cardName, load) -> load.join().ifPresent(image -> images.put(cardName, image)));
+        if (images.isEmpty()) {
+            return Map.of();
+        }
+
+        final int columns = (int) Math.ceil(Math.sqrt(images.size()));
+        final int rows = (images.size() + columns - 1) / columns;
+        final BufferedImage atlasImage = createCompatibleImage(columns * cardWidth, rows * cardHeight);
+        final Graphics2D g2d = atlasImage.createGraphics();
+        final Map<String, CardIcons> packed = new HashMap<>();
+        int index = 0;
+        for (final Map.Entry<String, BufferedImage> entry : images.entrySet()) {
+            final int x = index % columns * cardWidth;
+            final int y = index / columns * cardHeight;
+            g2d.drawImage(entry.getValue(), x, y, null);
+            packed.put(entry.getKey(), CardIcons.of(atlasImage, x, y, cardWidth, cardHeight));
+            index++;
+        }
+        g2d.dispose();
+        return Map.copyOf(packed);
     }
 
     /**
-     * Helper method to load, scale, and store a single image.
-     * 
+     * Creates a translucent image in the format of the default screen, so it
+     * can be drawn without conversion; a plain ARGB image is used when there
+     * is no screen.
+     *
+     * @param width  the width of the image.
+     * @param height the height of the image.
+     * @return the new image.
+     */
+    private static BufferedImage createCompatibleImage(final int width, final int height) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                .getDefaultConfiguration().createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+    }
+
+    /**
+     * Returns the icons of a card, from the atlas when the card is packed in
+     * it. Until the atlas is complete, the card is loaded on its own.
+     *
      * @param cardName The unique identifier name of the card.
+     * @return the icons, or empty if the resource does not exist or is still
+     *         loading.
      */
-    private void loadImage(final String cardName) {
-        final String path = "/images/cards/" + cardName + ".png";
+    private Optional<CardIcons> icons(final String cardName) {
+        final CardIcons packed = atlas.getNow(Map.of()).get(cardName);
+        if (packed != null) {
+            return Optional.of(packed);
+        }
+        return load(cardName).getNow(Optional.empty());
+    }
 
-        Optional.ofNullable(CardImageLoaderImpl.class.getResource(path))
-                .ifPresentOrElse(
-                        resource -> {
-                            final ImageIcon icon = new ImageIcon(resource);
-                            final Image scaledImg = icon.getImage().getScaledInstance(cardWidth, cardHeight,
-                                    Image.SCALE_SMOOTH);
-                            final ImageIcon scaledIcon = new ImageIcon(scaledImg);
+    /**
+     * Adds the image key of a card side, unless it is the plain card back.
+     *
+     * @param cardNames the keys collected so far.
+     * @param side      the card side.
+     */
+    private static void addImageKey(final Set<String> cardNames, final CardSideBehavior side) {
+        if (!side.isBack()) {
+            cardNames.add(side.getColor().name() + "_" + side.getValue().name());
+        }
+    }
 
-                            cardImageCache.put(cardName, scaledIcon);
-                            transparentImageCache.put(cardName, createTransparentIcon(scaledIcon, 0.5f));
-                        },
-                        () -> LOGGER.warning("Risorsa non trovata: " + path));
+    /**
+     * Returns the pending or completed load of an image, starting it on the
+     * decode pool the first time the image is requested.
+     *
+     * @param cardName The unique identifier name of the card.
+     * @return the load of the image, empty if the resource does not exist.
+     */
+    private CompletableFuture<Optional<CardIcons>> load(final String cardName) {
+        return loads.computeIfAbsent(cardName,
+                name -> CompletableFuture.supplyAsync(() -> loadScaled(name)
+                        .map(image -> CardIcons.of(image, 0, 0, cardWidth, cardHeight)), DECODE_POOL));
     }
 
     /**
-     * Creates a semi-transparent copy of an existing ImageIcon.
-     * 
-     * @param original The original ImageIcon.
-     * @param alpha    The desired transparency level (0.0f to 1.0f).
-     * @return A new ImageIcon with the specified transparency.
+     * Loads a single image at the target size, from the disk cache when
+     * possible.
+     *
+     * @param cardName The unique identifier name of the card.
+     * @return the scaled image, or empty if the resource does not exist.
      */
-    private ImageIcon createTransparentIcon(final ImageIcon original, final float alpha) {
-        final Image originalImage = original.getImage();
-        final int width = original.getIconWidth();
-        final int height = original.getIconHeight();
+    private Optional<BufferedImage> loadScaled(final String cardName) {
+        final Optional<Path> cached = diskCache.map(dir -> dir.resolve(cardName + "." + CACHE_FORMAT));
+        final Optional<BufferedImage> fromCache = cached.flatMap(this::readCached);
+        if (fromCache.isPresent()) {
+            return fromCache;
+        }
 
-        final BufferedImage newImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-        final Graphics2D g2d = newImage.createGraphics();
+        final String path = "/images/cards/" + cardName + ".png";
+        final Optional<URL> resource = Optional.ofNullable(CardImageLoaderImpl.class.getResource(path));
+        if (resource.isEmpty()) {
+            LOGGER.warning("Risorsa non trovata: " + path);
+            return Optional.empty();
+        }
 
-        // Set opacity
-        g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
-        g2d.drawImage(originalImage, 0, 0, null);
+        final BufferedImage scaled = scale(new ImageIcon(resource.get()).getImage());
+        cached.ifPresent(file -> writeCached(file, scaled));
+        return Optional.of(scaled);
+    }
+
+    /**
+     * Scales an image to the card size with the smooth scaling algorithm.
+     *
+     * @param original the decoded image.
+     * @return the scaled image.
+     */
+    private BufferedImage scale(final Image original) {
+        final Image scaledImg = original.getScaledInstance(cardWidth, cardHeight, Image.SCALE_SMOOTH);
+        final BufferedImage scaled = new BufferedImage(cardWidth, cardHeight, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D g2d = scaled.createGraphics();
+        g2d.drawImage(new ImageIcon(scaledImg).getImage(), 0, 0, null);
         g2d.dispose();
+        return scaled;
+    }
+
+    /**
+     * Reads a scaled image from the disk cache.
+     *
+     * @param file the cache file.
+     * @return the image, or empty if it is missing, unreadable or of another size.
+     */
+    private Optional<BufferedImage> readCached(final Path file) {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(ImageIO.read(file.toFile()))
+                    .filter(image -> image.getWidth() == cardWidth && image.getHeight() == cardHeight);
+        } catch (final IOException e) {
+            LOGGER.log(Level.FINE, "Unreadable cached image: " + file, e);
+            return Optional.empty();
+        }
+    }
 
-        return new ImageIcon(newImage);
+    /**
+     * Writes a scaled image to the disk cache. The image is written to a
+     * temporary file first, so a concurrent reader never sees a partial file.
+     *
+     * @param file   the cache file.
+     * @param scaled the image at the card size.
+     */
+    private void writeCached(final Path file, final BufferedImage scaled) {
+        try {
+            final Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try {
+                ImageIO.write(scaled, CACHE_FORMAT, temp.toFile());
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (final IOException e) {
+            LOGGER.log(Level.FINE, "Impossible to cache image: " + file, e);
+        }
+    }
+
+    /**
+     * Creates the disk cache directory for the given card size.
+     *
+     * @param width  the card width.
+     * @param height the card height.
+     * @return the directory, or empty if it cannot be created.
+     */
+    private static Optional<Path> createDiskCache(final int width, final int height) {
+        final Path dir = Paths.get(System.getProperty("user.home"), ".uno", "cache", "cards", CACHE_VERSION,
+                width + "x" + height);
+        try {
+            return Optional.of(Files.createDirectories(dir));
+        } catch (final IOException e) {
+            LOGGER.warning("Impossible to create image cache directory: " + dir);
+            return Optional.empty();
+        }
     }
 }
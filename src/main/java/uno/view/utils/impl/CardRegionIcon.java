@@ -0,0 +1,82 @@
+package uno.view.utils.impl;
+
+import javax.swing.Icon;
+import java.awt.AlphaComposite;
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * Icon that paints a rectangular region of a shared image, such as one card
+ * of the card atlas. Transparency is applied while painting, so the opaque
+ * and the translucent icon of a card share the same pixels.
+ */
+final class CardRegionIcon implements Icon {
+
+    private final BufferedImage source;
+    private final int x;
+    private final int y;
+    private final int width;
+    private final int height;
+    private final float alpha;
+
+    /**
+     * Constructor for CardRegionIcon.
+     *
+     * @param source the image containing the region.
+     * @param x      left edge of the region in the source image.
+     * @param y      top edge of the region in the source image.
+     * @param width  width of the region.
+     * @param height height of the region.
+     * @param alpha  opacity applied when painting (0.0f to 1.0f).
+     */
+    CardRegionIcon(final BufferedImage source, final int x, final int y, final int width, final int height,
+            final float alpha) {
+        this.source = source;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        this.alpha = alpha;
+    }
+
+    /**
+     * Returns an icon painting the same region with another opacity.
+     *
+     * @param newAlpha the opacity of the new icon.
+     * @return the new icon, sharing the source image.
+     */
+    CardRegionIcon withAlpha(final float newAlpha) {
+        return new CardRegionIcon(source, x, y, width, height, newAlpha);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void paintIcon(final Component c, final Graphics g, final int px, final int py) {
+        final Graphics2D g2d = (Graphics2D) g.create();
+        if (alpha < 1.0f) {
+            g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
+        }
+        g2d.drawImage(source, px, py, px + width, py + height, x, y, x + width, y + height, null);
+        g2d.dispose();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getIconWidth() {
+        return width;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getIconHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,212 @@
+package uno.controller.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import uno.controller.api.AITurnScheduler;
+import uno.model.cards.deck.impl.StandardDeck;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.Game;
+import uno.model.game.api.GameRules;
+import uno.model.game.impl.DiscardPileImpl;
+import uno.model.game.impl.GameImpl;
+import uno.model.game.impl.GameRulesImpl;
+import uno.model.game.impl.GameSetupImpl;
+import uno.model.game.impl.TurnManagerImpl;
+import uno.model.players.impl.AIClassic;
+import uno.model.players.impl.AbstractAIPlayer;
+import uno.model.players.impl.AbstractPlayer;
+import uno.model.utils.impl.TestLogger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for the {@link AITurnSchedulerImpl} class. The model executor
+ * queues the actions, so that each test decides when they run on its own
+ * thread, as the Swing event dispatch thread would.
+ */
+class AITurnSchedulerTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+    private static final Duration PACING = Duration.ofMillis(100);
+
+    private final BlockingQueue<Runnable> actions = new LinkedBlockingQueue<>();
+    private List<AbstractPlayer> players;
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        players = new ArrayList<>();
+        players.add(new AIClassic("P1"));
+        players.add(new FailingAI("P2"));
+        players.add(new AIClassic("P3"));
+        createGame();
+    }
+
+    @Test
+    void testAppliesThePlannedMove() throws InterruptedException {
+        final AITurnScheduler scheduler = new AITurnSchedulerImpl(actions::add, Duration.ZERO);
+        final AbstractAIPlayer player = currentAI();
+
+        scheduler.schedule(game, player);
+        nextAction().run();
+
+        assertNotEquals(player, game.getCurrentPlayer(), "The AI must have played its turn.");
+    }
+
+    @Test
+    void testCancelledTurnIsDropped() throws InterruptedException {
+        final AITurnScheduler scheduler = new AITurnSchedulerImpl(actions::add, Duration.ZERO);
+        final AbstractAIPlayer player = currentAI();
+        final int handSize = player.getHandSize();
+
+        scheduler.schedule(game, player);
+        scheduler.cancel();
+        nextAction().run();
+
+        assertEquals(player, game.getCurrentPlayer());
+        assertEquals(handSize, player.getHandSize());
+    }
+
+    @Test
+    void testRescheduledTurnReplacesThePendingOne() throws InterruptedException {
+        final AITurnScheduler scheduler = new AITurnSchedulerImpl(actions::add, Duration.ZERO);
+        final AbstractAIPlayer player = currentAI();
+
+        scheduler.schedule(game, player);
+        final Runnable stale = nextAction();
+        scheduler.schedule(game, player);
+        stale.run();
+        assertEquals(player, game.getCurrentPlayer(), "The replaced turn must not be applied.");
+
+        nextAction().run();
+        assertNotEquals(player, game.getCurrentPlayer());
+    }
+
+    @Test
+    void testTurnIsDroppedWhenTheGameMovedOn() throws InterruptedException {
+        final AITurnScheduler scheduler = new AITurnSchedulerImpl(actions::add, Duration.ZERO);
+        final AbstractAIPlayer player = currentAI();
+
+        scheduler.schedule(game, player);
+        final Runnable action = nextAction();
+        game.getTurnManager().advanceTurn(game);
+        final AbstractPlayer next = game.getCurrentPlayer();
+        final int handSize = player.getHandSize();
+        action.run();
+
+        assertEquals(next, game.getCurrentPlayer());
+        assertEquals(handSize, player.getHandSize());
+    }
+
+    @Test
+    void testFailedPlanningFallsBackToTheModelThread() throws InterruptedException {
+        final AITurnScheduler scheduler = new AITurnSchedulerImpl(actions::add, Duration.ZERO);
+        game.getTurnManager().setCurrentPlayer(players.get(1));
+
+        scheduler.schedule(game, (AbstractAIPlayer) players.get(1));
+        nextAction().run();
+
+        assertNotEquals(players.get(1), game.getCurrentPlayer(), "The AI must choose its move again and play.");
+    }
+
+    @Test
+    void testPacingDelaysTheAction() throws InterruptedException {
+        final AITurnScheduler scheduler = new AITurnSchedulerImpl(actions::add, PACING);
+        final long start = System.nanoTime();
+
+        scheduler.schedule(game, currentAI());
+        nextAction();
+
+        assertTrue(System.nanoTime() - start >= PACING.toNanos(), "The action must wait for the pacing delay.");
+        assertThrows(IllegalArgumentException.class,
+                () -> new AITurnSchedulerImpl(actions::add, Duration.ofMillis(-1)));
+    }
+
+    @Test
+    void testInputWaitsForTheMoveInFlight() throws InterruptedException {
+        final AITurnScheduler scheduler = new AITurnSchedulerImpl(actions::add, Duration.ZERO);
+        final AbstractAIPlayer player = currentAI();
+        final List<AbstractPlayer> seenBy = new ArrayList<>();
+
+        scheduler.runWhenIdle(() -> seenBy.add(game.getCurrentPlayer()));
+        assertEquals(List.of(player), seenBy, "Without a move in flight the input runs at once.");
+
+        scheduler.schedule(game, player);
+        scheduler.runWhenIdle(() -> seenBy.add(game.getCurrentPlayer()));
+        assertEquals(1, seenBy.size(), "The input must wait for the move in flight.");
+
+        nextAction().run();
+        assertEquals(2, seenBy.size());
+        assertNotEquals(player, seenBy.get(1), "The input runs after the move was applied.");
+    }
+
+    /**
+     * Creates a running game among the players, with a non-failing AI to move.
+     */
+    private void createGame() {
+        final GameRules rules = new GameRulesImpl(false, false, false, false);
+        final TestLogger logger = new TestLogger();
+        final StandardDeck deck = new StandardDeck(logger);
+        game = new GameImpl(deck, players, new TurnManagerImpl(players, rules), new DiscardPileImpl(), "CLASSIC",
+                logger, rules);
+        new GameSetupImpl(game, deck, game.getDiscardPile(), players).initializeGame(false);
+        game.getTurnManager().setCurrentPlayer(players.get(0));
+    }
+
+    /**
+     * Gets the AI player whose turn it is.
+     *
+     * @return the current player.
+     */
+    private AbstractAIPlayer currentAI() {
+        return (AbstractAIPlayer) game.getCurrentPlayer();
+    }
+
+    /**
+     * Waits for the scheduler to hand an action to the model executor.
+     *
+     * @return the action.
+     * @throws InterruptedException if the test is interrupted.
+     */
+    private Runnable nextAction() throws InterruptedException {
+        final Runnable action = actions.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertNotNull(action, "The scheduler must hand over an action.");
+        return action;
+    }
+
+    /**
+     * AI player whose background move computation always fails.
+     */
+    private static final class FailingAI extends AIClassic {
+
+        /**
+         * Creates the player.
+         *
+         * @param name the name of the player.
+         */
+        FailingAI(final String name) {
+            super(name);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Optional<Card> planMove(final Game game) {
+            throw new IllegalStateException("Planning failed.");
+        }
+    }
+}
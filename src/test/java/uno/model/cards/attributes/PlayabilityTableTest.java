@@ -0,0 +1,46 @@
+package uno.model.cards.attributes;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the {@link PlayabilityTable} class.
+ */
+class PlayabilityTableTest {
+
+    @Test
+    void testMatchesTheRuleForEveryFaceAndSituation() {
+        for (final CardColor targetColor : CardColor.values()) {
+            for (final CardValue topValue : CardValue.values()) {
+                for (final CardColor color : CardColor.values()) {
+                    for (final CardValue value : CardValue.values()) {
+                        final boolean expected = color == CardColor.WILD || color == targetColor
+                                || value == topValue;
+                        assertEquals(expected, PlayabilityTable.isPlayable(PlayabilityTable.face(color, value),
+                                targetColor, topValue), color + " " + value + " on " + targetColor + " " + topValue);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testAnyPlayableTestsASetOfFaces() {
+        final long[] faces = new long[PlayabilityTable.WORDS + 1];
+        assertFalse(PlayabilityTable.anyPlayable(faces, 1, CardColor.RED, CardValue.FIVE));
+
+        final int blueSeven = PlayabilityTable.face(CardColor.BLUE, CardValue.SEVEN);
+        faces[1 + blueSeven / Long.SIZE] |= 1L << blueSeven;
+        assertFalse(PlayabilityTable.anyPlayable(faces, 1, CardColor.RED, CardValue.FIVE));
+        assertTrue(PlayabilityTable.anyPlayable(faces, 1, CardColor.BLUE, CardValue.FIVE));
+        assertTrue(PlayabilityTable.anyPlayable(faces, 1, CardColor.RED, CardValue.SEVEN));
+        assertFalse(PlayabilityTable.anyPlayable(faces, 0, CardColor.BLUE, CardValue.SEVEN));
+
+        final int wild = PlayabilityTable.face(CardColor.WILD, CardValue.WILD_DRAW_FOUR);
+        faces[1 + wild / Long.SIZE] |= 1L << wild;
+        assertTrue(PlayabilityTable.anyPlayable(faces, 1, CardColor.TEAL, CardValue.FLIP));
+    }
+}
@@ -0,0 +1,74 @@
+package uno.model.cards.deck.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.GameMode;
+import uno.model.utils.impl.TestLogger;
+
+/**
+ * Test class for {@link CardCatalogImpl}.
+ */
+class CardCatalogTest {
+
+    private static final int STANDARD_SIZE = 108;
+    private static final int FLIP_SIZE = 112;
+    private static final int ALL_WILD_SIZE = 112;
+
+    @Test
+    void testSizes() {
+        assertEquals(STANDARD_SIZE, CardCatalogImpl.forMode(GameMode.STANDARD).size());
+        assertEquals(FLIP_SIZE, CardCatalogImpl.forMode(GameMode.FLIP).size());
+        assertEquals(ALL_WILD_SIZE, CardCatalogImpl.forMode(GameMode.ALL_WILD).size());
+    }
+
+    @Test
+    void testIdsAreDense() {
+        for (final GameMode mode : GameMode.values()) {
+            final CardCatalog catalog = CardCatalogImpl.forMode(mode);
+            assertSame(mode, catalog.getMode());
+            for (int id = 0; id < catalog.size(); id++) {
+                assertEquals(id, catalog.getCard(id).getId());
+                assertSame(catalog.getCard(id), catalog.getCards().get(id));
+            }
+            assertThrows(IndexOutOfBoundsException.class, () -> catalog.getCard(catalog.size()));
+        }
+    }
+
+    @Test
+    void testCatalogIsShared() {
+        assertSame(CardCatalogImpl.forMode(GameMode.FLIP), CardCatalogImpl.forMode(GameMode.FLIP));
+        assertThrows(UnsupportedOperationException.class,
+                () -> CardCatalogImpl.forMode(GameMode.STANDARD).getCards().clear());
+    }
+
+    @Test
+    void testDecksShareCatalogCards() {
+        final CardCatalog catalog = CardCatalogImpl.forMode(GameMode.STANDARD);
+        final Set<Card> catalogCards = Collections.newSetFromMap(new IdentityHashMap<>());
+        catalogCards.addAll(catalog.getCards());
+
+        final StandardDeck deck = new StandardDeck(new TestLogger());
+        while (!deck.isEmpty()) {
+            assertTrue(catalogCards.remove(deck.draw().get()), "Every deck card must come from the catalog once");
+        }
+        assertTrue(catalogCards.isEmpty());
+    }
+
+    @Test
+    void testCopiesShareBehaviors() {
+        final CardCatalog catalog = CardCatalogImpl.forMode(GameMode.STANDARD);
+        // Cards 1 and 2 are the two red ONE cards, right after the red ZERO.
+        assertSame(catalog.getCard(1).getSide(false), catalog.getCard(2).getSide(false));
+    }
+}
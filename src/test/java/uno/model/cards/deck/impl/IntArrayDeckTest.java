@@ -0,0 +1,153 @@
+package uno.model.cards.deck.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.attributes.CardValue;
+import uno.model.cards.behaviors.impl.BackSideBehavior;
+import uno.model.cards.behaviors.impl.NumericBehavior;
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.cards.types.api.Card;
+import uno.model.cards.types.impl.DoubleSidedCard;
+import uno.model.game.api.GameMode;
+import uno.model.utils.api.GameLogger;
+import uno.model.utils.impl.TestLogger;
+
+/**
+ * Test class for {@link IntArrayDeck}.
+ */
+class IntArrayDeckTest {
+
+    private static final long SEED = 7L;
+    private static final int REFILL_SIZE = 5;
+
+    private final GameLogger logger = new TestLogger();
+    private CardCatalog catalog;
+    private IntArrayDeck deck;
+
+    @BeforeEach
+    void setUp() {
+        catalog = CardCatalogImpl.forMode(GameMode.FLIP);
+        deck = new IntArrayDeck(catalog, logger, new SplittableRandom(SEED));
+    }
+
+    @Test
+    void testSameOrderAsListDeck() {
+        final FlipDeck listDeck = new FlipDeck(logger, new SplittableRandom(SEED));
+
+        assertEquals(listDeck.size(), deck.size());
+        while (!deck.isEmpty()) {
+            assertSame(listDeck.draw().get(), deck.draw().get());
+        }
+        assertTrue(listDeck.isEmpty());
+        assertEquals(Optional.empty(), deck.draw());
+        assertEquals(Optional.empty(), deck.peek());
+    }
+
+    @Test
+    void testPeekAndDrawReuseOptionals() {
+        final Optional<Card> peeked = deck.peek();
+        final Optional<Card> drawn = deck.draw();
+
+        assertSame(peeked, drawn);
+        deck.addCard(drawn.get());
+        assertSame(drawn, deck.draw());
+    }
+
+    @Test
+    void testRefill() {
+        final List<Card> drawn = new ArrayList<>();
+        final int[] ids = new int[REFILL_SIZE];
+        for (int i = 0; i < REFILL_SIZE; i++) {
+            drawn.add(deck.draw().get());
+            ids[i] = drawn.get(i).getId();
+        }
+        final int remaining = deck.size();
+
+        deck.refill(drawn);
+        assertEquals(remaining + REFILL_SIZE, deck.size());
+
+        while (!deck.isEmpty()) {
+            deck.draw();
+        }
+        deck.refillIds(ids, 0, REFILL_SIZE);
+        assertEquals(REFILL_SIZE, deck.size());
+        assertSame(drawn.get(REFILL_SIZE - 1), deck.draw().get());
+    }
+
+    @Test
+    void testDrawManyMatchesListDeck() {
+        final FlipDeck listDeck = new FlipDeck(logger, new SplittableRandom(SEED));
+
+        assertEquals(listDeck.drawMany(REFILL_SIZE), deck.drawMany(REFILL_SIZE));
+        assertEquals(listDeck.drawMany(0), deck.drawMany(0));
+        final List<Card> rest = deck.drawMany(deck.size() + REFILL_SIZE);
+        assertEquals(listDeck.drawMany(listDeck.size() + REFILL_SIZE), rest);
+        assertTrue(deck.isEmpty());
+        assertEquals(List.of(), deck.drawMany(1));
+        assertThrows(IllegalArgumentException.class, () -> deck.drawMany(-1));
+        assertThrows(IllegalArgumentException.class, () -> listDeck.drawMany(-1));
+    }
+
+    @Test
+    void testColorIndexMatchesListDeck() {
+        final FlipDeck listDeck = new FlipDeck(logger, new SplittableRandom(SEED));
+        boolean darkSide = false;
+
+        while (!deck.isEmpty()) {
+            for (final CardColor color : CardColor.values()) {
+                assertEquals(listDeck.countColor(color, darkSide), deck.countColor(color, darkSide));
+                assertEquals(listDeck.countUntilColor(color, darkSide), deck.countUntilColor(color, darkSide));
+            }
+            final CardColor target = deck.peek().get().getSide(!darkSide).getColor();
+            final List<Card> run = deck.drawUntilColor(target, darkSide);
+            assertEquals(listDeck.drawUntilColor(target, darkSide), run);
+            if (run.size() > 1) {
+                deck.addCard(run.get(0));
+                listDeck.addCard(run.get(0));
+            }
+            darkSide = !darkSide;
+        }
+        assertTrue(listDeck.isEmpty());
+    }
+
+    @Test
+    void testColorIndexFollowsShuffleAndRefill() {
+        final List<Card> drawn = deck.drawUntilColor(CardColor.RED, false);
+        deck.refill(drawn);
+        deck.shuffle();
+
+        int red = 0;
+        for (final Card card : deck.getSnapshot()) {
+            if (card.getSide(false).getColor() == CardColor.RED) {
+                red++;
+            }
+        }
+        assertEquals(red, deck.countColor(CardColor.RED, false));
+        final List<Card> run = deck.drawUntilColor(CardColor.RED, false);
+        assertEquals(CardColor.RED, run.get(run.size() - 1).getSide(false).getColor());
+        assertEquals(red - 1, deck.countColor(CardColor.RED, false));
+    }
+
+    @Test
+    void testRejectsForeignCards() {
+        final Card foreign = new DoubleSidedCard(new NumericBehavior(CardColor.RED, CardValue.ONE),
+                BackSideBehavior.getInstance());
+        final Card otherMode = CardCatalogImpl.forMode(GameMode.STANDARD).getCard(0);
+
+        assertThrows(IllegalArgumentException.class, () -> deck.addCard(foreign));
+        assertThrows(IllegalArgumentException.class, () -> deck.refill(List.of(otherMode)));
+        assertThrows(IllegalArgumentException.class, () -> deck.refillIds(new int[] {catalog.size()}, 0, 1));
+    }
+}
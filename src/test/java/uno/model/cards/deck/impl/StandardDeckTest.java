@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.SplittableRandom;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import uno.model.cards.attributes.CardColor;
@@ -37,6 +38,7 @@ class StandardDeckTest {
     private static final int WILD_COUNT = 4;
     private static final int WILD_DRAW_FOUR_COUNT = 4;
     private static final int SAMPLE_SIZE = 10;
+    private static final long SEED = 42L;
     private static final int REFILL_SIZE = 5;
 
     private Deck<Card> deck;
@@ -134,6 +136,17 @@ class StandardDeckTest {
                 "Due mazzi mescolati non dovrebbero avere la stessa identica sequenza di carte.");
     }
 
+    @Test
+    void testSameSeedSameOrder() {
+        final StandardDeck deck1 = new StandardDeck(logger, new SplittableRandom(SEED));
+        final StandardDeck deck2 = new StandardDeck(logger, new SplittableRandom(SEED));
+
+        while (!deck1.isEmpty()) {
+            assertEquals(deck1.draw().toString(), deck2.draw().toString(),
+                    "Due mazzi con lo stesso seed devono avere la stessa sequenza di carte.");
+        }
+    }
+
     @Test
     void testRefill() {
         while (!deck.isEmpty()) {
@@ -126,6 +126,14 @@ class DoubleSidedCardTest {
         public void chosenPlayer(final AbstractPlayer player) {
         }
 
+        @Override
+        public void addPlayer(final AbstractPlayer player) {
+        }
+
+        @Override
+        public void eliminatePlayer(final AbstractPlayer player) {
+        }
+
         @Override
         public void skipPlayers(final int n) {
         }
@@ -23,6 +23,7 @@ import uno.model.utils.impl.TestLogger;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Unit tests for the {@link DeckHandlerImpl} class.
@@ -113,6 +114,89 @@ class DeckHandlerTest {
         assertFalse(result, "Should return false when deck is empty and Mandatory Pass is ON");
     }
 
+    @Test
+    void testDrawUntilColorReshufflesOnce() {
+        emptyDeck();
+        deck.addCard(createCard(CardColor.RED, CardValue.ONE));
+        deck.addCard(createCard(CardColor.GREEN, CardValue.TWO));
+        final Card blue = createCard(CardColor.BLUE, CardValue.THREE);
+        discardPile.addCard(blue);
+        discardPile.addCard(createCard(CardColor.YELLOW, CardValue.FOUR));
+
+        assertEquals(3, deckHandler.drawUntilColorForPlayer(player, CardColor.BLUE, game));
+        assertEquals(3, player.getHandSize());
+        assertTrue(player.getHand().contains(Optional.of(blue)));
+        assertTrue(deck.isEmpty());
+        assertEquals(1, discardPile.size());
+    }
+
+    @Test
+    void testDrawUntilMissingColorStops() {
+        emptyDeck();
+        discardPile.addCard(createCard(CardColor.RED, CardValue.ONE));
+        discardPile.addCard(createCard(CardColor.YELLOW, CardValue.FOUR));
+
+        assertEquals(1, deckHandler.drawUntilColorForPlayer(player, CardColor.BLUE, game));
+        assertEquals(0, deckHandler.drawUntilColorForPlayer(player, CardColor.BLUE, game));
+
+        final DeckHandler noReshuffle = new DeckHandlerImpl(deck, discardPile,
+                new GameRulesImpl(false, false, true, false), new TestLogger(), "SYSTEM");
+        deck.addCard(createCard(CardColor.GREEN, CardValue.TWO));
+        discardPile.addCard(createCard(CardColor.BLUE, CardValue.THREE));
+        assertEquals(1, noReshuffle.drawUntilColorForPlayer(player, CardColor.BLUE, game));
+        assertEquals(2, discardPile.size());
+    }
+
+    @Test
+    void testDrawCardsReshufflesOnceAndLogsOnce() {
+        final List<String> actions = new ArrayList<>();
+        final DeckHandler recorded = new DeckHandlerImpl(deck, discardPile, GameRulesImpl.defaultRules(),
+                new TestLogger() {
+                    @Override
+                    public void logAction(final String playerName, final String actionType,
+                            final String cardDetails, final String extraInfo) {
+                        actions.add(actionType + ";" + extraInfo);
+                    }
+                }, "SYSTEM");
+        emptyDeck();
+        deck.addCard(createCard(CardColor.RED, CardValue.ONE));
+        deck.addCard(createCard(CardColor.GREEN, CardValue.TWO));
+        discardPile.addCard(createCard(CardColor.BLUE, CardValue.THREE));
+        discardPile.addCard(createCard(CardColor.RED, CardValue.FIVE));
+        discardPile.addCard(createCard(CardColor.YELLOW, CardValue.FOUR));
+
+        assertTrue(recorded.drawCardsForPlayer(player, 3, game));
+        assertEquals(3, player.getHandSize());
+        assertEquals(1, deck.size());
+        assertEquals(1, discardPile.size());
+        assertEquals(1, actions.size());
+        assertTrue(actions.get(0).startsWith("DRAW;TWO,ONE,"), actions.get(0));
+    }
+
+    @Test
+    void testDrawCardsMandatoryPassEndsGame() {
+        final DeckHandler localHandler = new DeckHandlerImpl(deck, discardPile,
+                new GameRulesImpl(false, false, true, false), new TestLogger(), "SYSTEM");
+        emptyDeck();
+        deck.addCard(createCard(CardColor.RED, CardValue.ONE));
+        discardPile.addCard(createCard(CardColor.BLUE, CardValue.THREE));
+        discardPile.addCard(createCard(CardColor.YELLOW, CardValue.FOUR));
+
+        assertFalse(localHandler.drawCardsForPlayer(player, 2, game),
+                "Should return false when the deck runs out and Mandatory Pass is ON");
+        assertEquals(1, player.getHandSize());
+        assertEquals(2, discardPile.size());
+    }
+
+    /**
+     * Draws every card of the deck.
+     */
+    private void emptyDeck() {
+        while (!deck.isEmpty()) {
+            deck.draw();
+        }
+    }
+
     /**
      * Helper method to create a simple card for testing purposes.
      * 
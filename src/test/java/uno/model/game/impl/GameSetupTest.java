@@ -115,6 +115,14 @@ class GameSetupTest {
         public void chosenPlayer(final AbstractPlayer player) {
         }
 
+        @Override
+        public void addPlayer(final AbstractPlayer player) {
+        }
+
+        @Override
+        public void eliminatePlayer(final AbstractPlayer player) {
+        }
+
         @Override
         public void skipPlayers(final int n) {
         }
@@ -0,0 +1,83 @@
+package uno.model.game.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uno.model.game.api.GameMode;
+import uno.model.game.api.GameSimulator;
+import uno.model.game.api.SimulationResult;
+import uno.model.players.impl.AIClassic;
+import uno.model.players.impl.AbstractAIPlayer;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the {@link GameSimulatorImpl} class.
+ */
+class GameSimulatorTest {
+
+    private static final int PLAYERS = 4;
+    private static final int GAMES = 50;
+    private static final long SEED = 1234L;
+
+    private GameSimulator simulator;
+
+    @BeforeEach
+    void setUp() {
+        simulator = new GameSimulatorImpl(GameRulesImpl.defaultRules());
+    }
+
+    @Test
+    void testStandardMatchEndsWithWinner() {
+        final SimulationResult result = simulator.simulate(GameMode.STANDARD, PLAYERS);
+
+        assertTrue(result.hasWinner(), "A standard match with reshuffle must produce a winner");
+        assertTrue(result.turns() > 0);
+        assertEquals(1, result.rounds());
+        assertTrue(result.winner().get().getHand().isEmpty(), "The winner must have an empty hand");
+    }
+
+    @Test
+    void testSimulateManyPlaysEveryMatch() {
+        final List<SimulationResult> results = simulator.simulateMany(GameMode.STANDARD, PLAYERS, GAMES);
+
+        assertEquals(GAMES, results.size());
+        assertTrue(results.stream().allMatch(SimulationResult::hasWinner));
+    }
+
+    @Test
+    void testSameSeedReproducesMatch() {
+        for (final GameMode mode : List.of(GameMode.STANDARD, GameMode.ALL_WILD)) {
+            final SimulationResult first = simulator.simulate(mode,
+                    GameSimulatorImpl.createDefaultPlayers(mode, PLAYERS), new SplittableRandom(SEED));
+            final SimulationResult second = simulator.simulate(mode,
+                    GameSimulatorImpl.createDefaultPlayers(mode, PLAYERS), new SplittableRandom(SEED));
+
+            assertEquals(first.turns(), second.turns());
+            assertEquals(first.score(), second.score());
+            assertEquals(first.winner().map(p -> p.getName()), second.winner().map(p -> p.getName()));
+        }
+    }
+
+    @Test
+    void testTurnLimitStopsMatchWithoutWinner() {
+        final GameSimulator limited = new GameSimulatorImpl(GameRulesImpl.defaultRules(), 1);
+        final SimulationResult result = limited.simulate(GameMode.STANDARD,
+                List.<AbstractAIPlayer>of(new AIClassic("A"), new AIClassic("B")));
+
+        assertFalse(result.hasWinner());
+        assertEquals(1, result.turns());
+        assertEquals(0, result.score());
+    }
+
+    @Test
+    void testRejectsTooFewPlayers() {
+        assertThrows(IllegalArgumentException.class, () -> simulator.simulate(GameMode.STANDARD, 1));
+    }
+}
@@ -0,0 +1,186 @@
+package uno.model.game.impl;
+
+import org.junit.jupiter.api.Test;
+
+import uno.model.cards.deck.api.DeckStorage;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.GameMode;
+import uno.model.game.api.GameSnapshot;
+import uno.model.game.api.GameState;
+import uno.model.players.impl.AIClassic;
+import uno.model.players.impl.AbstractAIPlayer;
+import uno.model.players.impl.AbstractPlayer;
+import uno.model.utils.impl.SilentGameLoggerImpl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the {@link GameSnapshotImpl} class.
+ */
+class GameSnapshotTest {
+
+    private static final int PLAYERS = 3;
+    private static final int TURNS = 15;
+    private static final long SEED = 7L;
+    private static final int MANY_SEATS = 130;
+
+    @Test
+    void testRestoreReproducesState() {
+        for (final DeckStorage storage : DeckStorage.values()) {
+            final GameContext game = playedGame(GameMode.FLIP, storage);
+            final GameContext copy = game.snapshot().restore(players(GameMode.FLIP), new SilentGameLoggerImpl(),
+                    new SplittableRandom(SEED));
+
+            assertSameState(game, copy);
+        }
+    }
+
+    @Test
+    void testRestoredGameIsIndependent() {
+        final GameContext game = playedGame(GameMode.STANDARD, DeckStorage.INT_ARRAY);
+        final GameSnapshot snapshot = game.snapshot();
+        final GameContext copy = snapshot.restore(players(GameMode.STANDARD), new SilentGameLoggerImpl(),
+                new SplittableRandom(SEED));
+
+        for (int i = 0; i < TURNS && copy.getGameState() == GameState.RUNNING; i++) {
+            copy.getCurrentPlayer().takeTurn(copy);
+        }
+
+        assertNotSame(game.getPlayers().get(0), copy.getPlayers().get(0));
+        assertSameState(game, snapshot.restore(players(GameMode.STANDARD), new SilentGameLoggerImpl(),
+                new SplittableRandom(SEED)));
+    }
+
+    @Test
+    void testForkKeepsViewerKnowledge() {
+        final GameContext game = playedGame(GameMode.STANDARD, DeckStorage.LIST);
+        final GameSnapshot fork = game.snapshot().fork(0, new SplittableRandom(SEED));
+        final GameContext copy = fork.restore(players(GameMode.STANDARD), new SilentGameLoggerImpl(),
+                new SplittableRandom(SEED));
+
+        assertEquals(game.getPlayers().get(0).getHand(), copy.getPlayers().get(0).getHand());
+        assertEquals(game.getDiscardPile().getSnapshot(), copy.getDiscardPile().getSnapshot());
+        assertEquals(game.getDrawDeck().size(), fork.getDeckSize());
+        for (int i = 0; i < PLAYERS; i++) {
+            assertEquals(game.getPlayers().get(i).getHandSize(), fork.getHandSize(i));
+        }
+        assertEquals(sortedHidden(game), sortedHidden(copy));
+    }
+
+    @Test
+    void testEncodingKeepsActiveSeats() throws IOException {
+        final GameContext game = playedGame(GameMode.STANDARD, DeckStorage.INT_ARRAY);
+        final List<AbstractPlayer> seats = new ArrayList<>(players(GameMode.STANDARD));
+        for (int i = PLAYERS; i < MANY_SEATS; i++) {
+            game.addPlayer(new AIClassic("Extra-" + i));
+            seats.add(new AIClassic("Extra-" + i));
+        }
+        game.getTurnManager().setCurrentPlayer(game.getPlayers().get(MANY_SEATS - 1));
+        game.eliminatePlayer(game.getPlayers().get(1));
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        GameSnapshotImpl.capture(game).writeTo(new DataOutputStream(bytes));
+        final GameContext copy = GameSnapshotImpl.readFrom(new DataInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()))).restore(seats, new SilentGameLoggerImpl(),
+                        new SplittableRandom(SEED));
+
+        assertEquals(MANY_SEATS, copy.getPlayers().size());
+        assertEquals(MANY_SEATS - 1, copy.getTurnManager().getActivePlayerCount());
+        assertFalse(copy.getTurnManager().isActive(copy.getPlayers().get(1)));
+        assertEquals(MANY_SEATS - 1, copy.getPlayers().indexOf(copy.getCurrentPlayer()));
+        assertEquals(game.getPlayers().indexOf(game.getTurnManager().peekNextPlayer()),
+                copy.getPlayers().indexOf(copy.getTurnManager().peekNextPlayer()));
+    }
+
+    @Test
+    void testRestoreRejectsWrongSeatCount() {
+        final GameSnapshot snapshot = playedGame(GameMode.STANDARD, DeckStorage.INT_ARRAY).snapshot();
+
+        assertThrows(IllegalArgumentException.class, () -> snapshot.restore(
+                GameSimulatorImpl.createDefaultPlayers(GameMode.STANDARD, PLAYERS + 1), new SilentGameLoggerImpl(),
+                new SplittableRandom(SEED)));
+    }
+
+    /**
+     * Creates a seeded game and plays a few turns.
+     *
+     * @param mode    the game mode.
+     * @param storage the storage of the draw deck.
+     * @return the game.
+     */
+    private static GameContext playedGame(final GameMode mode, final DeckStorage storage) {
+        final GameContext game = (GameContext) new GameFactoryImpl(GameRulesImpl.defaultRules(),
+                new SilentGameLoggerImpl(), storage).createGame("TEST", mode,
+                        new ArrayList<>(players(mode)), new SplittableRandom(SEED));
+        for (int i = 0; i < TURNS && game.getGameState() == GameState.RUNNING; i++) {
+            game.getCurrentPlayer().takeTurn(game);
+        }
+        return game;
+    }
+
+    /**
+     * Creates the AI players of a mode.
+     *
+     * @param mode the game mode.
+     * @return the players.
+     */
+    private static List<AbstractAIPlayer> players(final GameMode mode) {
+        return GameSimulatorImpl.createDefaultPlayers(mode, PLAYERS);
+    }
+
+    /**
+     * Checks that two games are in the same state.
+     *
+     * @param expected the original game.
+     * @param actual   the restored game.
+     */
+    private static void assertSameState(final GameContext expected, final GameContext actual) {
+        for (int i = 0; i < PLAYERS; i++) {
+            final AbstractPlayer original = expected.getPlayers().get(i);
+            final AbstractPlayer restored = actual.getPlayers().get(i);
+            assertEquals(original.getHand(), restored.getHand());
+            assertEquals(original.getScore(), restored.getScore());
+            assertEquals(original.isHasCalledUno(), restored.isHasCalledUno());
+        }
+        assertEquals(expected.getDrawDeck().getSnapshot(), actual.getDrawDeck().getSnapshot());
+        assertEquals(expected.getDiscardPile().getSnapshot(), actual.getDiscardPile().getSnapshot());
+        assertEquals(expected.getCurrentPlayedCard(), actual.getCurrentPlayedCard());
+        assertEquals(expected.getCurrentColor(), actual.getCurrentColor());
+        assertEquals(expected.isDarkSide(), actual.isDarkSide());
+        assertEquals(expected.isClockwise(), actual.isClockwise());
+        assertEquals(expected.getGameState(), actual.getGameState());
+        assertEquals(expected.getPlayers().indexOf(expected.getCurrentPlayer()),
+                actual.getPlayers().indexOf(actual.getCurrentPlayer()));
+        assertEquals(expected.getTurnManager().getSkipSize(), actual.getTurnManager().getSkipSize());
+        assertEquals(expected.getTurnManager().hasDrawnThisTurn(), actual.getTurnManager().hasDrawnThisTurn());
+    }
+
+    /**
+     * Collects the cards that player 0 cannot see, sorted by id.
+     *
+     * @param game the game.
+     * @return the hidden cards.
+     */
+    private static List<Card> sortedHidden(final GameContext game) {
+        final List<Card> hidden = new ArrayList<>(game.getDrawDeck().getSnapshot());
+        for (int i = 1; i < PLAYERS; i++) {
+            game.getPlayers().get(i).getHandView().forEach(hidden::add);
+        }
+        hidden.sort(Comparator.comparingInt(Card::getId));
+        return hidden;
+    }
+}
@@ -8,6 +8,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import uno.model.api.GameEvent;
+import uno.model.api.GameModelObserver;
 import uno.model.game.api.GameRules;
 import uno.model.game.api.GameState;
 import uno.model.utils.impl.TestLogger;
@@ -18,6 +20,7 @@ import uno.model.cards.types.api.Card;
 import uno.model.cards.attributes.CardColor;
 import uno.model.cards.attributes.CardValue;
 import uno.model.cards.behaviors.impl.NumericBehavior;
+import uno.model.cards.behaviors.impl.DrawBehavior;
 import uno.model.cards.behaviors.impl.BackSideBehavior;
 import uno.model.cards.types.impl.DoubleSidedCard;
 
@@ -190,6 +193,92 @@ class GameTest {
         assertFalse(game.isDarkSide());
     }
 
+    @Test
+    void testPlayNotifiesObserversOnce() {
+        final GameRules rules = GameRulesImpl.defaultRules();
+        final GameImpl game = new GameImpl(deck, players, new TurnManagerImpl(players, rules),
+                new DiscardPileImpl(), GAME_MODE, logger, rules);
+        final int[] updates = new int[1];
+        game.addObserver(() -> updates[0]++);
+
+        final Card topCard = createCard(CardColor.RED, CardValue.FIVE);
+        game.setCurrentPlayedCard(topCard);
+        game.setCurrentColor(CardColor.RED);
+        game.getDiscardPile().addCard(topCard);
+
+        final Card drawTwo = new DoubleSidedCard(new DrawBehavior(CardColor.RED, CardValue.DRAW_TWO, 2),
+                BackSideBehavior.getInstance());
+        game.getCurrentPlayer().setHand(List.of(Optional.of(drawTwo),
+                Optional.of(createCard(CardColor.BLUE, CardValue.ONE))));
+
+        game.playCard(Optional.of(drawTwo));
+
+        assertEquals(1, updates[0]);
+    }
+
+    @Test
+    void testPlayPublishesEventsBeforeUpdate() {
+        final GameRules rules = GameRulesImpl.defaultRules();
+        final GameImpl game = new GameImpl(deck, players, new TurnManagerImpl(players, rules),
+                new DiscardPileImpl(), GAME_MODE, logger, rules);
+        final List<Object> received = new ArrayList<>();
+        game.addObserver(new GameModelObserver() {
+            @Override
+            public void onGameUpdate() {
+                received.add(GameState.RUNNING);
+            }
+
+            @Override
+            public void onGameEvent(final GameEvent event) {
+                received.add(event);
+            }
+        });
+
+        final Card topCard = createCard(CardColor.RED, CardValue.FIVE);
+        game.setCurrentPlayedCard(topCard);
+        game.setCurrentColor(CardColor.RED);
+        game.getDiscardPile().addCard(topCard);
+
+        final AbstractPlayer current = game.getCurrentPlayer();
+        final AbstractPlayer victim = game.getTurnManager().peekNextPlayer();
+        final Card drawTwo = new DoubleSidedCard(new DrawBehavior(CardColor.RED, CardValue.DRAW_TWO, 2),
+                BackSideBehavior.getInstance());
+        current.setHand(List.of(Optional.of(drawTwo), Optional.of(createCard(CardColor.BLUE, CardValue.ONE))));
+
+        game.playCard(Optional.of(drawTwo));
+
+        assertEquals(List.of(
+                new GameEvent.CardPlayed(current, drawTwo),
+                new GameEvent.CardsDrawn(victim, 2),
+                new GameEvent.TurnAdvanced(current, game.getCurrentPlayer()),
+                GameState.RUNNING), received);
+    }
+
+    @Test
+    void testNestedUpdateScopesNotifyOnce() {
+        final GameRules rules = GameRulesImpl.defaultRules();
+        final GameImpl game = new GameImpl(deck, players, new TurnManagerImpl(players, rules),
+                new DiscardPileImpl(), GAME_MODE, logger, rules);
+        final int[] updates = new int[1];
+        game.addObserver(() -> updates[0]++);
+
+        game.runInUpdateScope(() -> { });
+        assertEquals(0, updates[0]);
+
+        game.runInUpdateScope(() -> {
+            game.notifyObservers();
+            game.runInUpdateScope(game::notifyObservers);
+            assertEquals(0, updates[0]);
+        });
+        assertEquals(1, updates[0]);
+
+        assertThrows(IllegalStateException.class, () -> game.runInUpdateScope(() -> {
+            game.notifyObservers();
+            throw new IllegalStateException();
+        }));
+        assertEquals(2, updates[0]);
+    }
+
     /**
      * Helper to set a player's hand to contain only the specified card. This allows us to control the test scenario precisely.
      * 
@@ -0,0 +1,220 @@
+package uno.model.game.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uno.model.api.GameCommand;
+import uno.model.api.GameModelObserver;
+import uno.model.cards.deck.api.DeckStorage;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.GameMode;
+import uno.model.game.api.GameRules;
+import uno.model.game.api.GameState;
+import uno.model.game.api.MatchJournal;
+import uno.model.game.api.MatchReplay;
+import uno.model.players.impl.AIFlip;
+import uno.model.players.impl.AbstractPlayer;
+import uno.model.utils.impl.SilentGameLoggerImpl;
+import uno.model.utils.impl.SplitMixRandom;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the {@link MatchJournalImpl} and {@link MatchReplayImpl} classes.
+ */
+class MatchJournalTest {
+
+    private static final long SEED = 23L;
+    private static final int MAX_TURNS = 400;
+    private static final int ROUNDS = 2;
+    private static final int INTERVAL = 8;
+    private static final String FILE_NAME = "journal.bin";
+
+    private Path dir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dir = Files.createTempDirectory("uno-journals");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            for (final Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(dir);
+    }
+
+    @Test
+    void testReplayRebuildsEveryUpdate() throws IOException {
+        final Path file = dir.resolve(FILE_NAME);
+        final GameContext game = newMatch();
+        final MatchJournal journal = MatchJournalImpl.start(game, file, INTERVAL);
+        final List<Integer> counts = new ArrayList<>();
+        final List<byte[]> states = new ArrayList<>();
+        game.addObserver(new GameModelObserver() {
+            @Override
+            public void onGameUpdate() {
+                counts.add(journal.getCommandCount());
+                states.add(serialize(game));
+            }
+        });
+        play(game);
+
+        final MatchReplay replay = MatchReplayImpl.load(file);
+        assertEquals(journal.getCommandCount(), replay.getCommands().size());
+        assertTrue(journal.getCheckpointCount() > 1);
+        for (int i = 0; i < counts.size(); i++) {
+            assertArrayEquals(states.get(i), serialize(replay.replayTo(counts.get(i))),
+                    "State after " + counts.get(i) + " commands");
+        }
+    }
+
+    @Test
+    void testReplayedMatchContinuesIdentically() throws IOException {
+        final Path file = dir.resolve(FILE_NAME);
+        final GameContext game = newMatch();
+        MatchJournalImpl.start(game, file);
+        for (int i = 0; i < MAX_TURNS / 10 && game.getGameState() == GameState.RUNNING; i++) {
+            game.getCurrentPlayer().takeTurn(game);
+        }
+
+        final MatchReplay replay = MatchReplayImpl.load(file);
+        final GameContext replayed = replay.replayTo(replay.getCommands().size());
+        play(game);
+        play(replayed);
+        assertArrayEquals(serialize(game), serialize(replayed));
+    }
+
+    @Test
+    void testReplayFollowsPlayersJoiningAndLeaving() throws IOException {
+        final Path file = dir.resolve(FILE_NAME);
+        final GameContext game = newMatch();
+        MatchJournalImpl.start(game, file, INTERVAL);
+        final AbstractPlayer left = game.getTurnManager().peekNextPlayer();
+        game.eliminatePlayer(left);
+        playTurns(game);
+        game.addPlayer(new AIFlip("D"));
+        playTurns(game);
+        game.addPlayer(left);
+        playTurns(game);
+
+        final MatchReplay replay = MatchReplayImpl.load(file);
+        final GameContext replayed = replay.replayTo(replay.getCommands().size());
+        assertEquals(List.of("A", "B", "C", "D"), replayed.getPlayers().stream().map(AbstractPlayer::getName).toList());
+        final int joined = replay.getCommands().indexOf(new GameCommand.AddPlayer(3, "D",
+                MatchStoreImpl.typeCodeOf(new AIFlip("D")))) + 1;
+        assertTrue(joined > 0);
+        assertNotSame(replay.replayTo(joined).getPlayers().get(3), replay.replayTo(joined).getPlayers().get(3),
+                "Every replayed game seats a player of its own.");
+        assertArrayEquals(serialize(game), serialize(replayed));
+        play(game);
+        play(replayed);
+        assertArrayEquals(serialize(game), serialize(replayed));
+    }
+
+    @Test
+    void testTruncatedJournalKeepsCompleteRecords() throws IOException {
+        final Path file = dir.resolve(FILE_NAME);
+        final GameContext game = newMatch();
+        final MatchJournal journal = MatchJournalImpl.start(game, file, INTERVAL);
+        play(game);
+
+        final byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+        final MatchReplay replay = MatchReplayImpl.load(file);
+        assertTrue(replay.getCommands().size() < journal.getCommandCount());
+        replay.replayTo(replay.getCommands().size());
+    }
+
+    @Test
+    void testRejectsInvalidRequests() throws IOException {
+        final Path file = dir.resolve(FILE_NAME);
+        final GameContext seeded = (GameContext) new GameFactoryImpl(GameRulesImpl.defaultRules(),
+                new SilentGameLoggerImpl()).createGame("TEST", GameMode.STANDARD,
+                        new ArrayList<>(List.of(new AIFlip("A"), new AIFlip("B"))), new SplittableRandom(SEED));
+        assertThrows(IllegalArgumentException.class, () -> MatchJournalImpl.start(seeded, file));
+
+        MatchJournalImpl.start(newMatch(), file);
+        final MatchReplay replay = MatchReplayImpl.load(file);
+        assertThrows(IllegalArgumentException.class, () -> replay.replayTo(-1));
+        assertThrows(IllegalArgumentException.class, () -> replay.replayTo(1));
+
+        Files.write(file, new byte[] {1, 2, 3, 4, 5, 6});
+        assertThrows(IOException.class, () -> MatchReplayImpl.load(file));
+    }
+
+    /**
+     * Creates a seeded scoring match between three AIs.
+     *
+     * @return the match.
+     */
+    private static GameContext newMatch() {
+        final GameRules rules = new GameRulesImpl(true, false, false, true);
+        return (GameContext) new GameFactoryImpl(rules, new SilentGameLoggerImpl(), DeckStorage.INT_ARRAY)
+                .createGame("TEST", GameMode.FLIP,
+                        new ArrayList<>(List.of(new AIFlip("A"), new AIFlip("B"), new AIFlip("C"))),
+                        new SplitMixRandom(SEED));
+    }
+
+    /**
+     * Plays a few rounds of a match.
+     *
+     * @param game the match.
+     */
+    private static void play(final GameContext game) {
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int i = 0; i < MAX_TURNS && game.getGameState() == GameState.RUNNING; i++) {
+                game.getCurrentPlayer().takeTurn(game);
+            }
+            if (game.getGameState() == GameState.ROUND_OVER) {
+                game.startNewRound();
+            }
+        }
+    }
+
+    /**
+     * Plays a few turns of a round.
+     *
+     * @param game the match.
+     */
+    private static void playTurns(final GameContext game) {
+        for (int i = 0; i < INTERVAL * 2 && game.getGameState() == GameState.RUNNING; i++) {
+            game.getCurrentPlayer().takeTurn(game);
+        }
+    }
+
+    /**
+     * Serializes the state of a match.
+     *
+     * @param game the match.
+     * @return the bytes of its snapshot.
+     */
+    private static byte[] serialize(final GameContext game) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            GameSnapshotImpl.capture(game).writeTo(new DataOutputStream(bytes));
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
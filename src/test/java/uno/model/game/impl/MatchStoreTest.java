@@ -0,0 +1,203 @@
+package uno.model.game.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uno.model.cards.deck.api.DeckStorage;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.GameMode;
+import uno.model.game.api.GameRules;
+import uno.model.game.api.GameState;
+import uno.model.game.api.MatchStore;
+import uno.model.players.impl.AIFlip;
+import uno.model.players.impl.AbstractPlayer;
+import uno.model.players.impl.HumanPlayer;
+import uno.model.utils.impl.SilentGameLoggerImpl;
+import uno.model.utils.impl.SplitMixRandom;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the {@link MatchStoreImpl} class.
+ */
+class MatchStoreTest {
+
+    private static final long SEED = 11L;
+    private static final int TURNS = 20;
+    private static final int SCORE = 137;
+    private static final String FILE_NAME = "match.bin";
+
+    private Path dir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dir = Files.createTempDirectory("uno-saves");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            for (final Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(dir);
+    }
+
+    @Test
+    void testSaveAndLoadRoundTrip() throws IOException {
+        final GameContext game = playedMatch();
+        final MatchStore store = new MatchStoreImpl(dir.resolve(FILE_NAME));
+
+        assertFalse(store.hasSavedMatch());
+        store.save(game);
+        assertTrue(store.hasSavedMatch());
+        final GameContext loaded = store.load(new SilentGameLoggerImpl());
+
+        assertEquals(game.getRules().isScoringModeEnabled(), loaded.getRules().isScoringModeEnabled());
+        assertEquals(game.getRules().isUnoPenaltyEnabled(), loaded.getRules().isUnoPenaltyEnabled());
+        for (int i = 0; i < game.getPlayers().size(); i++) {
+            final AbstractPlayer original = game.getPlayers().get(i);
+            final AbstractPlayer restored = loaded.getPlayers().get(i);
+            assertEquals(original.getName(), restored.getName());
+            assertSame(original.getClass(), restored.getClass());
+            assertEquals(original.getHand(), restored.getHand());
+            assertEquals(original.getScore(), restored.getScore());
+        }
+        assertEquals(game.getDrawDeck().getSnapshot(), loaded.getDrawDeck().getSnapshot());
+        assertEquals(game.getDiscardPile().getSnapshot(), loaded.getDiscardPile().getSnapshot());
+        assertEquals(game.getCurrentColor(), loaded.getCurrentColor());
+        assertEquals(game.isDarkSide(), loaded.isDarkSide());
+        assertEquals(game.isClockwise(), loaded.isClockwise());
+        assertEquals(game.getGameState(), loaded.getGameState());
+        assertEquals(game.getCurrentPlayer().getName(), loaded.getCurrentPlayer().getName());
+    }
+
+    @Test
+    void testSameSaveResumesSameMatch() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MatchStoreImpl.write(playedMatch(List.of(new AIFlip("A"), new AIFlip("B"), new AIFlip("C")),
+                new SplitMixRandom(SEED)), SEED, out);
+        final byte[] bytes = out.toByteArray();
+
+        final List<String> first = playOut(MatchStoreImpl.read(new ByteArrayInputStream(bytes),
+                new SilentGameLoggerImpl()));
+        final List<String> second = playOut(MatchStoreImpl.read(new ByteArrayInputStream(bytes),
+                new SilentGameLoggerImpl()));
+
+        assertEquals(first, second);
+    }
+
+    @Test
+    void testRejectsInvalidFiles() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MatchStoreImpl.write(playedMatch(), SEED, out);
+        final byte[] bytes = out.toByteArray();
+
+        final byte[] badMagic = bytes.clone();
+        badMagic[0] = 0;
+        final byte[] badVersion = bytes.clone();
+        badVersion[Integer.BYTES + 1] = (byte) (MatchStoreImpl.FORMAT_VERSION + 1);
+        final byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+
+        for (final byte[] invalid : List.of(badMagic, badVersion, truncated)) {
+            assertThrows(IOException.class,
+                    () -> MatchStoreImpl.read(new ByteArrayInputStream(invalid), new SilentGameLoggerImpl()));
+        }
+    }
+
+    @Test
+    void testSaveDoesNotDrawFromTheRandomSource() throws IOException {
+        final GameContext game = playedMatch();
+        final SplitMixRandom random = (SplitMixRandom) game.getRandom();
+        final long state = random.getState();
+
+        new MatchStoreImpl(dir.resolve(FILE_NAME)).save(game);
+
+        assertEquals(state, random.getState());
+    }
+
+    @Test
+    void testSaveRejectsRandomSourceWithoutState() {
+        final GameContext game = playedMatch(List.of(new AIFlip("A"), new HumanPlayer("Human"), new AIFlip("B")),
+                new SplittableRandom(SEED));
+        final MatchStore store = new MatchStoreImpl(dir.resolve(FILE_NAME));
+
+        assertThrows(IllegalArgumentException.class, () -> store.save(game));
+        assertFalse(store.hasSavedMatch());
+    }
+
+    @Test
+    void testDeleteRemovesSave() throws IOException {
+        final Path file = dir.resolve(FILE_NAME);
+        final MatchStore store = new MatchStoreImpl(file);
+        store.save(playedMatch());
+
+        store.delete();
+
+        assertFalse(Files.exists(file));
+        assertThrows(IOException.class, () -> store.load(new SilentGameLoggerImpl()));
+    }
+
+    /**
+     * Creates a seeded scoring match between a human and two AIs and plays
+     * the AI turns before the human one.
+     *
+     * @return the match.
+     */
+    private static GameContext playedMatch() {
+        return playedMatch(List.of(new AIFlip("A"), new HumanPlayer("Human"), new AIFlip("B")),
+                new SplitMixRandom(SEED));
+    }
+
+    /**
+     * Creates a seeded scoring match and plays AI turns until a human has to
+     * play.
+     *
+     * @param players the players.
+     * @param random  the random source of the match.
+     * @return the match.
+     */
+    private static GameContext playedMatch(final List<AbstractPlayer> players, final RandomGenerator random) {
+        final GameRules rules = new GameRulesImpl(true, false, false, true);
+        players.get(0).setScore(SCORE);
+        final GameContext game = (GameContext) new GameFactoryImpl(rules, new SilentGameLoggerImpl(),
+                DeckStorage.LIST).createGame("TEST", GameMode.FLIP, players, random);
+        for (int i = 0; i < TURNS && game.getCurrentPlayer() instanceof AIFlip; i++) {
+            game.getCurrentPlayer().takeTurn(game);
+        }
+        return game;
+    }
+
+    /**
+     * Plays a loaded match until the round ends.
+     *
+     * @param game the loaded match, with AIs only.
+     * @return the top card after each turn.
+     */
+    private static List<String> playOut(final GameContext game) {
+        final List<String> tops = new ArrayList<>();
+        for (int i = 0; i < TURNS * 10 && game.getGameState() == GameState.RUNNING; i++) {
+            game.getCurrentPlayer().takeTurn(game);
+            tops.add(String.valueOf(game.getTopDiscardCard().orElse(null)));
+        }
+        return tops;
+    }
+}
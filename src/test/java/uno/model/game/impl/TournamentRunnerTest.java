@@ -0,0 +1,75 @@
+package uno.model.game.impl;
+
+import org.junit.jupiter.api.Test;
+
+import uno.model.game.api.GameMode;
+import uno.model.game.api.TournamentResult;
+import uno.model.game.api.TournamentRunner;
+import uno.model.players.impl.AIClassic;
+import uno.model.players.impl.AIFlip;
+import uno.model.players.impl.AbstractAIPlayer;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the {@link TournamentRunnerImpl} class.
+ */
+class TournamentRunnerTest {
+
+    private static final int PLAYERS = 4;
+    private static final long GAMES = 200;
+    private static final int WORKERS = 4;
+    private static final long SEED = 99L;
+
+    private final TournamentRunner runner = new TournamentRunnerImpl(GameRulesImpl.defaultRules(), WORKERS);
+
+    @Test
+    void testEveryGameIsCounted() {
+        final TournamentResult result = runner.run(GameMode.STANDARD, PLAYERS, GAMES);
+
+        assertEquals(GAMES, result.games());
+        final long wins = result.winsByAiClass().values().stream().mapToLong(Long::longValue).sum();
+        assertEquals(GAMES, wins + result.stalledGames());
+        assertEquals(wins, result.scoreHistogram().values().stream().mapToLong(Long::longValue).sum());
+        assertTrue(result.averageTurns() > 0);
+    }
+
+    @Test
+    void testWinsAreGroupedByAiClass() {
+        final TournamentResult result = runner.run(GameMode.STANDARD,
+                () -> List.<AbstractAIPlayer>of(new AIClassic("Classic"), new AIFlip("Flip")), GAMES);
+
+        assertTrue(result.winsByAiClass().keySet().stream()
+                .allMatch(k -> "AIClassic".equals(k) || "AIFlip".equals(k)));
+        assertEquals(GAMES, result.winsByAiClass().values().stream().mapToLong(Long::longValue).sum()
+                + result.stalledGames());
+    }
+
+    @Test
+    void testSeededTournamentIsReproducible() {
+        final TournamentRunner other = new TournamentRunnerImpl(GameRulesImpl.defaultRules(), 1);
+        final TournamentResult first = runner.run(GameMode.STANDARD,
+                () -> GameSimulatorImpl.createDefaultPlayers(GameMode.STANDARD, PLAYERS), GAMES, SEED);
+        final TournamentResult second = other.run(GameMode.STANDARD,
+                () -> GameSimulatorImpl.createDefaultPlayers(GameMode.STANDARD, PLAYERS), GAMES, SEED);
+
+        assertEquals(first, second, "The result must not depend on the number of workers");
+    }
+
+    @Test
+    void testEmptyTournament() {
+        final TournamentResult result = runner.run(GameMode.STANDARD, PLAYERS, 0);
+
+        assertEquals(0, result.games());
+        assertTrue(result.winsByAiClass().isEmpty());
+    }
+
+    @Test
+    void testRejectsNegativeGames() {
+        assertThrows(IllegalArgumentException.class, () -> runner.run(GameMode.STANDARD, PLAYERS, -1));
+    }
+}
@@ -4,12 +4,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import uno.model.cards.attributes.CardColor;
@@ -34,6 +37,9 @@ import uno.model.game.api.GameRules;
  */
 class TurnManagerTest {
 
+    private static final int LARGE_TABLE = 200;
+    private static final int LOOKAHEAD = 3;
+
     private TurnManager turnManager;
     private List<AbstractPlayer> players;
     private Game game;
@@ -198,4 +204,79 @@ class TurnManagerTest {
         assertEquals(3, playerToPenalize.getHandSize(),
                 "Il giocatore deve avere 3 carte in mano dopo la penalità (1 + 2 penalità)");
     }
+
+    @Test
+    void testEliminatedPlayersAreSkipped() {
+        final TurnManager tm = new TurnManagerImpl(players, new GameRulesImpl(false, false, false, false),
+                new Random(), 0);
+
+        tm.eliminatePlayer(players.get(1));
+        assertEquals(3, tm.getActivePlayerCount());
+        assertEquals(players.get(2), tm.peekNextPlayer(), "Il giocatore eliminato non deve più giocare.");
+
+        tm.eliminatePlayer(players.get(0));
+        assertEquals(players.get(2), tm.getCurrentPlayer(), "Il turno passa al giocatore successivo.");
+
+        tm.reverseDirection();
+        tm.eliminatePlayer(players.get(2));
+        assertEquals(players.get(3), tm.getCurrentPlayer(), "In senso antiorario il turno torna indietro.");
+        assertThrows(IllegalStateException.class, () -> tm.eliminatePlayer(players.get(3)));
+        assertThrows(IllegalArgumentException.class, () -> tm.eliminatePlayer(players.get(0)));
+    }
+
+    @Test
+    void testPlayersJoinMidGame() {
+        final TurnManager tm = new TurnManagerImpl(players, new GameRulesImpl(false, false, false, false),
+                new Random(), 3);
+        tm.eliminatePlayer(players.get(1));
+
+        final AbstractPlayer newcomer = new AIClassic("P5");
+        tm.addPlayer(newcomer);
+        assertEquals(newcomer, tm.peekNextPlayer(), "Il nuovo giocatore siede dopo l'ultimo posto.");
+        assertEquals(List.of(newcomer, players.get(0), players.get(2), players.get(3)), tm.peekNextPlayers(5));
+
+        tm.addPlayer(players.get(1));
+        assertEquals(List.of(newcomer, players.get(0), players.get(1)), tm.peekNextPlayers(LOOKAHEAD),
+                "Il giocatore rientrato riprende il suo posto.");
+        assertEquals(players.get(3), tm.getCurrentPlayer());
+        assertThrows(IllegalArgumentException.class, () -> tm.addPlayer(newcomer));
+    }
+
+    @Test
+    void testLookaheadIsCachedUntilTheStateChanges() {
+        final List<AbstractPlayer> next = turnManager.peekNextPlayers(LOOKAHEAD);
+        assertEquals(turnManager.peekNextPlayer(), next.get(0));
+        assertSame(next, turnManager.peekNextPlayers(LOOKAHEAD));
+        assertEquals(next.subList(0, 2), turnManager.peekNextPlayers(2));
+        assertThrows(UnsupportedOperationException.class, () -> next.add(next.get(0)));
+
+        turnManager.skipPlayers(1);
+        assertEquals(next.get(1), turnManager.peekNextPlayers(LOOKAHEAD).get(0));
+
+        turnManager.advanceTurn(game);
+        turnManager.reverseDirection();
+        final List<AbstractPlayer> back = turnManager.peekNextPlayers(players.size() + 1);
+        assertEquals(players.size(), back.size(), "La vista non può superare i giocatori attivi.");
+        assertEquals(turnManager.getCurrentPlayer(), back.get(players.size() - 1));
+    }
+
+    @Test
+    void testSkipEveryoneOnLargeTable() {
+        final List<AbstractPlayer> table = new ArrayList<>();
+        for (int i = 0; i < LARGE_TABLE; i++) {
+            table.add(new AIClassic("P" + i));
+        }
+        final TurnManager tm = new TurnManagerImpl(table, new GameRulesImpl(false, false, false, false),
+                new Random(), LARGE_TABLE - 1);
+        tm.eliminatePlayer(table.get(0));
+
+        tm.skipPlayers(tm.getActivePlayerCount() - 1);
+        assertEquals(table.get(LARGE_TABLE - 1), tm.peekNextPlayer(), "Salta tutti: tocca di nuovo a chi ha giocato.");
+        tm.advanceTurn(game);
+        assertEquals(table.get(LARGE_TABLE - 1), tm.getCurrentPlayer());
+
+        tm.skipPlayers(LARGE_TABLE);
+        tm.advanceTurn(game);
+        assertEquals(table.get(2), tm.getCurrentPlayer(), "I salti girano intorno al tavolo.");
+    }
 }
@@ -1,6 +1,7 @@
 package uno.model.players.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
@@ -18,6 +19,7 @@ import uno.model.cards.deck.impl.AllWildDeck;
 import uno.model.cards.types.api.Card;
 import uno.model.cards.types.impl.DoubleSidedCard;
 import uno.model.game.api.Game;
+import uno.model.game.api.GameState;
 import uno.model.game.impl.GameImpl;
 import uno.model.game.impl.GameSetupImpl;
 import uno.model.utils.api.GameLogger;
@@ -127,4 +129,42 @@ class AIAllWildTest {
         assertTrue(played.getValue(game) != CardValue.WILD_FORCED_SWAP,
                 "L'IA non dovrebbe scambiare se ha meno carte dell'avversario.");
     }
+
+    @Test
+    void testEliminatedPlayersCannotBeTargeted() {
+        final AbstractPlayer eliminated = new AIAllWild("Eliminated");
+        final List<AbstractPlayer> players = List.of(aiAllWild, opponent, eliminated);
+        final GameLogger logger = new uno.model.utils.impl.TestLogger();
+        final Deck<Card> deck = new AllWildDeck(logger);
+        final GameRules rules = new GameRulesImpl(false, false, false, false);
+        game = new GameImpl(deck, new ArrayList<>(players), new TurnManagerImpl(players, rules),
+                new DiscardPileImpl(), "ALLWILD", logger, rules);
+        new GameSetupImpl(game, deck, game.getDiscardPile(), players).initializeGame(false);
+
+        final List<Optional<Card>> aiHand = new LinkedList<>();
+        aiHand.add(Optional.of(createWildCard(CardValue.WILD)));
+        aiHand.add(Optional.of(createWildCard(CardValue.WILD)));
+        aiHand.add(Optional.of(createWildCard(CardValue.WILD_FORCED_SWAP)));
+        aiAllWild.setHand(aiHand);
+        final List<Optional<Card>> oneCard = new LinkedList<>();
+        oneCard.add(Optional.of(createWildCard(CardValue.WILD)));
+        eliminated.setHand(oneCard);
+        opponent.setHand(new LinkedList<>(List.of(Optional.of(createWildCard(CardValue.WILD)),
+                Optional.of(createWildCard(CardValue.WILD)))));
+        game.getTurnManager().setCurrentPlayer(aiAllWild);
+        game.eliminatePlayer(eliminated);
+
+        aiAllWild.takeTurn(game);
+
+        assertEquals(CardValue.WILD_FORCED_SWAP, game.getTopDiscardCard().get().getValue(game));
+        assertEquals(oneCard, eliminated.getHand(), "An eliminated player must not be chosen.");
+
+        game.getTurnManager().setCurrentPlayer(opponent);
+        opponent.setHand(new LinkedList<>(List.of(Optional.of(createWildCard(CardValue.WILD_FORCED_SWAP)),
+                Optional.of(createWildCard(CardValue.WILD)))));
+        game.playCard(opponent.getHand().get(0));
+        assertEquals(GameState.WAITING_FOR_PLAYER, game.getGameState());
+        assertThrows(IllegalStateException.class, () -> game.chosenPlayer(eliminated));
+        assertEquals(oneCard, eliminated.getHand());
+    }
 }
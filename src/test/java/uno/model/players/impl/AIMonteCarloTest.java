@@ -0,0 +1,72 @@
+package uno.model.players.impl;
+
+import org.junit.jupiter.api.Test;
+
+import uno.model.game.api.GameMode;
+import uno.model.game.api.GameSimulator;
+import uno.model.game.api.SimulationResult;
+import uno.model.game.impl.GameRulesImpl;
+import uno.model.game.impl.GameSimulatorImpl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the {@link AIMonteCarlo} class.
+ */
+class AIMonteCarloTest {
+
+    private static final int PLAYERS = 3;
+    private static final int ITERATIONS = 40;
+    private static final Duration BUDGET = Duration.ofMinutes(1);
+    private static final long SEED = 42L;
+
+    private final GameSimulator simulator = new GameSimulatorImpl(GameRulesImpl.defaultRules());
+
+    @Test
+    void testMatchesEndWithWinnerInEveryMode() {
+        for (final GameMode mode : GameMode.values()) {
+            final SimulationResult result = simulator.simulate(mode, createPlayers(mode, 2), new SplittableRandom(SEED));
+
+            assertTrue(result.hasWinner(), "A match with a search AI must end in " + mode);
+        }
+    }
+
+    @Test
+    void testSameSeedReproducesMatch() {
+        final SimulationResult first = simulator.simulate(GameMode.STANDARD, createPlayers(GameMode.STANDARD, 1),
+                new SplittableRandom(SEED));
+        final SimulationResult second = simulator.simulate(GameMode.STANDARD, createPlayers(GameMode.STANDARD, 1),
+                new SplittableRandom(SEED));
+
+        assertEquals(first.turns(), second.turns());
+        assertEquals(first.score(), second.score());
+        assertEquals(first.winner().map(AbstractPlayer::getName), second.winner().map(AbstractPlayer::getName));
+    }
+
+    @Test
+    void testRejectsEmptyBudgets() {
+        assertThrows(IllegalArgumentException.class, () -> new AIMonteCarlo("MC", 0, BUDGET, 1));
+        assertThrows(IllegalArgumentException.class, () -> new AIMonteCarlo("MC", ITERATIONS, Duration.ZERO, 1));
+        assertThrows(IllegalArgumentException.class, () -> new AIMonteCarlo("MC", ITERATIONS, BUDGET, 0));
+    }
+
+    /**
+     * Creates a table with one search AI and heuristic opponents.
+     *
+     * @param mode        the game mode.
+     * @param parallelism the parallelism of the search AI.
+     * @return the players.
+     */
+    private static List<AbstractAIPlayer> createPlayers(final GameMode mode, final int parallelism) {
+        final List<AbstractAIPlayer> players = new ArrayList<>(GameSimulatorImpl.createDefaultPlayers(mode, PLAYERS));
+        players.set(0, new AIMonteCarlo("MC", ITERATIONS, BUDGET, parallelism, SEED));
+        return players;
+    }
+}
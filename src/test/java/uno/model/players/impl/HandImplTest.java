@@ -0,0 +1,141 @@
+package uno.model.players.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.attributes.CardValue;
+import uno.model.cards.behaviors.impl.BackSideBehavior;
+import uno.model.cards.behaviors.impl.NumericBehavior;
+import uno.model.cards.types.api.Card;
+import uno.model.cards.types.impl.DoubleSidedCard;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.GameMode;
+import uno.model.game.api.GameState;
+import uno.model.game.impl.GameFactoryImpl;
+import uno.model.game.impl.GameRulesImpl;
+import uno.model.players.api.Hand;
+import uno.model.utils.impl.TestLogger;
+
+/**
+ * Test class for {@link HandImpl} as exposed by {@link AbstractPlayer}.
+ */
+class HandImplTest {
+
+    private static final int PLAYERS = 6;
+    private static final int DEALS = 20;
+    private static final int TURNS = 60;
+
+    private HumanPlayer player;
+    private Card red;
+    private Card blue;
+
+    @BeforeEach
+    void setUp() {
+        player = new HumanPlayer("Player");
+        red = new DoubleSidedCard(new NumericBehavior(CardColor.RED, CardValue.ONE), BackSideBehavior.getInstance());
+        blue = new DoubleSidedCard(new NumericBehavior(CardColor.BLUE, CardValue.ONE), BackSideBehavior.getInstance());
+    }
+
+    @Test
+    void testViewIsLive() {
+        final Hand hand = player.getHandView();
+        assertTrue(hand.isEmpty());
+
+        player.addCardToHand(red);
+        player.addCardToHand(blue);
+
+        assertEquals(2, hand.size());
+        assertSame(red, hand.get(0));
+        assertSame(blue, hand.get(1));
+        assertTrue(hand.contains(blue));
+
+        player.playCard(Optional.of(red));
+        assertEquals(1, hand.size());
+        assertFalse(hand.contains(red));
+    }
+
+    @Test
+    void testViewIsReadOnly() {
+        player.addCardToHand(red);
+        final Iterator<Card> it = player.getHandView().iterator();
+        it.next();
+
+        assertThrows(UnsupportedOperationException.class, it::remove);
+        assertEquals(1, player.getHandSize());
+    }
+
+    @Test
+    void testSetHandSkipsEmptySlots() {
+        player.setHand(List.of(Optional.of(red), Optional.empty(), Optional.of(blue)));
+
+        assertEquals(2, player.getHandSize());
+        assertEquals(List.of(Optional.of(red), Optional.of(blue)), player.getHand());
+    }
+
+    @Test
+    void testPlayableCardsMatchCanBePlayedOnOnBothSides() {
+        for (int seed = 0; seed < DEALS; seed++) {
+            final List<AbstractPlayer> players = new ArrayList<>();
+            for (int i = 0; i < PLAYERS; i++) {
+                players.add(new AIFlip("AI" + i));
+            }
+            final GameContext game = (GameContext) new GameFactoryImpl(GameRulesImpl.defaultRules(), new TestLogger())
+                    .createGame("TEST", GameMode.FLIP, players, new SplittableRandom(seed));
+
+            assertPlayableCardsMatch(game, players);
+            game.setCurrentPlayedCard(game.getTopDiscardCard().get());
+            game.flipTheWorld();
+            assertPlayableCardsMatch(game, players);
+        }
+    }
+
+    @Test
+    void testPlayableCardsMatchAfterCardsLeaveTheHand() {
+        for (int seed = 0; seed < DEALS; seed++) {
+            final List<AbstractPlayer> players = new ArrayList<>();
+            for (int i = 0; i < PLAYERS; i++) {
+                players.add(new AIFlip("AI" + i));
+            }
+            final GameContext game = (GameContext) new GameFactoryImpl(GameRulesImpl.defaultRules(), new TestLogger())
+                    .createGame("TEST", GameMode.FLIP, players, new SplittableRandom(seed));
+
+            for (int turn = 0; turn < TURNS && game.getGameState() == GameState.RUNNING; turn++) {
+                game.getCurrentPlayer().takeTurn(game);
+                assertPlayableCardsMatch(game, players);
+            }
+        }
+    }
+
+    /**
+     * Checks the indexed lookups of every hand against a linear scan.
+     *
+     * @param game    the game in progress
+     * @param players the players of the game
+     */
+    private void assertPlayableCardsMatch(final GameContext game, final List<AbstractPlayer> players) {
+        final Card top = game.getTopDiscardCard().get();
+        for (final AbstractPlayer p : players) {
+            final List<Card> expected = new ArrayList<>();
+            for (final Card card : p.getHandView()) {
+                if (card.canBePlayedOn(top, game)) {
+                    expected.add(card);
+                }
+            }
+            assertEquals(expected, p.getHandView().getPlayableCards(top, game));
+            assertEquals(!expected.isEmpty(), p.getHandView().hasPlayableCard(top, game));
+        }
+    }
+}
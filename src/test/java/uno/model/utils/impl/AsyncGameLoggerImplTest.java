@@ -0,0 +1,157 @@
+package uno.model.utils.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uno.model.utils.api.LogOverflowPolicy;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the {@link AsyncGameLoggerImpl} class.
+ */
+class AsyncGameLoggerImplTest {
+
+    private static final String LOG_DIR = "logs";
+    private static final int ENTRIES = 1000;
+    private static final int SMALL_CAPACITY = 4;
+    private static final int BATCH_SIZE = 16;
+    private static final long FLUSH_INTERVAL = 50;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        deleteLogDirectory();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        deleteLogDirectory();
+    }
+
+    @Test
+    void testCloseDrainsEveryEntryInOrder() throws IOException {
+        final AsyncGameLoggerImpl logger = new AsyncGameLoggerImpl("async_block", SMALL_CAPACITY, BATCH_SIZE,
+                FLUSH_INTERVAL, LogOverflowPolicy.BLOCK);
+
+        for (int i = 0; i < ENTRIES; i++) {
+            logger.logAction("P1", "DRAW", "N/A", String.valueOf(i));
+        }
+        logger.close();
+
+        final List<String> lines = readLog("async_block");
+        assertEquals(ENTRIES, lines.size());
+        for (int i = 0; i < ENTRIES; i++) {
+            assertTrue(lines.get(i).endsWith(";P1;DRAW;N/A;" + i), "Entries must keep their order");
+        }
+        assertEquals(0, logger.getDroppedEntries());
+    }
+
+    @Test
+    void testDropPolicyAccountsForEveryEntry() throws IOException {
+        final AsyncGameLoggerImpl logger = new AsyncGameLoggerImpl("async_drop", SMALL_CAPACITY, BATCH_SIZE,
+                FLUSH_INTERVAL, LogOverflowPolicy.DROP);
+
+        for (int i = 0; i < ENTRIES; i++) {
+            logger.logAction("P1", "PLAY", "N/A", String.valueOf(i));
+        }
+        logger.close();
+
+        final long dropped = logger.getDroppedEntries();
+        final long written = readLog("async_drop").stream().filter(l -> l.contains(";PLAY;")).count();
+        assertEquals(ENTRIES, written + dropped);
+    }
+
+    @Test
+    void testLoggingAfterCloseIsStillWritten() throws IOException {
+        final AsyncGameLoggerImpl logger = new AsyncGameLoggerImpl("async_closed");
+        logger.logAction("P1", "PLAY", "N/A", "before");
+        logger.close();
+        logger.logAction("P1", "PLAY", "N/A", "after");
+
+        final List<String> lines = readLog("async_closed");
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).endsWith("after"));
+    }
+
+    @Test
+    void testLoggingDuringCloseKeepsTheOrder() throws IOException, InterruptedException {
+        final AsyncGameLoggerImpl logger = new AsyncGameLoggerImpl("async_closing", ENTRIES, BATCH_SIZE,
+                FLUSH_INTERVAL, LogOverflowPolicy.BLOCK);
+        for (int i = 0; i < ENTRIES / 2; i++) {
+            logger.logAction("P1", "DRAW", "N/A", String.valueOf(i));
+        }
+        final Thread closer = new Thread(logger::close);
+        closer.start();
+        for (int i = ENTRIES / 2; i < ENTRIES; i++) {
+            logger.logAction("P1", "DRAW", "N/A", String.valueOf(i));
+        }
+        closer.join();
+
+        final List<String> lines = readLog("async_closing");
+        assertEquals(ENTRIES, lines.size());
+        for (int i = 0; i < ENTRIES; i++) {
+            assertTrue(lines.get(i).endsWith(";P1;DRAW;N/A;" + i), "Entries must keep their order");
+        }
+    }
+
+    @Test
+    void testStoppedWriterDoesNotBlock() throws IOException, InterruptedException {
+        final AsyncGameLoggerImpl logger = new AsyncGameLoggerImpl("async_stopped", SMALL_CAPACITY, BATCH_SIZE,
+                FLUSH_INTERVAL, LogOverflowPolicy.BLOCK);
+        for (final Thread thread : Thread.getAllStackTraces().keySet()) {
+            if ("uno-log-writer-async_stopped".equals(thread.getName())) {
+                thread.interrupt();
+                thread.join();
+            }
+        }
+
+        for (int i = 0; i < ENTRIES; i++) {
+            logger.logAction("P1", "DRAW", "N/A", String.valueOf(i));
+        }
+        final long start = System.nanoTime();
+        logger.close();
+        logger.close();
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1), "Close must not wait for a stopped writer");
+        assertEquals(ENTRIES, readLog("async_stopped").size());
+    }
+
+    /**
+     * Reads all lines of the log file of a match.
+     *
+     * @param matchId the match identifier
+     * @return the lines of the log file
+     * @throws IOException if the file cannot be read
+     */
+    private List<String> readLog(final String matchId) throws IOException {
+        final Path path = Path.of(System.getProperty("user.dir"), LOG_DIR, "log_match_" + matchId + ".txt");
+        return Files.readAllLines(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Deletes the log directory and all its contents.
+     *
+     * @throws IOException if an I/O error occurs while deleting files
+     */
+    private void deleteLogDirectory() throws IOException {
+        final File logDir = new File(System.getProperty("user.dir") + File.separator + LOG_DIR);
+        if (logDir.exists()) {
+            try (var stream = Files.walk(logDir.toPath())) {
+                stream.sorted(Comparator.reverseOrder())
+                        .map(Path::toFile)
+                        .forEach(File::delete);
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package uno.model.utils.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the {@link BinaryGameLoggerImpl} and {@link BinaryLogDecoder} classes.
+ */
+class BinaryGameLoggerImplTest {
+
+    private static final int MANY_ENTRIES = 5000;
+    private static final int LARGE_TEXT = 100_000;
+    private static final int TIMESTAMP_LENGTH = 19;
+
+    private Path dir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dir = Files.createTempDirectory("uno-binary-logs");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (final Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    void testDecodesToTextFormat() throws IOException {
+        final BinaryGameLoggerImpl logger = new BinaryGameLoggerImpl(dir.resolve("match.bin"));
+        logger.logAction("SYSTEM", "GAME_START", "STANDARD", "Players: 2");
+        logger.logAction("Anna", "PLAY", "Optional", "FIVE");
+        logger.logAction("Anna", "CUSTOM_ACTION", "N/A", null);
+        logger.logAction("Bruno", "PLAY", "Optional", "FIVE");
+        logger.close();
+        logger.logAction("SYSTEM", "GAME_OVER", "N/A", "Winner: Bruno");
+
+        final List<String> lines = decode(logger.getFile());
+        assertEquals(List.of("SYSTEM;GAME_START;STANDARD;Players: 2", "Anna;PLAY;Optional;FIVE",
+                "Anna;CUSTOM_ACTION;N/A;null", "Bruno;PLAY;Optional;FIVE", "SYSTEM;GAME_OVER;N/A;Winner: Bruno"),
+                lines.stream().map(line -> line.substring(TIMESTAMP_LENGTH + 1)).toList());
+        for (final String line : lines) {
+            assertTrue(line.matches("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2};.*"), line);
+        }
+    }
+
+    @Test
+    void testWritesBeyondTheBuffer() throws IOException {
+        final BinaryGameLoggerImpl logger = new BinaryGameLoggerImpl(dir.resolve("match.bin"));
+        final char[] large = new char[LARGE_TEXT];
+        Arrays.fill(large, 'x');
+        for (int i = 0; i < MANY_ENTRIES; i++) {
+            logger.logAction("Anna", "DRAW", "DoubleSidedCard", "HandSize: " + i);
+        }
+        logger.logAction("Anna", "PASS_TURN", "N/A", new String(large));
+        logger.close();
+
+        final List<String> lines = decode(logger.getFile());
+        assertEquals(MANY_ENTRIES + 1, lines.size());
+        assertTrue(lines.get(MANY_ENTRIES - 1).endsWith(";Anna;DRAW;DoubleSidedCard;HandSize: " + (MANY_ENTRIES - 1)));
+        assertTrue(lines.get(MANY_ENTRIES).endsWith(";PASS_TURN;N/A;" + new String(large)));
+    }
+
+    @Test
+    void testFailedWriteKeepsTheFileReadable() throws IOException {
+        final BinaryGameLoggerImpl logger = new BinaryGameLoggerImpl(dir.resolve("match.bin"));
+        // Writing to a file channel from an interrupted thread fails and closes the channel.
+        Thread.currentThread().interrupt();
+        try {
+            for (int i = 0; i < MANY_ENTRIES; i++) {
+                logger.logAction("Anna", "DRAW", "DoubleSidedCard", "HandSize: " + i);
+            }
+        } finally {
+            Thread.interrupted();
+        }
+        for (int i = 0; i < MANY_ENTRIES; i++) {
+            logger.logAction("Bruno", "DRAW", "DoubleSidedCard", "Recovered: " + i);
+        }
+        logger.close();
+
+        final List<String> lines = decode(logger.getFile());
+        final int kept = lines.size() - MANY_ENTRIES;
+        assertTrue(kept > 0 && kept < MANY_ENTRIES, "Only the entries logged while failing are lost");
+        for (int i = 0; i < kept; i++) {
+            assertTrue(lines.get(i).endsWith(";Anna;DRAW;DoubleSidedCard;HandSize: " + i), lines.get(i));
+        }
+        for (int i = 0; i < MANY_ENTRIES; i++) {
+            assertTrue(lines.get(kept + i).endsWith(";Bruno;DRAW;DoubleSidedCard;Recovered: " + i));
+        }
+    }
+
+    @Test
+    void testTruncatedLogKeepsCompleteRecords() throws IOException {
+        final BinaryGameLoggerImpl logger = new BinaryGameLoggerImpl(dir.resolve("match.bin"));
+        logger.logAction("Anna", "PLAY", "Optional", "FIVE");
+        logger.logAction("Anna", "PLAY", "Optional", "SIX");
+        logger.close();
+
+        final byte[] bytes = Files.readAllBytes(logger.getFile());
+        final StringBuilder text = new StringBuilder();
+        BinaryLogDecoder.decode(new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 1)), text);
+        assertEquals(1, text.toString().lines().count());
+
+        final StringBuilder invalid = new StringBuilder();
+        assertThrows(IOException.class,
+                () -> BinaryLogDecoder.decode(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5, 6}), invalid));
+    }
+
+    /**
+     * Decodes a binary log to a text file and reads it back.
+     *
+     * @param file the binary log.
+     * @return the lines of the text log.
+     * @throws IOException if a file cannot be accessed.
+     */
+    private List<String> decode(final Path file) throws IOException {
+        final Path textFile = dir.resolve("match.txt");
+        BinaryLogDecoder.decode(file, textFile);
+        return Files.readAllLines(textFile, StandardCharsets.UTF_8);
+    }
+}
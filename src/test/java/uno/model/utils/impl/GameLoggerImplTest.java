@@ -3,6 +3,8 @@ package uno.model.utils.impl;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import uno.model.utils.api.LogRetentionPolicy;
+
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -10,6 +12,7 @@ import java.nio.file.Path;
 import java.util.Comparator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Unit tests for the GameLoggerImpl class, focusing on log rotation functionality.
@@ -19,6 +22,8 @@ class GameLoggerImplTest {
     private static final String LOG_DIR = "logs";
     private static final String LOG_FILE_PREFIX = "log_match_";
     private static final String LOG_FILE_SUFFIX = ".txt";
+    private static final String JOURNAL_FILE_PREFIX = "journal_match_";
+    private static final String JOURNAL_FILE_SUFFIX = ".bin";
     private static final int NEW_FILE = 5;
 
     @BeforeEach
@@ -63,6 +68,58 @@ class GameLoggerImplTest {
         assertEquals(NEW_FILE, remainingFiles.length, "Should keep only 5 log files");
     }
 
+    @Test
+    void testLogArchiving() throws IOException {
+        final File logDir = new File(System.getProperty("user.dir") + File.separator + LOG_DIR);
+        if (!logDir.exists() && !logDir.mkdirs()) {
+            throw new IOException("Failed to create directory: " + logDir.getAbsolutePath());
+        }
+
+        for (int i = 0; i <= NEW_FILE; i++) {
+            final File logFile = new File(logDir, LOG_FILE_PREFIX + "test_" + i + LOG_FILE_SUFFIX);
+            if (logFile.createNewFile() && !logFile.setLastModified(System.currentTimeMillis() - 1000L * (10 - i))) {
+                throw new IOException("Failed to set last modified for: " + logFile.getName());
+            }
+        }
+
+        final GameLoggerImpl logger = new GameLoggerImpl("current", LogRetentionPolicy.ARCHIVE);
+        logger.logAction("TestPlayer", "TEST", "None", "Testing archiving");
+
+        final File archiveDir = new File(logDir, GameLoggerImpl.ARCHIVE_DIRECTORY);
+        final File[] remainingFiles = logDir
+                .listFiles((dir, name) -> name.startsWith(LOG_FILE_PREFIX) && name.endsWith(LOG_FILE_SUFFIX));
+        assertEquals(NEW_FILE, remainingFiles.length, "Should keep only 5 log files");
+        assertTrue(new File(archiveDir, LOG_FILE_PREFIX + "test_0" + LOG_FILE_SUFFIX).exists());
+        assertTrue(new File(archiveDir, LOG_FILE_PREFIX + "test_1" + LOG_FILE_SUFFIX).exists());
+    }
+
+    @Test
+    void testOtherFilesArchiving() throws IOException {
+        final File logDir = new File(System.getProperty("user.dir") + File.separator + LOG_DIR);
+        if (!logDir.exists() && !logDir.mkdirs()) {
+            throw new IOException("Failed to create directory: " + logDir.getAbsolutePath());
+        }
+
+        for (int i = 0; i <= NEW_FILE; i++) {
+            final File journal = new File(logDir, JOURNAL_FILE_PREFIX + i + JOURNAL_FILE_SUFFIX);
+            if (journal.createNewFile() && !journal.setLastModified(System.currentTimeMillis() - 1000L * (10 - i))) {
+                throw new IOException("Failed to set last modified for: " + journal.getName());
+            }
+        }
+        final File log = new File(logDir, LOG_FILE_PREFIX + "test" + LOG_FILE_SUFFIX);
+        assertTrue(log.createNewFile());
+
+        GameLoggerImpl.cleanOldFiles(logDir, JOURNAL_FILE_PREFIX, JOURNAL_FILE_SUFFIX, LogRetentionPolicy.ARCHIVE);
+
+        final File archiveDir = new File(logDir, GameLoggerImpl.ARCHIVE_DIRECTORY);
+        final File[] remainingFiles = logDir
+                .listFiles((dir, name) -> name.startsWith(JOURNAL_FILE_PREFIX) && name.endsWith(JOURNAL_FILE_SUFFIX));
+        assertEquals(NEW_FILE - 1, remainingFiles.length, "Should leave room for a new journal");
+        assertTrue(new File(archiveDir, JOURNAL_FILE_PREFIX + 0 + JOURNAL_FILE_SUFFIX).exists());
+        assertTrue(new File(archiveDir, JOURNAL_FILE_PREFIX + 1 + JOURNAL_FILE_SUFFIX).exists());
+        assertTrue(log.exists(), "Other kinds of files must be left alone");
+    }
+
     /**
      * Deletes the log directory and all its contents.
      * 
@@ -0,0 +1,109 @@
+package uno.model.utils.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uno.model.utils.api.LogStatistics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the {@link MappedLogAnalyzer} class.
+ */
+class MappedLogAnalyzerTest {
+
+    private static final String FIRST_MATCH = String.join(System.lineSeparator(),
+            "2025-01-01 10:00:00;SYSTEM;GAME_START;STANDARD;Players: 2",
+            "2025-01-01 10:00:01;Anna;PLAY;Optional;FIVE",
+            "2025-01-01 10:00:02;Bruno;DRAW;DoubleSidedCard;SKIP",
+            "2025-01-01 10:00:03;Bruno;PLAY;Optional;FIVE",
+            "2025-01-01 10:00:04;Anna;CALL_UNO_FAILED;N/A;Initial HandSize: 3. Penalty: Draw 2.",
+            "2025-01-01 10:00:05;Anna;DRAW;DoubleSidedCard;ONE",
+            "2025-01-01 10:00:06;Anna;DRAW;DoubleSidedCard;TWO",
+            "2025-01-01 10:00:07;Anna;PLAY;Optional;SKIP",
+            "2025-01-01 10:00:08;SYSTEM;GAME_OVER;N/A;Winner: Anna (Standard) Points: 20 Total Score: 20",
+            "2025-01-01 10:00:09;SYSTEM;ROUND_START;N/A;Starting new round...",
+            "2025-01-01 10:00:10;Bruno;PLAY;Optional;WILD",
+            "2025-01-01 10:01:40;SYSTEM;GAME_OVER;N/A;Winner: Bruno (Standard) Points: 50 Total Score: 50",
+            "");
+    private static final String SECOND_MATCH = "2025-01-02 09:00:00;SYSTEM;GAME_START;FLIP;Players: 2\r\n"
+            + "2025-01-02 09:00:30;Bruno;UNO_PENALTY;N/A;UNO not called. Penalty: Draw 2.\r\n"
+            + "not a record\r\n"
+            + "2025-01-02 09:01:00;Bruno;DRAW;DoubleSidedCard;FIVE";
+    private static final int SMALL_CHUNK = 80;
+
+    private Path dir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dir = Files.createTempDirectory("uno-logs");
+        Files.writeString(dir.resolve("log_match_1.txt"), FIRST_MATCH, StandardCharsets.UTF_8);
+        Files.createDirectories(dir.resolve(GameLoggerImpl.ARCHIVE_DIRECTORY));
+        Files.writeString(dir.resolve(GameLoggerImpl.ARCHIVE_DIRECTORY).resolve("log_match_0.txt"), SECOND_MATCH,
+                StandardCharsets.UTF_8);
+        Files.writeString(dir.resolve("journal_match_1.bin"), "ignored", StandardCharsets.UTF_8);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (final Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    void testAggregatesArchivedMatches() throws IOException {
+        checkStatistics(new MappedLogAnalyzer().analyzeDirectory(dir));
+    }
+
+    @Test
+    void testChunksAreCutAtLineBoundaries() throws IOException {
+        checkStatistics(new MappedLogAnalyzer(SMALL_CHUNK).analyzeDirectory(dir));
+    }
+
+    @Test
+    void testCountsEveryCardOfABulkDraw() throws IOException {
+        final Path file = dir.resolve("log_match_2.txt");
+        Files.writeString(file, "2025-01-03 09:00:00;Anna;DRAW;DoubleSidedCard;ONE,SKIP,WILD,TWO\n"
+                + "2025-01-03 09:00:01;Anna;DRAW;DoubleSidedCard;FIVE\n", StandardCharsets.UTF_8);
+
+        assertEquals(Map.of("Anna", 5L), new MappedLogAnalyzer().analyzeFiles(List.of(file)).getDrawsPerPlayer());
+    }
+
+    @Test
+    void testRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new MappedLogAnalyzer(0));
+        assertThrows(IOException.class,
+                () -> new MappedLogAnalyzer().analyzeFiles(List.of(dir.resolve("missing.txt"))));
+    }
+
+    /**
+     * Checks the aggregates of the two sample matches.
+     *
+     * @param statistics the aggregates.
+     */
+    private static void checkStatistics(final LogStatistics statistics) {
+        assertEquals(2, statistics.getMatchCount());
+        assertEquals(15, statistics.getRecordCount());
+        assertEquals(Map.of("FIVE", 2L, "SKIP", 1L, "WILD", 1L), statistics.getPlaysPerCard());
+        assertEquals(Map.of("Anna", 2L, "Bruno", 2L), statistics.getDrawsPerPlayer());
+        assertEquals(2, statistics.getUnoPenalties());
+        assertEquals(2, statistics.getRoundCount());
+        assertEquals(2.0, statistics.getAverageRoundLength());
+        assertEquals(3, statistics.getLongestRound());
+        assertEquals(80.0, statistics.getAverageMatchSeconds());
+    }
+}